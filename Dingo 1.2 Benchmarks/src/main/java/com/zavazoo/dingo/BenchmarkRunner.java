@@ -0,0 +1,79 @@
+/*
+ * Zavazoo Dingo 1.2 - Java API for Data-Driven Testing 
+ * Copyright (C) 2013 Chris White <chriswhitelondon@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.zavazoo.dingo;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the Dingo benchmarks, accepting the standard JMH command line options, and publishes the results in JSON to a
+ * file named 'dingo-benchmarks.json' unless another result format or file is specified.<br/>
+ * <br/>
+ * For example <code>java -jar target/benchmarks.jar ParseLine -p columns=256</code> runs only the tokenizing
+ * benchmarks for wide rows, and <code>java -jar target/benchmarks.jar -h</code> lists every option.
+ * 
+ * @author Chris White <chriswhitelondon@gmail.com>
+ * @since JDK8
+ */
+public class BenchmarkRunner {
+
+	/** The file to which results are published unless another file is specified. */
+	public static final String RESULTS = "dingo-benchmarks.json";
+
+	/**
+	 * Runs the benchmarks selected by the specified command line arguments.
+	 * 
+	 * @param arguments
+	 *            the command line arguments.
+	 */
+	public static void main(String[] arguments) throws Exception {
+
+		CommandLineOptions command = new CommandLineOptions(arguments);
+
+		if (command.shouldHelp() || command.shouldList() || command.shouldListProfilers()
+				|| command.shouldListResultFormats() || command.shouldListWithParams()) {
+
+			org.openjdk.jmh.Main.main(arguments);
+
+			return;
+
+		}
+
+		ChainedOptionsBuilder builder = new OptionsBuilder().parent(command);
+
+		if (!command.getResultFormat().hasValue()) {
+
+			builder.resultFormat(ResultFormatType.JSON);
+
+		}
+
+		if (!command.getResult().hasValue()) {
+
+			builder.result(RESULTS);
+
+		}
+
+		new Runner(builder.build()).run();
+
+	}
+
+}
\ No newline at end of file
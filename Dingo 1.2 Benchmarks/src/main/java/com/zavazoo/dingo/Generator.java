@@ -0,0 +1,152 @@
+/*
+ * Zavazoo Dingo 1.2 - Java API for Data-Driven Testing 
+ * Copyright (C) 2013 Chris White <chriswhitelondon@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.zavazoo.dingo;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+/**
+ * Generates the test data used by the benchmarks, which is deterministic so that results remain comparable between
+ * runs and between releases.
+ * 
+ * @author Chris White <chriswhitelondon@gmail.com>
+ * @since JDK8
+ */
+class Generator {
+
+	/** The directory within which generated test data files are stored. */
+	private static final File DIRECTORY = new File(System.getProperty("java.io.tmpdir"), "dingo-benchmarks");
+
+	/**
+	 * Generates a line of test data of the specified data file type, comprising the specified number of columns that
+	 * alternate between text, integers, floating-point numbers and timestamps.
+	 * 
+	 * @param type
+	 *            the data file type.
+	 * @param columns
+	 *            the number of columns.
+	 * @param number
+	 *            the line number, which varies the content of the line.
+	 * @return the line.
+	 */
+	static String line(DataFileType type, int columns, int number) {
+
+		String delimiter = type.getDelimiter();
+
+		StringBuilder line = new StringBuilder();
+
+		for (int column = 0; column < columns; column++) {
+
+			if (column > 0) {
+
+				line.append(delimiter);
+				line.append(' ');
+
+			}
+
+			switch (column % 4) {
+
+			case 0:
+				line.append("text value ").append(number).append('-').append(column);
+				break;
+
+			case 1:
+				line.append(number * 31 + column);
+				break;
+
+			case 2:
+				line.append(number).append('.').append(column);
+				break;
+
+			default:
+				line.append("2013-10-30T12:00:00.000Z");
+				break;
+
+			}
+
+		}
+
+		return line.toString();
+
+	}
+
+	/**
+	 * Yields a CSV test data file of at least the specified size comprising rows of eight columns, generating the file
+	 * unless it has already been generated by an earlier run.
+	 * 
+	 * @param megabytes
+	 *            the minimum size of the file in mebibytes.
+	 * @return the file.
+	 */
+	static File file(int megabytes) throws IOException {
+
+		DIRECTORY.mkdirs();
+
+		File file = new File(DIRECTORY, "scenarios-" + megabytes + "m.csv");
+
+		long size = (long) megabytes << 20;
+
+		if (file.length() >= size) {
+
+			return file;
+
+		}
+
+		File temporary = File.createTempFile("scenarios-", ".csv", DIRECTORY);
+
+		try (Writer writer = new BufferedWriter(new OutputStreamWriter(Files.newOutputStream(temporary.toPath()),
+				StandardCharsets.UTF_8), 1 << 16)) {
+
+			long written = 0;
+
+			for (int number = 1; written < size; number++) {
+
+				String line = line(DataFileType.CSV, 8, number);
+
+				writer.write(line);
+				writer.write('\n');
+
+				written += line.length() + 1;
+
+			}
+
+		}
+
+		if (!temporary.renameTo(file)) {
+
+			file.delete();
+
+			if (!temporary.renameTo(file)) {
+
+				throw new IOException("Unable to generate " + file);
+
+			}
+
+		}
+
+		return file;
+
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,109 @@
+/*
+ * Zavazoo Dingo 1.2 - Java API for Data-Driven Testing 
+ * Copyright (C) 2013 Chris White <chriswhitelondon@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.zavazoo.dingo;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the tokenizing of a single line of test data into a scenario, from a string as read through a buffered
+ * reader and from encoded bytes as read from a memory-mapped test data file, for narrow and wide rows of every data
+ * file type.
+ * 
+ * @author Chris White <chriswhitelondon@gmail.com>
+ * @since JDK8
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParseLineBenchmark {
+
+	/** The data file type. */
+	@Param({ "TSV", "CSV", "BSV" })
+	public String type;
+
+	/** The number of columns of the row. */
+	@Param({ "8", "256" })
+	public int columns;
+
+	/** The data file that parses the line. */
+	private DataFile dataFile;
+
+	/** The line. */
+	private String line;
+
+	/** The UTF-8 encoded bytes of the line. */
+	private ByteBuffer bytes;
+
+	/**
+	 * Generates the line.
+	 */
+	@Setup
+	public void setUp() {
+
+		dataFile = new DataFile(null, null);
+		dataFile.setType(DataFileType.valueOf(type));
+
+		line = Generator.line(dataFile.getType(), columns, 1);
+
+		bytes = ByteBuffer.wrap(line.getBytes(StandardCharsets.UTF_8));
+
+	}
+
+	/**
+	 * Tokenizes the line from a string.
+	 * 
+	 * @return the scenario.
+	 */
+	@Benchmark
+	public Scenario parseLine() {
+
+		return dataFile.parseLine(line);
+
+	}
+
+	/**
+	 * Tokenizes the line from encoded bytes.
+	 * 
+	 * @return the scenario.
+	 */
+	@Benchmark
+	public Scenario parseBytes() {
+
+		return dataFile.parseBytes(bytes, 0, bytes.limit());
+
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,126 @@
+/*
+ * Zavazoo Dingo 1.2 - Java API for Data-Driven Testing 
+ * Copyright (C) 2013 Chris White <chriswhitelondon@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.zavazoo.dingo;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the hashing and comparison of scenarios of narrow and wide rows, whose values comprise either strings or
+ * encoded bytes. Each operation creates a new scenario over the same values, so that the hash is never served from the
+ * hash retained by an earlier operation.
+ * 
+ * @author Chris White <chriswhitelondon@gmail.com>
+ * @since JDK8
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScenarioHashBenchmark {
+
+	/** The number of columns of the row. */
+	@Param({ "8", "256" })
+	public int columns;
+
+	/** Asserts that the values comprise encoded bytes rather than strings. */
+	@Param({ "false", "true" })
+	public boolean encoded;
+
+	/** The scenario whose values are hashed. */
+	private Scenario scenario;
+
+	/** An equivalent scenario over different values. */
+	private Scenario equivalent;
+
+	/**
+	 * Generates the scenarios.
+	 */
+	@Setup
+	public void setUp() {
+
+		scenario = scenario();
+		equivalent = scenario();
+
+	}
+
+	/**
+	 * Hashes a scenario.
+	 * 
+	 * @return the hash code.
+	 */
+	@Benchmark
+	public int hashCodes() {
+
+		return new Scenario(scenario.result, scenario.criteria).hashCode();
+
+	}
+
+	/**
+	 * Compares equivalent scenarios value by value.
+	 * 
+	 * @return true.
+	 */
+	@Benchmark
+	public boolean compare() {
+
+		return new Scenario(scenario.result, scenario.criteria).equals(equivalent);
+
+	}
+
+	/**
+	 * Creates a scenario of the generated row.
+	 * 
+	 * @return the scenario.
+	 */
+	private Scenario scenario() {
+
+		DataFile dataFile = new DataFile(null, null);
+		dataFile.setType(DataFileType.CSV);
+
+		String line = Generator.line(DataFileType.CSV, columns, 1);
+
+		if (!encoded) {
+
+			return dataFile.parseLine(line);
+
+		}
+
+		byte[] bytes = line.getBytes(StandardCharsets.UTF_8);
+
+		return dataFile.parseBytes(ByteBuffer.wrap(bytes), 0, bytes.length);
+
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,135 @@
+/*
+ * Zavazoo Dingo 1.2 - Java API for Data-Driven Testing 
+ * Copyright (C) 2013 Chris White <chriswhitelondon@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.zavazoo.dingo;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the end-to-end iteration over every scenario of generated test data files from one mebibyte to one
+ * gibibyte, reading each file through a buffered reader, memory-mapped, or from its compiled binary form.<br/>
+ * <br/>
+ * Each test data file is generated once and retained within the temporary directory, so that only the first run pays
+ * for generating the largest files.
+ * 
+ * @author Chris White <chriswhitelondon@gmail.com>
+ * @since JDK8
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ScenariosBenchmark {
+
+	/** The size of the test data file in mebibytes. */
+	@Param({ "1", "32", "1024" })
+	public int megabytes;
+
+	/** The means by which the test data file is read, which is 'buffered', 'mapped' or 'compiled'. */
+	@Param({ "buffered", "mapped", "compiled" })
+	public String mode;
+
+	/** The URL of the test data file. */
+	private URL url;
+
+	/** The options that determine how the test data file is read. */
+	private Options options;
+
+	/**
+	 * Generates the test data file unless it has already been generated, and compiles it when read in compiled form.
+	 */
+	@Setup
+	public void setUp() throws IOException {
+
+		File file = Generator.file(megabytes);
+
+		url = file.toURI().toURL();
+
+		File cache = Files.createTempDirectory("dingo-benchmarks-").toFile();
+		cache.deleteOnExit();
+
+		options = new Options().mapped("mapped".equals(mode)).compiled("compiled".equals(mode)).cache(cache);
+
+		open().finalize();
+
+	}
+
+	/**
+	 * Iterates over every scenario of the test data file, reading the result and first criterion of each scenario.
+	 * 
+	 * @param blackhole
+	 *            the blackhole that consumes each value read.
+	 * @return the number of scenarios.
+	 */
+	@Benchmark
+	public int iterate(Blackhole blackhole) {
+
+		DataFile dataFile = open();
+
+		int count = 0;
+
+		for (Scenario scenario : new Scenarios(dataFile)) {
+
+			blackhole.consume(scenario.result.string());
+			blackhole.consume(scenario.criteria[0].integer());
+
+			count++;
+
+		}
+
+		dataFile.finalize();
+
+		return count;
+
+	}
+
+	/**
+	 * Opens the test data file with test reporting switched off.
+	 * 
+	 * @return the data file.
+	 */
+	private DataFile open() {
+
+		DataFile dataFile = new DataFile("benchmark", null, options);
+		dataFile.setType(DataFileType.CSV);
+		dataFile.openFile(url, options.isMapped());
+
+		return dataFile;
+
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,256 @@
+/*
+ * Zavazoo Dingo 1.2 - Java API for Data-Driven Testing 
+ * Copyright (C) 2013 Chris White <chriswhitelondon@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.zavazoo.dingo;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.joda.time.DateTime;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures every conversion of a value, including JSON binding, from a freshly created value so that no conversion is
+ * served from the conversion retained by an earlier read.
+ * 
+ * @author Chris White <chriswhitelondon@gmail.com>
+ * @since JDK8
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValueBenchmark {
+
+	/** The UTF-8 encoded bytes of a text value surrounded by delimiters. */
+	private static final byte[] TEXT = "|some t\u00e9xt value|".getBytes(StandardCharsets.UTF_8);
+
+	/** A JSON list of points. */
+	private static final String POINTS = "[{\"x\": 1, \"y\": 2}, {\"x\": 3, \"y\": 4}, {\"x\": 5, \"y\": 6}]";
+
+	/** A JSON map of points. */
+	private static final String NAMED_POINTS = "{\"first\": {\"x\": 1, \"y\": 2}, \"second\": {\"x\": 3, \"y\": 4}}";
+
+	/**
+	 * Reads a string value from encoded bytes, which are decoded.
+	 * 
+	 * @return the string.
+	 */
+	@Benchmark
+	public String string() {
+
+		return new Value(ByteBuffer.wrap(TEXT), 1, TEXT.length - 2).string();
+
+	}
+
+	/**
+	 * Reads a character value.
+	 * 
+	 * @return the character.
+	 */
+	@Benchmark
+	public char character() {
+
+		return new Value("x").character();
+
+	}
+
+	/**
+	 * Reads a boolean value.
+	 * 
+	 * @return the boolean.
+	 */
+	@Benchmark
+	public boolean truth() {
+
+		return new Value("true").truth();
+
+	}
+
+	/**
+	 * Reads an integer value.
+	 * 
+	 * @return the integer.
+	 */
+	@Benchmark
+	public int integer() {
+
+		return new Value("1234567").integer();
+
+	}
+
+	/**
+	 * Reads a short integer value.
+	 * 
+	 * @return the short integer.
+	 */
+	@Benchmark
+	public short shortint() {
+
+		return new Value("12345").shortint();
+
+	}
+
+	/**
+	 * Reads a long integer value.
+	 * 
+	 * @return the long integer.
+	 */
+	@Benchmark
+	public long longint() {
+
+		return new Value("1234567890123").longint();
+
+	}
+
+	/**
+	 * Reads a short floating-point value.
+	 * 
+	 * @return the short floating-point number.
+	 */
+	@Benchmark
+	public float floating() {
+
+		return new Value("1234.5678").floating();
+
+	}
+
+	/**
+	 * Reads a long floating-point value.
+	 * 
+	 * @return the long floating-point number.
+	 */
+	@Benchmark
+	public double doubleint() {
+
+		return new Value("1234.56789012").doubleint();
+
+	}
+
+	/**
+	 * Reads a big decimal value.
+	 * 
+	 * @return the big decimal.
+	 */
+	@Benchmark
+	public BigDecimal precise() {
+
+		return new Value("1234.56789012345678901234567890").precise();
+
+	}
+
+	/**
+	 * Reads a Joda date/time value.
+	 * 
+	 * @return the date/time.
+	 */
+	@Benchmark
+	public DateTime datetime() {
+
+		return new Value("2004-12-13T21:39:45.618-08:00").datetime();
+
+	}
+
+	/**
+	 * Reads a list value using raw JSON binding.
+	 * 
+	 * @return the list.
+	 */
+	@Benchmark
+	public List<Object> list() {
+
+		return new Value(POINTS).list();
+
+	}
+
+	/**
+	 * Reads a list value using generic JSON binding.
+	 * 
+	 * @return the list.
+	 */
+	@Benchmark
+	public List<Point> typedList() {
+
+		return new Value(POINTS).list(Point.class);
+
+	}
+
+	/**
+	 * Reads a map value using raw JSON binding.
+	 * 
+	 * @return the map.
+	 */
+	@Benchmark
+	public Map<String, Object> map() {
+
+		return new Value(NAMED_POINTS).map();
+
+	}
+
+	/**
+	 * Reads a map value using generic JSON binding.
+	 * 
+	 * @return the map.
+	 */
+	@Benchmark
+	public Map<String, Point> typedMap() {
+
+		return new Value(NAMED_POINTS).map(String.class, Point.class);
+
+	}
+
+	/**
+	 * Reads an object value using JSON binding.
+	 * 
+	 * @return the object.
+	 */
+	@Benchmark
+	public Point object() {
+
+		return new Value("{\"x\": 1, \"y\": 2}").object(Point.class);
+
+	}
+
+	/**
+	 * Constitutes a point bound from JSON.
+	 */
+	public static class Point {
+
+		/** The horizontal coordinate. */
+		public int x;
+
+		/** The vertical coordinate. */
+		public int y;
+
+	}
+
+}
\ No newline at end of file
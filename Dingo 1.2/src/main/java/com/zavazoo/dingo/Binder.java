@@ -0,0 +1,518 @@
+/*
+ * Zavazoo Dingo 1.2 - Java API for Data-Driven Testing 
+ * Copyright (C) 2013 Chris White <chriswhitelondon@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.zavazoo.dingo;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.joda.time.DateTime;
+
+/**
+ * Binds scenarios to instances of a given class, by passing the result and criteria of each scenario in turn to the
+ * parameters of a constructor or by assigning them to the fields of the class.<br/>
+ * <br/>
+ * The constructor with the most parameters is chosen, which is the canonical constructor of a record. If the class
+ * has only a constructor without parameters, the instance fields declared by the class are assigned instead, other
+ * than static, transient and synthetic fields. Each field is assigned the value of the column of the same name when
+ * the test data file is read with a header line, and otherwise the value of the column at the position of the field
+ * in the order in which its fields are reported by reflection. That order is usually the order of declaration, but
+ * it is not specified by the Java language, so fields should be bound by name wherever the order matters.<br/>
+ * <br/>
+ * Each value is converted to the type of its parameter or field by the conversion of the same type provided by
+ * <code>Value</code>, where a value of any type that is not provided by <code>Value</code> is bound from JSON. The
+ * binder of each class is created once, combining a method handle for the constructor or each field with a method
+ * handle for the conversion of each column, so that binding a scenario costs no more than the conversions and a
+ * single invocation, and values of primitive types are never boxed.
+ * 
+ * @author Chris White <chriswhitelondon@gmail.com>
+ * @since JDK8
+ */
+final class Binder<BoundType> {
+
+	/** The binder of each class, created when a scenario is first bound to the class. */
+	private static final ClassValue<Binder<?>> binders = new ClassValue<Binder<?>>() {
+
+		@Override
+		protected Binder<?> computeValue(Class<?> type) {
+
+			return new Binder<>(type);
+
+		}
+
+	};
+
+	/** The class to which scenarios are bound. */
+	private Class<BoundType> type;
+
+	/**
+	 * The constructor, either taking the values of the columns as an array and yielding the instance, or taking no
+	 * arguments if the values are assigned to fields.
+	 */
+	private MethodHandle constructor;
+
+	/** The setter of each field, taking the instance and the value, or null if values are passed to the constructor. */
+	private MethodHandle[] setters;
+
+	/** The name of each field, or null if the values are passed to the constructor. */
+	private String[] names;
+
+	/** The number of columns bound, starting with the result. */
+	private int width;
+
+	/**
+	 * Creates the binder of the specified class.
+	 * 
+	 * @param type
+	 *            the class.
+	 */
+	private Binder(Class<BoundType> type) {
+
+		this.type = type;
+
+		MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+		Constructor<?> chosen = choose(type);
+
+		try {
+
+			chosen.setAccessible(true);
+
+			if (chosen.getParameterCount() > 0) {
+
+				Type[] parameters = chosen.getGenericParameterTypes();
+				Class<?>[] classes = chosen.getParameterTypes();
+
+				width = classes.length;
+
+				MethodHandle[] conversions = new MethodHandle[width];
+
+				for (int index = 0; index < width; index++) {
+
+					conversions[index] = conversion(classes[index], parameters[index]);
+
+				}
+
+				constructor = MethodHandles.filterArguments(lookup.unreflectConstructor(chosen), 0, conversions)
+						.asSpreader(Value[].class, width).asType(MethodType.methodType(Object.class, Value[].class));
+
+				setters = null;
+				names = null;
+
+			} else {
+
+				List<Field> fields = new ArrayList<Field>();
+
+				for (Field field : type.getDeclaredFields()) {
+
+					int modifiers = field.getModifiers();
+
+					if (!Modifier.isStatic(modifiers) && !Modifier.isTransient(modifiers) && !field.isSynthetic()) {
+
+						fields.add(field);
+
+					}
+
+				}
+
+				width = fields.size();
+
+				setters = new MethodHandle[width];
+				names = new String[width];
+
+				for (int index = 0; index < width; index++) {
+
+					Field field = fields.get(index);
+
+					field.setAccessible(true);
+
+					MethodHandle setter = lookup.unreflectSetter(field).asType(
+							MethodType.methodType(void.class, Object.class, field.getType()));
+
+					setters[index] = MethodHandles.filterArguments(setter, 1,
+							conversion(field.getType(), field.getGenericType()));
+
+					names[index] = field.getName();
+
+				}
+
+				constructor = lookup.unreflectConstructor(chosen).asType(MethodType.methodType(Object.class));
+
+			}
+
+		} catch (ReflectiveOperationException | RuntimeException error) {
+
+			throw new DingoException("Unable to bind scenarios to the class '" + type.getName() + "'", error);
+
+		}
+
+		if (width == 0) {
+
+			throw new DingoException("Unable to bind scenarios to the class '" + type.getName()
+					+ "', which has neither a constructor with parameters nor any instance fields");
+
+		}
+
+	}
+
+	/**
+	 * Yields the binder of the specified class, which is created when a scenario is first bound to the class.
+	 * 
+	 * @param type
+	 *            the class.
+	 * @return the binder.
+	 */
+	@SuppressWarnings("unchecked")
+	static <BoundType> Binder<BoundType> of(Class<BoundType> type) {
+
+		return (Binder<BoundType>) binders.get(type);
+
+	}
+
+	/**
+	 * Binds the specified scenario to a new instance of the class, converting the result and each criterion in turn
+	 * to the type of its parameter or field, where any columns beyond the parameters or fields are disregarded.
+	 * Fields are assigned the values of the columns of the same names if the scenario was read with a header line.
+	 * 
+	 * @param scenario
+	 *            the scenario.
+	 * @return the instance.
+	 */
+	BoundType bind(Scenario scenario) {
+
+		boolean named = setters != null && scenario.isIndexed();
+
+		int columns = scenario.criteria.length + 1;
+
+		if (!named && columns < width) {
+
+			throw new DingoException("Unable to bind the scenario at line " + scenario.number + " to the class '"
+					+ type.getName() + "', which requires " + width + " columns rather than " + columns);
+
+		}
+
+		try {
+
+			if (setters == null) {
+
+				Value[] values = new Value[width];
+
+				values[0] = scenario.result;
+
+				System.arraycopy(scenario.criteria, 0, values, 1, width - 1);
+
+				return type.cast((Object) constructor.invokeExact(values));
+
+			}
+
+			Object instance = (Object) constructor.invokeExact();
+
+			for (int index = 0; index < width; index++) {
+
+				Value value;
+
+				if (named) {
+
+					value = scenario.get(names[index]);
+
+				} else {
+
+					value = index == 0 ? scenario.result : scenario.criteria[index - 1];
+
+				}
+
+				setters[index].invokeExact(instance, value);
+
+			}
+
+			return type.cast(instance);
+
+		} catch (RuntimeException | Error error) {
+
+			throw error;
+
+		} catch (Throwable error) {
+
+			throw new DingoException(error);
+
+		}
+
+	}
+
+	/**
+	 * Chooses the constructor of the specified class with the most parameters.
+	 * 
+	 * @param type
+	 *            the class.
+	 * @return the constructor.
+	 */
+	private static Constructor<?> choose(Class<?> type) {
+
+		if (type.isInterface() || Modifier.isAbstract(type.getModifiers()) || type.isPrimitive() || type.isArray()) {
+
+			throw new DingoException("Unable to bind scenarios to the class '" + type.getName()
+					+ "', which cannot be instantiated");
+
+		}
+
+		Constructor<?> chosen = null;
+		boolean ambiguous = false;
+
+		for (Constructor<?> candidate : type.getDeclaredConstructors()) {
+
+			if (candidate.isSynthetic()) {
+
+				continue;
+
+			}
+
+			if (chosen == null || candidate.getParameterCount() > chosen.getParameterCount()) {
+
+				chosen = candidate;
+				ambiguous = false;
+
+			} else if (candidate.getParameterCount() == chosen.getParameterCount()) {
+
+				ambiguous = true;
+
+			}
+
+		}
+
+		if (chosen == null || ambiguous) {
+
+			throw new DingoException("Unable to choose a constructor of the class '" + type.getName()
+					+ "' to which scenarios are bound");
+
+		}
+
+		return chosen;
+
+	}
+
+	/**
+	 * Yields a method handle converting values to the specified type, which takes a value and yields the specified
+	 * type itself, so that values of primitive types are converted by the primitive accessors of <code>Value</code>
+	 * without being boxed.
+	 * 
+	 * @param type
+	 *            the type.
+	 * @param generic
+	 *            the generic form of the type, which specifies the types of the entries of lists and maps.
+	 * @return the method handle.
+	 * @throws ReflectiveOperationException
+	 *             if the accessor of the type cannot be looked up.
+	 */
+	private static MethodHandle conversion(Class<?> type, Type generic) throws ReflectiveOperationException {
+
+		String accessor;
+
+		if (type == Value.class) {
+
+			return MethodHandles.identity(Value.class);
+
+		} else if (type == String.class) {
+
+			accessor = "string";
+
+		} else if (type == int.class) {
+
+			accessor = "integer";
+
+		} else if (type == long.class) {
+
+			accessor = "longint";
+
+		} else if (type == double.class) {
+
+			accessor = "doubleint";
+
+		} else if (type == boolean.class) {
+
+			accessor = "truth";
+
+		} else if (type == short.class) {
+
+			accessor = "shortint";
+
+		} else if (type == float.class) {
+
+			accessor = "floating";
+
+		} else if (type == char.class) {
+
+			accessor = "character";
+
+		} else if (type.isPrimitive()) {
+
+			throw new DingoException("Unable to bind values to the primitive type '" + type.getName() + "'");
+
+		} else {
+
+			MethodHandle apply = MethodHandles.lookup().findVirtual(Function.class, "apply",
+					MethodType.methodType(Object.class, Object.class));
+
+			return apply.bindTo(nullable(function(type, generic))).asType(MethodType.methodType(type, Value.class));
+
+		}
+
+		return MethodHandles.lookup().findVirtual(Value.class, accessor, MethodType.methodType(type));
+
+	}
+
+	/**
+	 * Chooses the conversion of values to the specified type, which is neither a primitive type nor a string nor a
+	 * value.
+	 * 
+	 * @param type
+	 *            the type.
+	 * @param generic
+	 *            the generic form of the type, which specifies the types of the entries of lists and maps.
+	 * @return the conversion, which need not convert null values.
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static Function<Value, Object> function(Class<?> type, Type generic) {
+
+		if (type == Integer.class) {
+
+			return Value::integer;
+
+		} else if (type == Long.class) {
+
+			return Value::longint;
+
+		} else if (type == Double.class) {
+
+			return Value::doubleint;
+
+		} else if (type == Boolean.class) {
+
+			return Value::truth;
+
+		} else if (type == Short.class) {
+
+			return Value::shortint;
+
+		} else if (type == Float.class) {
+
+			return Value::floating;
+
+		} else if (type == Character.class) {
+
+			return Value::character;
+
+		} else if (type == BigDecimal.class) {
+
+			return Value::precise;
+
+		} else if (type == DateTime.class) {
+
+			return Value::datetime;
+
+		} else if (type == Instant.class) {
+
+			return Value::instant;
+
+		} else if (type == OffsetDateTime.class) {
+
+			return Value::offsetDateTime;
+
+		} else if (type == LocalDate.class) {
+
+			return Value::localDate;
+
+		} else if (type.isEnum()) {
+
+			return value -> Enum.valueOf((Class) type, value.string());
+
+		} else if (type == List.class) {
+
+			Type[] arguments = arguments(generic);
+
+			if (arguments != null && arguments[0] instanceof Class) {
+
+				Class<?> entryType = (Class<?>) arguments[0];
+
+				return value -> value.list(entryType);
+
+			}
+
+			return Value::list;
+
+		} else if (type == Map.class) {
+
+			Type[] arguments = arguments(generic);
+
+			if (arguments != null && arguments[0] instanceof Class && arguments[1] instanceof Class) {
+
+				Class<?> keyType = (Class<?>) arguments[0];
+				Class<?> valueType = (Class<?>) arguments[1];
+
+				return value -> value.map(keyType, valueType);
+
+			}
+
+			return Value::map;
+
+		}
+
+		return value -> value.object(type);
+
+	}
+
+	/**
+	 * Yields the type arguments of the specified generic type.
+	 * 
+	 * @param generic
+	 *            the generic type.
+	 * @return the type arguments, or null if the type is not parameterized.
+	 */
+	private static Type[] arguments(Type generic) {
+
+		return generic instanceof ParameterizedType ? ((ParameterizedType) generic).getActualTypeArguments() : null;
+
+	}
+
+	/**
+	 * Wraps the specified conversion so that a null value is converted to null.
+	 * 
+	 * @param conversion
+	 *            the conversion.
+	 * @return the wrapped conversion.
+	 */
+	private static Function<Value, Object> nullable(Function<Value, Object> conversion) {
+
+		return value -> value.isNull() ? null : conversion.apply(value);
+
+	}
+
+}
\ No newline at end of file
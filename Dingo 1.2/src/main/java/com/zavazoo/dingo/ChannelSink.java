@@ -0,0 +1,117 @@
+/*
+ * Zavazoo Dingo 1.2 - Java API for Data-Driven Testing 
+ * Copyright (C) 2013 Chris White <chriswhitelondon@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.zavazoo.dingo;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Appends test report information, encoded as UTF-8, to a file through a file channel.<br/>
+ * <br/>
+ * Records are accumulated in memory and written to the file channel in batches, whenever the accumulated records
+ * exceed the batch size and whenever this sink is flushed.
+ * 
+ * @author Chris White <chriswhitelondon@gmail.com>
+ * @since JDK8
+ */
+class ChannelSink implements ReportSink {
+
+	/** The number of characters accumulated before they are written to the file channel. */
+	private static final int BATCH = 1 << 16;
+
+	/** The line separator that terminates each record. */
+	private static final String NEWLINE = System.getProperty("line.separator");
+
+	/** The file channel. */
+	private FileChannel channel;
+
+	/** The records accumulated since they were last written to the file channel. */
+	private StringBuilder records;
+
+	/**
+	 * Creates a sink that appends test report information to the specified file.
+	 * 
+	 * @param file
+	 *            the file, which is created if it does not already exist.
+	 */
+	ChannelSink(File file) {
+
+		try {
+
+			channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+					StandardOpenOption.APPEND);
+
+		} catch (IOException error) {
+
+			throw new DingoException(error);
+
+		}
+
+		records = new StringBuilder(BATCH);
+
+	}
+
+	@Override
+	public synchronized void write(String record) {
+
+		records.append(record);
+		records.append(NEWLINE);
+
+		if (records.length() >= BATCH) {
+
+			flush();
+
+		}
+
+	}
+
+	@Override
+	public synchronized void flush() {
+
+		if (records.length() == 0) {
+
+			return;
+
+		}
+
+		ByteBuffer encoded = StandardCharsets.UTF_8.encode(records.toString());
+
+		records.setLength(0);
+
+		try {
+
+			while (encoded.hasRemaining()) {
+
+				channel.write(encoded);
+
+			}
+
+		} catch (IOException error) {
+
+			throw new DingoException(error);
+
+		}
+
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,201 @@
+/*
+ * Zavazoo Dingo 1.2 - Java API for Data-Driven Testing 
+ * Copyright (C) 2013 Chris White <chriswhitelondon@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.zavazoo.dingo;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Traverses the scenarios comprised by a range of chunks of a memory-mapped test data file, splitting the range in
+ * half so that a parallel stream may read and parse each chunk independently.<br/>
+ * <br/>
+ * The number of lines comprised by each chunk is known in advance, so this spliterator and every spliterator split
+ * from it reports an exact size.
+ * 
+ * @author Chris White <chriswhitelondon@gmail.com>
+ * @since JDK8
+ */
+class ChunkSpliterator implements Spliterator<Scenario> {
+
+	/** The data file that parses and reports each scenario. */
+	private DataFile dataFile;
+
+	/** The mapped file from which the chunks are read. */
+	private MappedFile mappedFile;
+
+	/** The index that locates each chunk and the line number at which each chunk starts. */
+	private LineIndex index;
+
+	/** The chunk currently being read, or the next chunk to be read. */
+	private int from;
+
+	/** The chunk following the last chunk of the range. */
+	private int to;
+
+	/** The reader of the chunk currently being read, or null if no chunk is currently being read. */
+	private MappedReader reader;
+
+	/** The line number of the most recently read line. */
+	private int number;
+
+	/**
+	 * Creates a spliterator over the scenarios comprised by the specified range of chunks.
+	 * 
+	 * @param dataFile
+	 *            the data file that parses and reports each scenario.
+	 * @param mappedFile
+	 *            the mapped file from which the chunks are read.
+	 * @param index
+	 *            the index of the chunks.
+	 * @param from
+	 *            the first chunk of the range.
+	 * @param to
+	 *            the chunk following the last chunk of the range.
+	 */
+	ChunkSpliterator(DataFile dataFile, MappedFile mappedFile, LineIndex index, int from, int to) {
+
+		this.dataFile = dataFile;
+		this.mappedFile = mappedFile;
+		this.index = index;
+		this.from = from;
+		this.to = to;
+
+		number = index.number(from);
+
+	}
+
+	/**
+	 * Reads and parses the next scenario, if any, and performs the specified action upon that scenario.
+	 * 
+	 * @param action
+	 *            the action.
+	 * @return true if there was a next scenario, false otherwise.
+	 */
+	@Override
+	public boolean tryAdvance(Consumer<? super Scenario> action) {
+
+		while (true) {
+
+			if (reader == null) {
+
+				if (from >= to) {
+
+					return false;
+
+				}
+
+				reader = new MappedReader(mappedFile, index.offset(from), index.offset(from + 1));
+
+			}
+
+			if (reader.nextLine()) {
+
+				number++;
+
+				Scenario scenario = dataFile.mappedScenario(reader, number);
+
+				if (scenario == null) {
+
+					continue;
+
+				}
+
+				try {
+
+					action.accept(scenario);
+
+				} catch (RuntimeException | Error error) {
+
+					dataFile.failed(reader, number);
+
+					throw error;
+
+				}
+
+				return true;
+
+			}
+
+			reader = null;
+
+			from++;
+
+		}
+
+	}
+
+	/**
+	 * Splits off the first half of the range of chunks, unless reading has started or the range comprises a single
+	 * chunk.
+	 * 
+	 * @return the spliterator over the first half of the range, or null if the range cannot be split.
+	 */
+	@Override
+	public Spliterator<Scenario> trySplit() {
+
+		if (reader != null || to - from < 2) {
+
+			return null;
+
+		}
+
+		int middle = (from + to) >>> 1;
+
+		Spliterator<Scenario> prefix = new ChunkSpliterator(dataFile, mappedFile, index, from, middle);
+
+		from = middle;
+		number = index.number(middle);
+
+		return prefix;
+
+	}
+
+	/**
+	 * Yields the exact number of scenarios that remain to be traversed, or an upper bound when scenarios may be skipped
+	 * as they are read.
+	 * 
+	 * @return the number of scenarios.
+	 */
+	@Override
+	public long estimateSize() {
+
+		return index.number(to) - number;
+
+	}
+
+	/**
+	 * Yields the characteristics of this spliterator, which is ordered, sized and yields sized spliterators unless
+	 * scenarios may be skipped as they are read, because they are duplicates or are assigned to another shard.
+	 * 
+	 * @return the characteristics.
+	 */
+	@Override
+	public int characteristics() {
+
+		if (dataFile.skips()) {
+
+			return ORDERED | NONNULL;
+
+		}
+
+		return ORDERED | NONNULL | SIZED | SUBSIZED;
+
+	}
+
+}
\ No newline at end of file
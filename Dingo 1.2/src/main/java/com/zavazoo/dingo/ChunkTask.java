@@ -0,0 +1,136 @@
+/*
+ * Zavazoo Dingo 1.2 - Java API for Data-Driven Testing 
+ * Copyright (C) 2013 Chris White <chriswhitelondon@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.zavazoo.dingo;
+
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Runs a scenario task for each of the scenarios comprised by a range of chunks of a memory-mapped test data file,
+ * splitting the range in half between fork-join workers until each worker reads and parses a single chunk.
+ * 
+ * @author Chris White <chriswhitelondon@gmail.com>
+ * @since JDK8
+ */
+class ChunkTask extends RecursiveAction {
+
+	/** The serialization version unique identifier. */
+	private static final long serialVersionUID = 1L;
+
+	/** The data file that parses and reports each scenario. */
+	private DataFile dataFile;
+
+	/** The mapped file from which the chunks are read. */
+	private MappedFile mappedFile;
+
+	/** The index that locates each chunk and the line number at which each chunk starts. */
+	private LineIndex index;
+
+	/** The first chunk of the range. */
+	private int from;
+
+	/** The chunk following the last chunk of the range. */
+	private int to;
+
+	/** The task run for each scenario. */
+	private ScenarioTask task;
+
+	/**
+	 * Creates a fork-join task that runs the specified scenario task for each scenario in the specified range of
+	 * chunks.
+	 * 
+	 * @param dataFile
+	 *            the data file that parses and reports each scenario.
+	 * @param mappedFile
+	 *            the mapped file from which the chunks are read.
+	 * @param index
+	 *            the index of the chunks.
+	 * @param from
+	 *            the first chunk of the range.
+	 * @param to
+	 *            the chunk following the last chunk of the range.
+	 * @param task
+	 *            the scenario task.
+	 */
+	ChunkTask(DataFile dataFile, MappedFile mappedFile, LineIndex index, int from, int to, ScenarioTask task) {
+
+		this.dataFile = dataFile;
+		this.mappedFile = mappedFile;
+		this.index = index;
+		this.from = from;
+		this.to = to;
+		this.task = task;
+
+	}
+
+	/**
+	 * Splits the range of chunks in half, or runs the scenario task for each scenario of a single chunk.
+	 */
+	@Override
+	protected void compute() {
+
+		if (to - from > 1) {
+
+			int middle = (from + to) >>> 1;
+
+			invokeAll(new ChunkTask(dataFile, mappedFile, index, from, middle, task), new ChunkTask(dataFile,
+					mappedFile, index, middle, to, task));
+
+			return;
+
+		}
+
+		MappedReader reader = new MappedReader(mappedFile, index.offset(from), index.offset(to));
+
+		int number = index.number(from);
+
+		while (reader.nextLine()) {
+
+			number++;
+
+			Scenario scenario = dataFile.mappedScenario(reader, number);
+
+			if (scenario == null) {
+
+				continue;
+
+			}
+
+			try {
+
+				dataFile.execute(task, scenario);
+
+			} catch (RuntimeException | Error error) {
+
+				dataFile.failed(reader, number);
+
+				throw error;
+
+			} catch (Exception error) {
+
+				dataFile.failed(reader, number);
+
+				throw new DingoException(error);
+
+			}
+
+		}
+
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,196 @@
+/*
+ * Zavazoo Dingo 1.2 - Java API for Data-Driven Testing 
+ * Copyright (C) 2013 Chris White <chriswhitelondon@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.zavazoo.dingo;
+
+/**
+ * Enumerates all column types of a scenario table, in ascending order of generality, so that the type of a column may
+ * be inferred as the least general type that can represent every value of that column.
+ * 
+ * @author Chris White <chriswhitelondon@gmail.com>
+ * @since JDK8
+ */
+public enum ColumnType {
+
+	/** A column of integers, stored as an <code>int[]</code>. */
+	INTEGER,
+
+	/** A column of long integers, stored as a <code>long[]</code>. */
+	LONG,
+
+	/** A column of long floating-point numbers, stored as a <code>double[]</code>. */
+	DOUBLE,
+
+	/** A column of strings, stored as a dictionary of distinct strings and an <code>int[]</code> of dictionary codes. */
+	STRING;
+
+	/**
+	 * Infers the least general column type that can represent the specified string.<br/>
+	 * <br/>
+	 * The string is classified by a single scan of its characters rather than by attempting to parse it, so that no
+	 * exception is thrown for any value of a string column. A long integer is an optionally signed sequence of decimal
+	 * digits within the range of a long integer, and a long floating-point number is an optionally signed decimal
+	 * number with an optional exponent and type suffix, or else 'NaN' or 'Infinity'.
+	 * 
+	 * @param string
+	 *            the string, or null.
+	 * @return the column type.
+	 */
+	static ColumnType infer(String string) {
+
+		if (string == null) {
+
+			return STRING;
+
+		}
+
+		int length = string.length();
+		int position = 0;
+
+		boolean negative = false;
+
+		if (position < length && (string.charAt(position) == '-' || string.charAt(position) == '+')) {
+
+			negative = string.charAt(position) == '-';
+
+			position++;
+
+		}
+
+		if (length - position == 3 && string.startsWith("NaN", position) || length - position == 8
+				&& string.startsWith("Infinity", position)) {
+
+			return DOUBLE;
+
+		}
+
+		long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+		long longint = 0;
+
+		boolean overflow = false;
+
+		int digits = position;
+
+		while (position < length && isDigit(string.charAt(position))) {
+
+			int digit = string.charAt(position++) - '0';
+
+			if (longint < limit / 10 || longint * 10 < limit + digit) {
+
+				overflow = true;
+
+			} else {
+
+				longint = longint * 10 - digit;
+
+			}
+
+		}
+
+		digits = position - digits;
+
+		if (position == length) {
+
+			if (digits == 0) {
+
+				return STRING;
+
+			}
+
+			if (overflow) {
+
+				return DOUBLE;
+
+			}
+
+			return longint >= (negative ? Integer.MIN_VALUE : -Integer.MAX_VALUE) ? INTEGER : LONG;
+
+		}
+
+		if (string.charAt(position) == '.') {
+
+			position++;
+
+			int fraction = position;
+
+			while (position < length && isDigit(string.charAt(position))) {
+
+				position++;
+
+			}
+
+			digits += position - fraction;
+
+		}
+
+		if (digits == 0) {
+
+			return STRING;
+
+		}
+
+		if (position < length && (string.charAt(position) == 'e' || string.charAt(position) == 'E')) {
+
+			position++;
+
+			if (position < length && (string.charAt(position) == '-' || string.charAt(position) == '+')) {
+
+				position++;
+
+			}
+
+			int exponent = position;
+
+			while (position < length && isDigit(string.charAt(position))) {
+
+				position++;
+
+			}
+
+			if (position == exponent) {
+
+				return STRING;
+
+			}
+
+		}
+
+		if (position == length - 1 && "fFdD".indexOf(string.charAt(position)) >= 0) {
+
+			position++;
+
+		}
+
+		return position == length ? DOUBLE : STRING;
+
+	}
+
+	/**
+	 * Asserts that the specified character is a decimal digit.
+	 * 
+	 * @param character
+	 *            the character.
+	 * @return true if the character is a decimal digit, false otherwise.
+	 */
+	private static boolean isDigit(char character) {
+
+		return character >= '0' && character <= '9';
+
+	}
+
+}
\ No newline at end of file
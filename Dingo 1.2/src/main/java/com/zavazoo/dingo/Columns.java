@@ -0,0 +1,207 @@
+/*
+ * Zavazoo Dingo 1.2 - Java API for Data-Driven Testing 
+ * Copyright (C) 2013 Chris White <chriswhitelondon@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.zavazoo.dingo;
+
+/**
+ * Indexes the columns of a test data file by the names given by its header line, within a perfect hash table that is
+ * built once per file, so that looking up a column by name costs a single probe and a string comparison.<br/>
+ * <br/>
+ * The table has a power of two size of at least twice the number of columns, and a multiplier is searched for which
+ * maps the hash code of every name to a distinct slot. The table is doubled whenever no such multiplier is found
+ * within a fixed number of attempts, up to a fixed number of times, beyond which names whose hash codes collide are
+ * placed in successive slots and found by probing.
+ * 
+ * @author Chris White <chriswhitelondon@gmail.com>
+ * @since JDK8
+ */
+final class Columns {
+
+	/** The number of multipliers attempted for each size of table before the table is doubled. */
+	private static final int ATTEMPTS = 64;
+
+	/** The number of times the table is doubled while searching for a multiplier. */
+	private static final int DOUBLINGS = 3;
+
+	/** The increment between successive multipliers attempted, which is the 64-bit golden ratio. */
+	private static final long GOLDEN = 0x9e3779b97f4a7c15L;
+
+	/** The names of the columns, in order, starting with the result. */
+	private final String[] names;
+
+	/** The name held by each slot of the table, or null if the slot is empty. */
+	private final String[] slots;
+
+	/** The column of the name held by each slot of the table. */
+	private final int[] columns;
+
+	/** The multiplier that maps the hash code of every name to a distinct slot. */
+	private final long multiplier;
+
+	/** The number of bits by which a multiplied hash code is shifted to yield a slot. */
+	private final int shift;
+
+	/** The mask that reduces an index to a slot of the table when probing. */
+	private final int mask;
+
+	/**
+	 * Creates an index of the columns with the specified names, in order, starting with the result.
+	 * 
+	 * @param names
+	 *            the names.
+	 */
+	Columns(String[] names) {
+
+		this.names = names;
+
+		for (int column = 0; column < names.length; column++) {
+
+			for (int other = 0; other < column; other++) {
+
+				if (names[column].equals(names[other])) {
+
+					throw new DingoException("Unable to index the columns of the header, since the column '"
+							+ names[column] + "' is named more than once");
+
+				}
+
+			}
+
+		}
+
+		int bits = 1;
+
+		while (1 << bits < 2 * names.length) {
+
+			bits++;
+
+		}
+
+		long candidate = GOLDEN;
+
+		for (int attempt = 1; !fits(candidate, bits) && attempt < ATTEMPTS * (DOUBLINGS + 1); attempt++) {
+
+			candidate += GOLDEN;
+
+			if (attempt % ATTEMPTS == 0) {
+
+				bits++;
+
+				candidate = GOLDEN;
+
+			}
+
+		}
+
+		multiplier = candidate;
+		shift = 64 - bits;
+		mask = (1 << bits) - 1;
+
+		slots = new String[1 << bits];
+		columns = new int[1 << bits];
+
+		for (int column = 0; column < names.length; column++) {
+
+			int slot = slot(names[column]);
+
+			while (slots[slot] != null) {
+
+				slot = (slot + 1) & mask;
+
+			}
+
+			slots[slot] = names[column];
+			columns[slot] = column;
+
+		}
+
+	}
+
+	/**
+	 * Yields the column with the specified name.
+	 * 
+	 * @param name
+	 *            the name.
+	 * @return the column, starting at zero for the result, or -1 if no column has the name.
+	 */
+	int column(String name) {
+
+		int slot = slot(name);
+
+		for (String found = slots[slot]; found != null; found = slots[slot]) {
+
+			if (found == name || found.equals(name)) {
+
+				return columns[slot];
+
+			}
+
+			slot = (slot + 1) & mask;
+
+		}
+
+		return -1;
+
+	}
+
+	/**
+	 * Yields the slot of the table to which the specified name is mapped.
+	 * 
+	 * @param name
+	 *            the name.
+	 * @return the slot.
+	 */
+	private int slot(String name) {
+
+		return (int) ((name.hashCode() * multiplier) >>> shift);
+
+	}
+
+	/**
+	 * Asserts that the specified multiplier maps the hash code of every name to a distinct slot of a table with the
+	 * specified number of bits.
+	 * 
+	 * @param candidate
+	 *            the multiplier.
+	 * @param bits
+	 *            the number of bits.
+	 * @return true if every name is mapped to a distinct slot, false otherwise.
+	 */
+	private boolean fits(long candidate, int bits) {
+
+		boolean[] used = new boolean[1 << bits];
+
+		for (String name : names) {
+
+			int slot = (int) ((name.hashCode() * candidate) >>> (64 - bits));
+
+			if (used[slot]) {
+
+				return false;
+
+			}
+
+			used[slot] = true;
+
+		}
+
+		return true;
+
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,522 @@
+/*
+ * Zavazoo Dingo 1.2 - Java API for Data-Driven Testing 
+ * Copyright (C) 2013 Chris White <chriswhitelondon@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.zavazoo.dingo;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+/**
+ * Compiles a memory-mapped test data file into a compact binary form that is stored within a cache directory, keyed by
+ * the path, size and modification time of the test data file, so that subsequent runs and other processes may read
+ * scenarios from the memory-mapped binary form without tokenizing or even reading any text. A test data file that is
+ * extracted from a resource, such as a resource within a jar file, is keyed by a checksum of its contents instead.<br/>
+ * <br/>
+ * The binary form comprises one record per line, followed by a table of the position of each record, followed by a
+ * trailer. Each record comprises the position and length of the line within the test data file, so that the line may
+ * be reported, followed by the number of values and then each value as a length-prefixed range of UTF-8 encoded bytes.
+ * The trailer comprises the position of the table, the number of lines, the checksum of the test data file, the format
+ * version and a magic number.<br/>
+ * <br/>
+ * Scenarios are read by the thread reading scenarios while lines may be reported by the thread writing the test
+ * report, so each reads records through its own window, since locating a region may remap the window.
+ * 
+ * @author Chris White <chriswhitelondon@gmail.com>
+ * @since JDK8
+ */
+class CompiledFile {
+
+	/** The magic number that identifies the binary form. */
+	static final int MAGIC = 0x44494E47;
+
+	/** The version of the binary form, which must change whenever the binary form or the tokenization changes. */
+	static final int VERSION = 3;
+
+	/** The length of the trailer in bytes. */
+	static final int TRAILER = 28;
+
+	/** The file comprising the binary form. */
+	private File file;
+
+	/** The memory-mapped binary form. */
+	private MappedFile compiled;
+
+	/** The window through which records are read when reading scenarios. */
+	private MappedWindow records;
+
+	/** The window through which records are read when reporting lines, guarded by this compiled file. */
+	private MappedWindow headers;
+
+	/** The window through which lines of the test data file are read when reported, guarded by this compiled file. */
+	private MappedWindow lines;
+
+	/** The table of the position of each record. */
+	private ByteBuffer table;
+
+	/** The number of lines. */
+	private int count;
+
+	/** The checksum of the contents of the test data file. */
+	private long checksum;
+
+	/** The size of the test data file in bytes. */
+	private long length;
+
+	/**
+	 * Opens the binary form of the specified memory-mapped test data file from the specified cache directory,
+	 * compiling the binary form first unless the cache directory already comprises the binary form of the same version
+	 * of the test data file.
+	 * 
+	 * @param dataFile
+	 *            the data file that tokenizes each line when compiling.
+	 * @param source
+	 *            the memory-mapped test data file.
+	 * @param directory
+	 *            the cache directory.
+	 */
+	CompiledFile(DataFile dataFile, MappedFile source, File directory) {
+
+		this(dataFile, source, directory, MappedReader.WINDOW);
+
+	}
+
+	/**
+	 * Opens the binary form of the specified memory-mapped test data file from the specified cache directory, reading
+	 * records and lines through windows of the specified preferred size.
+	 * 
+	 * @param dataFile
+	 *            the data file that tokenizes each line when compiling.
+	 * @param source
+	 *            the memory-mapped test data file.
+	 * @param directory
+	 *            the cache directory.
+	 * @param window
+	 *            the preferred size of each window.
+	 */
+	CompiledFile(DataFile dataFile, MappedFile source, File directory, int window) {
+
+		file = new File(directory, key(dataFile.getType(), source));
+
+		if (!file.isFile()) {
+
+			compile(dataFile, source, directory);
+
+		}
+
+		compiled = new MappedFile(file);
+
+		long size = compiled.size();
+
+		ByteBuffer trailer = compiled.map(size - TRAILER, TRAILER);
+
+		long tableOffset = trailer.getLong(0);
+
+		count = trailer.getInt(8);
+
+		checksum = trailer.getLong(12);
+
+		if (trailer.getInt(20) != VERSION || trailer.getInt(24) != MAGIC) {
+
+			throw new DingoException("Unable to read the compiled data file '" + file + "'");
+
+		}
+
+		table = compiled.map(tableOffset, (long) count * 8);
+
+		records = new MappedWindow(compiled, window);
+		headers = new MappedWindow(compiled, window);
+		lines = new MappedWindow(source, window);
+
+		length = source.size();
+
+	}
+
+	/**
+	 * Yields the number of lines comprised by the test data file.
+	 * 
+	 * @return the number of lines.
+	 */
+	int count() {
+
+		return count;
+
+	}
+
+	/**
+	 * Yields the CRC-32 checksum of the contents of the test data file, as computed when the binary form was compiled.
+	 * 
+	 * @return the checksum.
+	 */
+	long checksum() {
+
+		return checksum;
+
+	}
+
+	/**
+	 * Reads the scenario defined by the line with the specified line number, whose values are decoded only when they
+	 * are first read.
+	 * 
+	 * @param number
+	 *            the line number, starting at one.
+	 * @return the scenario.
+	 */
+	Scenario scenario(int number) {
+
+		return scenario(number, Tokenizer.ALL);
+
+	}
+
+	/**
+	 * Reads the scenario defined by the line with the specified line number, comprising at most the specified number
+	 * of criteria, whose values are decoded only when they are first read.
+	 * 
+	 * @param number
+	 *            the line number, starting at one.
+	 * @param limit
+	 *            the maximum number of criteria.
+	 * @return the scenario.
+	 */
+	Scenario scenario(int number, int limit) {
+
+		long position = table.getLong((number - 1) * 8);
+		long end = end(number);
+
+		int index = records.locate(position, (int) (end - position));
+
+		ByteBuffer buffer = records.buffer();
+
+		index += 12;
+
+		int size = (int) Math.min(buffer.getInt(index), limit + 1L);
+
+		index += 4;
+
+		Value result = null;
+		Value[] criteria = new Value[Math.max(0, size - 1)];
+
+		for (int cell = 0; cell < size; cell++) {
+
+			int length = buffer.getInt(index);
+
+			index += 4;
+
+			Value value = length < 0 ? new Value(null) : new Value(buffer, index, length);
+
+			index += Math.max(0, length);
+
+			if (cell == 0) {
+
+				result = value;
+
+			} else {
+
+				criteria[cell - 1] = value;
+
+			}
+
+		}
+
+		return new Scenario(result, criteria, number);
+
+	}
+
+	/**
+	 * Yields the size in bytes of the record of the line with the specified line number.
+	 * 
+	 * @param number
+	 *            the line number, starting at one.
+	 * @return the size of the record.
+	 */
+	int size(int number) {
+
+		return (int) (end(number) - table.getLong((number - 1) * 8));
+
+	}
+
+	/**
+	 * Yields the position within the binary form following the record of the line with the specified line number.
+	 * 
+	 * @param number
+	 *            the line number, starting at one.
+	 * @return the position.
+	 */
+	private long end(int number) {
+
+		return number < count ? table.getLong(number * 8) : compiled.size() - TRAILER - (long) count * 8;
+
+	}
+
+	/**
+	 * Reads and decodes the line of the test data file with the specified line number, so that the line may be
+	 * reported. This operation is thread-safe, and may run concurrently with the reading of scenarios.
+	 * 
+	 * @param number
+	 *            the line number, starting at one.
+	 * @return the line.
+	 */
+	synchronized String line(int number) {
+
+		long position = table.getLong((number - 1) * 8);
+
+		int index = headers.locate(position, 12);
+
+		long linePosition = headers.buffer().getLong(index);
+		int lineLength = headers.buffer().getInt(index + 8);
+
+		int lineIndex = lines.locate(linePosition, lineLength);
+
+		return Value.decode(lines.buffer(), lineIndex, lineLength);
+
+	}
+
+	/**
+	 * Yields the position within the test data file of the start of the line with the specified line number, so that
+	 * the remainder of the test data file may be read as text from that line onwards. This operation is thread-safe.
+	 * 
+	 * @param number
+	 *            the line number, starting at one.
+	 * @return the position, or the size of the test data file if the line number follows the last line.
+	 */
+	synchronized long position(int number) {
+
+		if (number > count) {
+
+			return length;
+
+		}
+
+		int index = headers.locate(table.getLong((number - 1) * 8), 12);
+
+		return headers.buffer().getLong(index);
+
+	}
+
+	/**
+	 * Closes the binary form, although values that have already been read remain valid.
+	 */
+	void close() {
+
+		compiled.close();
+
+	}
+
+	/**
+	 * Yields the name of the file comprising the binary form of the specified test data file, which is derived from
+	 * the data file type, the format version and the size of the test data file, together with the path and
+	 * modification time of the test data file when it is mapped directly from the file system, so that finding the
+	 * binary form costs no more than reading the attributes of the file. The name is otherwise derived from the
+	 * checksum of the contents of the test data file, which must then be read in full.
+	 * 
+	 * @param type
+	 *            the data file type.
+	 * @param source
+	 *            the memory-mapped test data file.
+	 * @return the file name.
+	 */
+	static String key(DataFileType type, MappedFile source) {
+
+		String key = type.getExtension() + "-" + VERSION + "-" + Long.toHexString(source.size()) + "-";
+
+		File file = source.getFile();
+
+		if (file == null) {
+
+			return key + Long.toHexString(checksum(source)) + ".dingo";
+
+		}
+
+		try {
+
+			CRC32 path = new CRC32();
+
+			path.update(file.getCanonicalPath().getBytes(StandardCharsets.UTF_8));
+
+			long modified = Files.getLastModifiedTime(file.toPath()).toMillis();
+
+			return key + Long.toHexString(path.getValue()) + "-" + Long.toHexString(modified) + ".dingo";
+
+		} catch (IOException error) {
+
+			throw new DingoException(error);
+
+		}
+
+	}
+
+	/**
+	 * Computes the CRC-32 checksum of the contents of the specified memory-mapped test data file.
+	 * 
+	 * @param source
+	 *            the memory-mapped test data file.
+	 * @return the checksum.
+	 */
+	private static long checksum(MappedFile source) {
+
+		CRC32 checksum = new CRC32();
+
+		long size = source.size();
+
+		for (long position = 0; position < size; position += MappedReader.WINDOW) {
+
+			checksum.update(source.map(position, Math.min(MappedReader.WINDOW, size - position)));
+
+		}
+
+		return checksum.getValue();
+
+	}
+
+	/**
+	 * Compiles the binary form of the specified test data file to a temporary file within the specified cache
+	 * directory, which is then renamed atomically so that concurrent processes never read an incomplete binary form.
+	 * 
+	 * @param dataFile
+	 *            the data file that tokenizes each line.
+	 * @param source
+	 *            the memory-mapped test data file.
+	 * @param directory
+	 *            the cache directory.
+	 */
+	private void compile(DataFile dataFile, MappedFile source, File directory) {
+
+		File temporary = null;
+
+		try {
+
+			Files.createDirectories(directory.toPath());
+
+			temporary = File.createTempFile("dingo-", ".tmp", directory);
+
+			long[] positions = new long[1024];
+			int number = 0;
+
+			try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(
+					temporary), 1 << 16))) {
+
+				long position = 0;
+
+				MappedReader reader = new MappedReader(source, 0, source.size());
+
+				long linePosition = 0;
+
+				while (reader.nextLine()) {
+
+					if (number == positions.length) {
+
+						positions = Arrays.copyOf(positions, number * 2);
+
+					}
+
+					positions[number] = position;
+
+					number++;
+
+					Scenario scenario = dataFile.getType().getTokenizer().tokenize(reader.buffer(), reader.lineStart(),
+							reader.lineEnd(), number);
+
+					int lineLength = reader.lineEnd() - reader.lineStart();
+
+					output.writeLong(linePosition);
+					output.writeInt(lineLength);
+					output.writeInt(scenario.criteria.length + 1);
+
+					position += 16;
+
+					position += write(output, scenario.result);
+
+					for (Value criterion : scenario.criteria) {
+
+						position += write(output, criterion);
+
+					}
+
+					linePosition = reader.position();
+
+				}
+
+				for (int line = 0; line < number; line++) {
+
+					output.writeLong(positions[line]);
+
+				}
+
+				output.writeLong(position);
+				output.writeInt(number);
+				output.writeLong(checksum(source));
+				output.writeInt(VERSION);
+				output.writeInt(MAGIC);
+
+			}
+
+			Files.move(temporary.toPath(), file.toPath(), StandardCopyOption.ATOMIC_MOVE,
+					StandardCopyOption.REPLACE_EXISTING);
+
+		} catch (IOException error) {
+
+			if (temporary != null) {
+
+				temporary.delete();
+
+			}
+
+			throw new DingoException(error);
+
+		}
+
+	}
+
+	/**
+	 * Writes the specified value as a length-prefixed range of UTF-8 encoded bytes, or as a negative length if the
+	 * value is null.
+	 * 
+	 * @param output
+	 *            the output.
+	 * @param value
+	 *            the value.
+	 * @return the number of bytes written.
+	 */
+	private static int write(DataOutputStream output, Value value) throws IOException {
+
+		byte[] bytes = value.bytes();
+
+		if (bytes == null) {
+
+			output.writeInt(-1);
+
+			return 4;
+
+		}
+
+		output.writeInt(bytes.length);
+		output.write(bytes);
+
+		return 4 + bytes.length;
+
+	}
+
+}
\ No newline at end of file
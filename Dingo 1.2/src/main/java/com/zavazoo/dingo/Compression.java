@@ -0,0 +1,108 @@
+/*
+ * Zavazoo Dingo 1.2 - Java API for Data-Driven Testing 
+ * Copyright (C) 2013 Chris White <chriswhitelondon@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.zavazoo.dingo;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Enumerates all compression formats recognised by Dingo, each of which is identified by a file name extension that
+ * follows the extension of the data file type, such as 'tsv.gz'.
+ * 
+ * @author Chris White <chriswhitelondon@gmail.com>
+ * @since JDK8
+ */
+enum Compression {
+
+	NONE(null), GZIP("gz"), DEFLATE("deflate");
+
+	/** The size of the buffer through which compressed bytes are read. */
+	static final int BUFFER = 1 << 16;
+
+	/** The file name extension, or null if the test data file is not compressed. */
+	private String extension;
+
+	/**
+	 * Creates a compression format associated with the specified file name extension.
+	 * 
+	 * @param extension
+	 *            the file name extension, or null if the test data file is not compressed.
+	 */
+	private Compression(String extension) {
+
+		this.extension = extension;
+
+	}
+
+	/**
+	 * Yields the file name suffix of a test data file of the specified data file type compressed in this format.
+	 * 
+	 * @param type
+	 *            the data file type.
+	 * @return the file name suffix, such as '.tsv.gz'.
+	 */
+	String suffix(DataFileType type) {
+
+		return extension == null ? "." + type.getExtension() : "." + type.getExtension() + "." + extension;
+
+	}
+
+	/**
+	 * Wraps the specified input stream, comprising bytes compressed in this format, in a stream that yields the
+	 * decompressed bytes.
+	 * 
+	 * @param input
+	 *            the input stream.
+	 * @return the decompressed input stream.
+	 */
+	InputStream decompress(InputStream input) throws IOException {
+
+		switch (this) {
+
+		case GZIP:
+
+			return new GZIPInputStream(input, BUFFER);
+
+		case DEFLATE:
+
+			return new InflaterInputStream(input, new Inflater(), BUFFER) {
+
+				@Override
+				public void close() throws IOException {
+
+					super.close();
+
+					inf.end();
+
+				}
+
+			};
+
+		default:
+
+			return input;
+
+		}
+
+	}
+
+}
\ No newline at end of file
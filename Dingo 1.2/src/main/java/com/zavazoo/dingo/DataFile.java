@@ -23,9 +23,17 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.PrintStream;
-import java.util.LinkedList;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
-import java.util.StringTokenizer;
+import java.util.Locale;
+import java.util.Spliterator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
 
 /**
  * Reads and parses a file comprising test data.
@@ -44,14 +52,56 @@ class DataFile {
 	/** The data file type of this data file. */
 	private DataFileType type;
 
-	/** The buffered reader used to retrieve the next line of the test data file. */
+	/** The compression format of the test data file. */
+	private Compression compression;
+
+	/** The options that determine how the test data file is read and parsed. */
+	private Options options;
+
+	/** The buffered reader used to retrieve the next line of the test data file, unless the file is memory-mapped. */
 	private BufferedReader reader;
 
+	/** The memory-mapped test data file, or null unless the file is memory-mapped. */
+	private MappedFile mappedFile;
+
+	/** The reader used to retrieve the next line of the memory-mapped test data file. */
+	private MappedReader mappedReader;
+
+	/** The compiled binary form of the test data file, or null unless scenarios are read from the binary form. */
+	private CompiledFile compiledFile;
+
 	/** The line number of the current line of the test data file. */
 	private int number;
 
-	/** The print stream for report information, or null to switch off test reporting. */
-	private PrintStream report;
+	/** The shard whose scenarios are read, or null unless the scenarios are sharded. */
+	private Shard shard;
+
+	/**
+	 * The fingerprints of the scenarios read, or null unless only distinct scenarios are read, which may be assigned by
+	 * the running thread while the pipeline reads ahead.
+	 */
+	private volatile FingerprintSet fingerprints;
+
+	/** The reporter that writes test report information, or null if test reporting is switched off. */
+	private Reporter reporter;
+
+	/** The pipeline that reads scenarios ahead on a background thread, or null until scenarios are read ahead. */
+	private Pipeline pipeline;
+
+	/** The supplier of the line to report for the scenario most recently read ahead, or null. */
+	private Supplier<String> deferred;
+
+	/** The supplier of the line of the scenario most recently read sequentially, or null if it is not reported. */
+	private Supplier<String> line;
+
+	/** Asserts that scenarios read sequentially are run concurrently rather than one after another. */
+	private boolean running;
+
+	/** The latencies of running each scenario, or null unless latencies are recorded. */
+	private LatencyHistogram latencies;
+
+	/** The columns named by the header line, or null unless the test data file has a header line. */
+	private Columns columns;
 
 	/**
 	 * Creates a data file associated with the specified logical name.<br/>
@@ -67,10 +117,47 @@ class DataFile {
 	 */
 	DataFile(String name, PrintStream report) {
 
+		this(name, report, new Options());
+
+	}
+
+	/**
+	 * Creates a data file associated with the specified logical name, which will be read and parsed according to the
+	 * specified options.<br/>
+	 * <br/>
+	 * Dingo will write all test report information to the specified print stream, unless the specified print stream is
+	 * null in which case Dingo will not write any test report information whatsoever to any stream or other
+	 * destination, unless the options specify a sink for test report information.
+	 * 
+	 * @param name
+	 *            the logical name.
+	 * @param report
+	 *            the print stream for report information, or null to switch off test reporting.
+	 * @param options
+	 *            the options.
+	 */
+	DataFile(String name, PrintStream report, Options options) {
+
 		this.name = name;
-		this.report = report;
+		this.options = options;
+
+		reporter = Reporter.create(name, report, options);
+
+		shard = Shard.create(options);
+
+		fingerprints = options.isDistinct() ? new FingerprintSet() : null;
+
+		pipeline = null;
+		deferred = null;
+		line = null;
+		running = false;
+
+		latencies = options.getLatency() < 0 ? null : new LatencyHistogram(options.getLatency());
+
+		columns = null;
 
 		type = DataFileType.TSV;
+		compression = Compression.NONE;
 
 		number = 0;
 
@@ -81,46 +168,182 @@ class DataFile {
 	 */
 	void openFile() {
 
-		String tsvName = "/" + name + "." + DataFileType.TSV.getExtension();
+		openFile(options.isMapped());
+
+	}
+
+	/**
+	 * Opens the test data file, memory-mapped or otherwise, and determines the file format, ready to read and parse
+	 * scenarios.
+	 * 
+	 * @param mapped
+	 *            true to memory-map the test data file, false to read the test data file through a buffered reader.
+	 */
+	void openFile(boolean mapped) {
+
+		ResourceIndex.Resource resource = ResourceIndex.resolve(name);
+
+		type = resource.type;
+		compression = resource.compression;
+
+		openFile(resource.url, mapped);
 
-		InputStream input = DataFile.class.getResourceAsStream(tsvName);
+	}
 
-		if (input == null) {
+	/**
+	 * Opens the test data file located by the specified URL, memory-mapped or otherwise, whose file format and
+	 * compression format have already been determined, ready to read and parse scenarios.<br/>
+	 * <br/>
+	 * This allows test data files that are not on the class path, such as those generated by benchmarks, to be read
+	 * exactly as if they had been found on the class path.<br/>
+	 * <br/>
+	 * A compressed test data file read through a buffered reader is decompressed as a stream by a background thread,
+	 * which reads ahead of the thread reading scenarios, whereas a compressed test data file that is memory-mapped is
+	 * decompressed to a temporary file once per process. The test data file is decoded as UTF-8 however it is read.
+	 * 
+	 * @param url
+	 *            the URL.
+	 * @param mapped
+	 *            true to memory-map the test data file, false to read the test data file through a buffered reader.
+	 */
+	void openFile(URL url, boolean mapped) {
 
-			String csvName = "/" + name + "." + DataFileType.CSV.getExtension();
+		if (options.isCompiled()) {
 
-			input = DataFile.class.getResourceAsStream(csvName);
+			mappedFile = new MappedFile(url, compression);
+			compiledFile = new CompiledFile(this, mappedFile, options.getCache());
 
-			if (input == null) {
+		} else if (mapped) {
 
-				String bsvName = "/" + name + "." + DataFileType.BSV.getExtension();
+			mappedFile = new MappedFile(url, compression);
+			mappedReader = new MappedReader(mappedFile, 0, mappedFile.size());
 
-				input = DataFile.class.getResourceAsStream(bsvName);
+		} else {
 
-				if (input == null) {
+			try {
 
-					throw new DingoException("Unable to find a data file on the class path with resource name '"
-							+ tsvName + "' or '" + csvName + "' or '" + bsvName + "'");
+				InputStream input = url.openStream();
 
-				} else {
+				if (compression != Compression.NONE) {
 
-					type = DataFileType.BSV;
+					input = new ReadAheadStream(compression.decompress(input));
 
 				}
 
-			} else {
+				reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8), Compression.BUFFER);
 
-				type = DataFileType.CSV;
+			} catch (IOException error) {
+
+				throw new DingoException(error);
 
 			}
 
+		}
+
+		if (shard != null && shard.isRange()) {
+
+			shard.lines(countLines(url));
+
+		}
+
+		if (options.isHeader()) {
+
+			readHeader();
+
+		}
+
+		Metrics.fileOpened(name, mappedFile == null ? -1 : mappedFile.size());
+
+	}
+
+	/**
+	 * Reads the header line of the test data file, by whichever means the test data file was opened, and indexes the
+	 * columns that it names, so that the scenarios read subsequently start at the second line.
+	 */
+	private void readHeader() {
+
+		Scenario header = null;
+
+		if (compiledFile != null) {
+
+			header = compiledFile.count() > 0 ? compiledFile.scenario(1, Tokenizer.ALL) : null;
+
+		} else if (mappedReader != null) {
+
+			header = mappedReader.nextLine() ? type.getTokenizer().tokenize(mappedReader.buffer(),
+					mappedReader.lineStart(), mappedReader.lineEnd(), 1, Tokenizer.ALL) : null;
+
 		} else {
 
-			type = DataFileType.TSV;
+			try {
+
+				String line = reader.readLine();
+
+				header = line == null ? null : type.getTokenizer().tokenize(line, 1, Tokenizer.ALL);
+
+			} catch (IOException error) {
+
+				throw new DingoException(error);
+
+			}
+
+		}
+
+		if (header == null) {
+
+			throw new DingoException("Unable to read the header line of the data file '" + name + "'");
+
+		}
+
+		String[] names = new String[header.criteria.length + 1];
+
+		for (int column = 0; column < names.length; column++) {
+
+			String name = (column == 0 ? header.result : header.criteria[column - 1]).string();
+
+			names[column] = name == null ? "" : name;
+
+		}
+
+		columns = new Columns(names);
+
+		number = 1;
+
+	}
+
+	/**
+	 * Counts the lines of the test data file located by the specified URL, so that the lines may be divided among
+	 * shards, using the compiled binary form or the memory-mapped test data file when available.
+	 * 
+	 * @param url
+	 *            the URL.
+	 * @return the number of lines.
+	 */
+	private int countLines(URL url) {
+
+		if (compiledFile != null) {
+
+			return compiledFile.count();
+
+		}
+
+		if (mappedFile != null) {
+
+			return new LineIndex(mappedFile, LineIndex.chunks(mappedFile.size())).count();
 
 		}
 
-		reader = new BufferedReader(new InputStreamReader(input));
+		MappedFile countedFile = new MappedFile(url, compression);
+
+		try {
+
+			return new LineIndex(countedFile, LineIndex.chunks(countedFile.size())).count();
+
+		} finally {
+
+			countedFile.close();
+
+		}
 
 	}
 
@@ -131,104 +354,868 @@ class DataFile {
 	 */
 	Scenario nextScenario() {
 
-		String line = null;
+		Scenario scenario;
 
-		try {
+		if (options.getReadAhead() > 0) {
 
-			line = reader.readLine();
+			if (pipeline == null) {
 
-			if (line == null) {
+				pipeline = new Pipeline(this, options.getReadAhead());
+				pipeline.start();
 
-				return null;
+			}
+
+			Pipeline.Entry entry = pipeline.next();
+
+			while (entry != null && duplicate(entry.scenario)) {
+
+				entry = pipeline.next();
 
 			}
 
-			number++;
+			scenario = entry == null ? null : entry.scenario;
+
+			line = entry == null ? null : entry.line;
+
+			if (line != null) {
+
+				reporter.report(scenario.number, line, !running);
 
-		} catch (IOException error) {
+			}
+
+		} else {
+
+			line = null;
+
+			scenario = readScenario();
+
+			prepare(scenario);
+
+		}
 
-			throw new DingoException(error);
+		if (scenario == null && reporter != null) {
+
+			reporter.finish();
 
 		}
 
-		if (report != null) {
+		return scenario;
+
+	}
+
+	/**
+	 * Reads, parses and prepares the next scenario on the background thread of the pipeline, deferring the report of
+	 * the scenario until the scenario is handed to the running thread.
+	 * 
+	 * @return the entry comprising the scenario, or null if there are no more scenarios.
+	 */
+	Pipeline.Entry readAhead() {
+
+		deferred = null;
 
-			StringBuilder information = new StringBuilder();
+		Scenario scenario = readScenario();
 
-			information.append(REPORT_PREFIX);
-			information.append(name);
-			information.append(".");
-			information.append(number);
-			information.append(": ");
-			information.append(line);
+		if (scenario == null) {
 
-			report.println(information.toString());
+			return null;
 
 		}
 
-		return parseLine(line);
+		prepare(scenario);
+
+		return new Pipeline.Entry(scenario, deferred);
 
 	}
 
 	/**
-	 * Parses the specified line of test data into a scenario.
+	 * Prepares the specified scenario according to the options, such as by converting values eagerly.
 	 * 
-	 * @param line
-	 *            the line.
-	 * @return the scenario.
+	 * @param scenario
+	 *            the scenario, or null.
 	 */
-	Scenario parseLine(String line) {
+	private void prepare(Scenario scenario) {
 
-		String delimiter = type.getDelimiter();
+		if (scenario != null && options.getPreparation() != null) {
 
-		StringTokenizer tokenizer = new StringTokenizer(line, delimiter);
+			options.getPreparation().accept(scenario);
 
-		String result = null;
-		List<String> criteria = new LinkedList<String>();
+		}
 
-		while (tokenizer.hasMoreTokens()) {
+	}
 
-			String element = tokenizer.nextToken();
+	/**
+	 * Reports the line with the specified line number, or defers the report when the line was read ahead by the
+	 * pipeline.
+	 * 
+	 * @param number
+	 *            the line number.
+	 * @param line
+	 *            the supplier of the line.
+	 * @param sequential
+	 *            true if the line was read sequentially, false if the line was read in parallel.
+	 */
+	private void report(int number, Supplier<String> line, boolean sequential) {
 
-			element = element.trim();
+		if (sequential && pipeline != null) {
 
-			if (result == null) {
+			deferred = line;
 
-				result = element;
+		} else {
 
-			} else {
+			if (sequential) {
 
-				criteria.add(element);
+				this.line = line;
 
 			}
 
+			reporter.report(number, line, sequential && !running);
+
 		}
 
-		int size = criteria.size();
+	}
+
+	/**
+	 * Reads and parses the next line of test data, by whichever means the test data file was opened, to create the
+	 * next scenario.
+	 * 
+	 * @return the scenario, or null if there are no more scenarios.
+	 */
+	private Scenario readScenario() {
 
-		Value[] values = new Value[size];
+		if (compiledFile != null) {
 
-		int index = 0;
+			return nextCompiledScenario();
 
-		for (String criterion : criteria) {
+		}
 
-			values[index] = new Value(criterion);
+		if (mappedReader != null) {
 
-			index++;
+			return nextMappedScenario();
 
 		}
 
-		Scenario scenario = new Scenario(new Value(result), values);
+		while (true) {
 
-		return scenario;
+			String line = null;
+
+			try {
+
+				line = reader.readLine();
+
+				if (line == null) {
+
+					return null;
+
+				}
+
+				number++;
+
+			} catch (IOException error) {
+
+				throw new DingoException(error);
+
+			}
+
+			if (shard != null && !shard.includes(number)) {
+
+				if (shard.after(number)) {
+
+					return null;
+
+				}
+
+				continue;
+
+			}
+
+			Scenario scenario = parseLine(line);
+
+			if (excluded(scenario, true)) {
+
+				continue;
+
+			}
+
+			if (reporter != null) {
+
+				String current = line;
+
+				report(number, () -> current, true);
+
+			}
+
+			return scenario;
+
+		}
 
 	}
 
 	/**
-	 * Closes the test data file.
+	 * Reads and parses the next line of the memory-mapped test data file to create the next scenario.
+	 * 
+	 * @return the scenario, or null if there are no more scenarios.
 	 */
-	@Override
-	public void finalize() {
+	private Scenario nextMappedScenario() {
+
+		while (mappedReader.nextLine()) {
+
+			number++;
+
+			if (shard != null && shard.after(number)) {
+
+				return null;
+
+			}
+
+			Scenario scenario = mappedScenario(mappedReader, number, true);
+
+			if (scenario != null) {
+
+				return scenario;
+
+			}
+
+		}
+
+		return null;
+
+	}
+
+	/**
+	 * Reads the next scenario from the compiled binary form of the test data file, without tokenizing the line.
+	 * 
+	 * @return the scenario, or null if there are no more scenarios.
+	 */
+	private Scenario nextCompiledScenario() {
+
+		while (number < compiledFile.count()) {
+
+			number++;
+
+			if (shard != null && !shard.includes(number)) {
+
+				if (shard.after(number)) {
+
+					return null;
+
+				}
+
+				continue;
+
+			}
+
+			long start = Metrics.start();
+
+			Scenario scenario = compiledFile.scenario(number, options.getProjection());
+
+			Metrics.lineRead(compiledFile.size(number), start);
+
+			if (columns != null) {
+
+				scenario.index(columns);
+
+			}
+
+			if (excluded(scenario, true)) {
+
+				continue;
+
+			}
+
+			if (reporter != null) {
+
+				int current = number;
+
+				CompiledFile compiled = compiledFile;
+
+				report(number, () -> compiled.line(current), true);
+
+			}
+
+			return scenario;
+
+		}
+
+		return null;
+
+	}
+
+	/**
+	 * Parses the current line of the specified reader to create a scenario with the specified line number, without
+	 * decoding the line unless the line is actually reported.<br/>
+	 * <br/>
+	 * This operation is thread-safe, so that several readers may read separate chunks of the memory-mapped test data
+	 * file concurrently.
+	 * 
+	 * @param reader
+	 *            the reader.
+	 * @param number
+	 *            the line number of the current line.
+	 * @return the scenario, or null if the scenario is skipped because it duplicates a scenario already read or is
+	 *         assigned to another shard.
+	 */
+	Scenario mappedScenario(MappedReader reader, int number) {
+
+		return mappedScenario(reader, number, false);
+
+	}
+
+	/**
+	 * Parses the current line of the specified reader to create a scenario with the specified line number, which was
+	 * read either sequentially or in parallel.
+	 * 
+	 * @param reader
+	 *            the reader.
+	 * @param number
+	 *            the line number of the current line.
+	 * @param sequential
+	 *            true if the line was read sequentially, false if the line was read in parallel.
+	 * @return the scenario, or null if the scenario is skipped because it duplicates a scenario already read or is
+	 *         assigned to another shard.
+	 */
+	private Scenario mappedScenario(MappedReader reader, int number, boolean sequential) {
+
+		ByteBuffer buffer = reader.buffer();
+
+		int start = reader.lineStart();
+		int end = reader.lineEnd();
+
+		if (shard != null && !shard.includes(number)) {
+
+			return null;
+
+		}
+
+		Scenario scenario = parseBytes(buffer, start, end, number);
+
+		if (excluded(scenario, sequential)) {
+
+			return null;
+
+		}
+
+		if (reporter != null) {
+
+			report(number, () -> Value.decode(buffer, start, end - start), sequential);
+
+		}
+
+		return scenario;
+
+	}
+
+	/**
+	 * Reads only distinct scenarios from now on, skipping every scenario that duplicates a scenario already read, or
+	 * does nothing if only distinct scenarios are already read. When scenarios are read ahead, this applies to every
+	 * scenario handed to the running thread from now on, including the scenarios already queued by the pipeline.
+	 */
+	void distinct() {
+
+		if (fingerprints == null) {
+
+			fingerprints = new FingerprintSet();
+
+		}
+
+	}
+
+	/**
+	 * Asserts that scenarios may be skipped as they are read, because only distinct scenarios are read or only the
+	 * scenarios assigned to a single shard are read.
+	 * 
+	 * @return true if scenarios may be skipped, false otherwise.
+	 */
+	boolean skips() {
+
+		return fingerprints != null || shard != null;
+
+	}
+
+	/**
+	 * Asserts that the specified scenario is skipped, because it is assigned to another shard according to its values
+	 * or because it duplicates a scenario already read.<br/>
+	 * <br/>
+	 * Scenarios read ahead by the pipeline are not checked for duplicates until they are handed to the running thread,
+	 * so that only distinct scenarios are run from the moment the running thread asks for them, even if the scenarios
+	 * already queued were read before then.
+	 * 
+	 * @param scenario
+	 *            the scenario.
+	 * @param sequential
+	 *            true if the scenario was read sequentially, false if the scenario was read in parallel.
+	 * @return true if the scenario is skipped, false otherwise.
+	 */
+	private boolean excluded(Scenario scenario, boolean sequential) {
+
+		if (shard != null && shard.excludes(scenario)) {
+
+			return true;
+
+		}
+
+		return !(sequential && pipeline != null) && duplicate(scenario);
+
+	}
+
+	/**
+	 * Asserts that the specified scenario duplicates a scenario already read, recording the fingerprint of the
+	 * scenario otherwise, when only distinct scenarios are read.<br/>
+	 * <br/>
+	 * Scenarios are identified by their 64-bit hash, so that two distinct scenarios are mistaken for duplicates only
+	 * with a negligible probability, of the order of one in a million for ten million distinct scenarios. This
+	 * operation is thread-safe.
+	 * 
+	 * @param scenario
+	 *            the scenario.
+	 * @return true if the scenario duplicates a scenario already read, false otherwise or unless only distinct
+	 *         scenarios are read.
+	 */
+	boolean duplicate(Scenario scenario) {
+
+		return fingerprints != null && !fingerprints.add(scenario.longHashCode());
+
+	}
+
+	/**
+	 * Reports the current line of the specified reader, with the specified line number, whose scenario failed when run
+	 * in parallel.
+	 * 
+	 * @param reader
+	 *            the reader.
+	 * @param number
+	 *            the line number of the current line.
+	 */
+	void failed(MappedReader reader, int number) {
+
+		if (reporter != null) {
+
+			ByteBuffer buffer = reader.buffer();
+
+			int start = reader.lineStart();
+			int end = reader.lineEnd();
+
+			reporter.failed(number, () -> Value.decode(buffer, start, end - start));
+
+		}
+
+	}
+
+	/**
+	 * Runs the specified task for every scenario of the test data file, dividing the memory-mapped test data file into
+	 * chunks aligned to the start of a line that are read, parsed and run in parallel by the common fork-join pool.<br/>
+	 * <br/>
+	 * Scenarios are run and reported in no particular order, although each scenario and each line of the test report
+	 * retains the line number of the corresponding line of the test data file.
+	 * 
+	 * @param task
+	 *            the task.
+	 */
+	void parallel(ScenarioTask task) {
+
+		parallel(task, mappedFile == null ? 1 : LineIndex.chunks(mappedFile.size()));
+
+	}
+
+	/**
+	 * Runs the specified task for every scenario of the test data file, dividing the memory-mapped test data file into
+	 * the specified number of chunks that are read, parsed and run in parallel by the common fork-join pool.
+	 * 
+	 * @param task
+	 *            the task.
+	 * @param chunks
+	 *            the number of chunks.
+	 */
+	void parallel(ScenarioTask task, int chunks) {
+
+		if (mappedFile == null) {
+
+			throw new DingoException("Unable to run the data file '" + name + "' in parallel unless memory-mapped");
+
+		}
+
+		long start;
+
+		if (compiledFile != null) {
+
+			start = compiledFile.position(number + 1);
+
+		} else {
+
+			start = mappedReader.position();
+
+		}
+
+		LineIndex index = new LineIndex(mappedFile, start, number, chunks);
+
+		try {
+
+			ForkJoinPool.commonPool().invoke(new ChunkTask(this, mappedFile, index, 0, index.chunks(), task));
+
+		} finally {
+
+			if (reporter != null) {
+
+				summarize();
+
+				reporter.finish();
+
+			}
+
+		}
+
+	}
+
+	/**
+	 * Runs the specified task for every remaining scenario of the test data file, which are read sequentially but run
+	 * concurrently, each on a virtual thread when the runtime supports virtual threads or otherwise on a pooled thread,
+	 * with at most the number of scenarios specified by the options running at once.<br/>
+	 * <br/>
+	 * Every scenario is run even if some scenarios fail, after which the failures are rethrown together, as an
+	 * aggregated failure that lists the line number of each scenario that failed. If reading a scenario fails, the
+	 * scenarios already running are finished first and the failure to read is rethrown, with the aggregated failure
+	 * of the scenarios that failed attached as a suppressed failure.
+	 * 
+	 * @param task
+	 *            the task.
+	 */
+	void run(ScenarioTask task) {
+
+		int concurrency = options.getConcurrency();
+
+		Semaphore permits = new Semaphore(concurrency);
+
+		Failures failures = new Failures();
+
+		ExecutorService executor = executor();
+
+		int run = 0;
+
+		running = true;
+
+		try {
+
+			Scenario scenario;
+
+			try {
+
+				while ((scenario = nextScenario()) != null) {
+
+					Scenario current = scenario;
+					Supplier<String> currentLine = line;
+
+					permits.acquireUninterruptibly();
+
+					executor.execute(() -> {
+
+						try {
+
+							execute(task, current);
+
+						} catch (Throwable error) {
+
+							failures.add(current.number, error);
+
+							if (reporter != null && currentLine != null) {
+
+								reporter.failed(current.number, currentLine);
+
+							}
+
+						} finally {
+
+							permits.release();
+
+						}
+
+					});
+
+					run++;
+
+				}
+
+			} finally {
+
+				permits.acquireUninterruptibly(concurrency);
+
+			}
+
+		} catch (RuntimeException | Error error) {
+
+			failures.suppress(error, name, run);
+
+			throw error;
+
+		} finally {
+
+			running = false;
+
+			executor.shutdown();
+
+			if (reporter != null) {
+
+				summarize();
+
+				reporter.finish();
+
+			}
+
+		}
+
+		failures.rethrow(name, run);
+
+	}
+
+	/**
+	 * Runs the specified task for the specified scenario, recording the latency of the task when latencies are
+	 * recorded, whether or not the task fails.
+	 * 
+	 * @param task
+	 *            the task.
+	 * @param scenario
+	 *            the scenario.
+	 * @throws Exception
+	 *             if the task fails.
+	 */
+	void execute(ScenarioTask task, Scenario scenario) throws Exception {
+
+		if (latencies == null) {
+
+			task.run(scenario);
+
+			return;
+
+		}
+
+		long start = System.nanoTime();
+
+		try {
+
+			task.run(scenario);
+
+		} finally {
+
+			latencies.record(scenario.number, System.nanoTime() - start);
+
+		}
+
+	}
+
+	/**
+	 * Reports the median, 99th percentile and maximum latency of running the scenarios, followed by each of the
+	 * slowest scenarios with its line number, when latencies are recorded.
+	 */
+	private void summarize() {
+
+		if (latencies == null || latencies.count() == 0) {
+
+			return;
+
+		}
+
+		reporter.summary(0, latencies.count() + " scenarios run, p50 " + millis(latencies.percentile(0.5)) + ", p99 "
+				+ millis(latencies.percentile(0.99)) + ", max " + millis(latencies.maximum()));
+
+		for (LatencyHistogram.Sample sample : latencies.slowest()) {
+
+			reporter.summary(sample.number, "slowest " + millis(sample.latency));
+
+		}
+
+	}
+
+	/**
+	 * Formats the specified latency in milliseconds.
+	 * 
+	 * @param latency
+	 *            the latency in nanoseconds.
+	 * @return the formatted latency.
+	 */
+	private static String millis(long latency) {
+
+		return String.format(Locale.ROOT, "%.3f ms", latency / 1e6);
+
+	}
+
+	/**
+	 * Creates an executor that runs each task on a new virtual thread when the runtime supports virtual threads, or
+	 * otherwise on a pool of daemon threads that grows as required.
+	 * 
+	 * @return the executor.
+	 */
+	private static ExecutorService executor() {
+
+		try {
+
+			return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+
+		} catch (ReflectiveOperationException unsupported) {
+
+			return Executors.newCachedThreadPool(runnable -> {
+
+				Thread thread = new Thread(runnable, "dingo-runner");
+				thread.setDaemon(true);
+
+				return thread;
+
+			});
+
+		}
+
+	}
+
+	/**
+	 * Yields a spliterator over the remaining scenarios of the memory-mapped test data file, which is divided into
+	 * chunks aligned to the start of a line whose lines are counted in parallel, or yields null unless the test data
+	 * file is memory-mapped and no scenarios are already being read ahead.<br/>
+	 * <br/>
+	 * The remaining scenarios are subsequently read only by the spliterator and no longer by this data file.
+	 * 
+	 * @return the spliterator, or null unless the test data file is memory-mapped and not already read ahead.
+	 */
+	Spliterator<Scenario> chunkSpliterator() {
+
+		if (mappedReader == null || pipeline != null) {
+
+			return null;
+
+		}
+
+		return chunkSpliterator(LineIndex.chunks(mappedFile.size() - mappedReader.position()));
+
+	}
+
+	/**
+	 * Yields a spliterator over the remaining scenarios of the memory-mapped test data file, which is divided into the
+	 * specified number of chunks, or yields null unless the test data file is memory-mapped.
+	 * 
+	 * @param chunks
+	 *            the number of chunks.
+	 * @return the spliterator, or null unless the test data file is memory-mapped.
+	 */
+	Spliterator<Scenario> chunkSpliterator(int chunks) {
+
+		if (mappedReader == null) {
+
+			return null;
+
+		}
+
+		LineIndex index = new LineIndex(mappedFile, mappedReader.position(), number, chunks);
+
+		mappedReader = new MappedReader(mappedFile, mappedFile.size(), mappedFile.size());
+
+		return new ChunkSpliterator(this, mappedFile, index, 0, index.chunks());
+
+	}
+
+	/**
+	 * Parses the specified line of test data into a scenario.
+	 * 
+	 * @param line
+	 *            the line.
+	 * @return the scenario.
+	 */
+	Scenario parseLine(String line) {
+
+		long start = Metrics.start();
+
+		Scenario scenario = type.getTokenizer().tokenize(line, number, options.getProjection());
+
+		Metrics.lineRead(line.length(), start);
+
+		if (columns != null) {
+
+			scenario.index(columns);
+
+		}
+
+		return scenario;
+
+	}
+
+	/**
+	 * Parses the specified range of UTF-8 encoded bytes, comprising a line of test data, into a scenario whose values
+	 * are decoded only when they are first read.<br/>
+	 * <br/>
+	 * The bytes are tokenized consistently with <code>parseLine</code>, which is possible without decoding because
+	 * every delimiter, quote and trimmed whitespace character is encoded as a single byte that never occurs within the
+	 * encoding of any other character.
+	 * 
+	 * @param buffer
+	 *            the buffer comprising the encoded bytes.
+	 * @param start
+	 *            the index within the buffer of the first encoded byte of the line.
+	 * @param end
+	 *            the index within the buffer following the last encoded byte of the line.
+	 * @return the scenario.
+	 */
+	Scenario parseBytes(ByteBuffer buffer, int start, int end) {
+
+		return parseBytes(buffer, start, end, number);
+
+	}
+
+	/**
+	 * Parses the specified range of UTF-8 encoded bytes, comprising the line of test data with the specified line
+	 * number, into a scenario whose values are decoded only when they are first read.
+	 * 
+	 * @param buffer
+	 *            the buffer comprising the encoded bytes.
+	 * @param start
+	 *            the index within the buffer of the first encoded byte of the line.
+	 * @param end
+	 *            the index within the buffer following the last encoded byte of the line.
+	 * @param number
+	 *            the line number.
+	 * @return the scenario.
+	 */
+	Scenario parseBytes(ByteBuffer buffer, int start, int end, int number) {
+
+		long started = Metrics.start();
+
+		Scenario scenario = type.getTokenizer().tokenize(buffer, start, end, number, options.getProjection());
+
+		Metrics.lineRead(end - start, started);
+
+		if (columns != null) {
+
+			scenario.index(columns);
+
+		}
+
+		return scenario;
+
+	}
+
+	/**
+	 * Closes the test data file, and reports the scenario abandoned by a failure when only failures are reported.
+	 */
+	@Override
+	public void finalize() {
+
+		if (pipeline != null) {
+
+			pipeline.close();
+
+		}
+
+		if (reporter != null) {
+
+			reporter.close();
+
+		}
+
+		if (compiledFile != null) {
+
+			compiledFile.close();
+
+		}
+
+		if (mappedFile != null) {
+
+			mappedFile.close();
+
+		}
 
 		if (reader != null) {
 
@@ -34,6 +34,9 @@ enum DataFileType {
 	/** The data column delimiter. */
 	private String delimiter;
 
+	/** The tokenizer for lines delimited by the data column delimiter. */
+	private Tokenizer tokenizer;
+
 	/**
 	 * Creates a data file type associated with the specified file name extension and data column delimiter.
 	 * 
@@ -47,6 +50,8 @@ enum DataFileType {
 		this.extension = extension;
 		this.delimiter = delimiter;
 
+		tokenizer = new Tokenizer(delimiter.charAt(0));
+
 	}
 
 	/**
@@ -71,4 +76,15 @@ enum DataFileType {
 
 	}
 
+	/**
+	 * Yields the tokenizer for lines delimited by the data column delimiter associated with this data file type.
+	 * 
+	 * @return the tokenizer.
+	 */
+	Tokenizer getTokenizer() {
+
+		return tokenizer;
+
+	}
+
 }
\ No newline at end of file
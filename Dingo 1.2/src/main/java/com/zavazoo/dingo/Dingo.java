@@ -70,11 +70,173 @@ public abstract class Dingo {
 	 */
 	public static Scenarios scenarios(String name, PrintStream report) {
 
-		DataFile dataFile = new DataFile(name, report);
+		return scenarios(name, report, new Options());
+
+	}
+
+	/**
+	 * Yields all the test scenarios associated with the specified logical name that corresponds to a file comprising
+	 * test data located under the top-level project directory named 'src/test/resources', reading and parsing the
+	 * test data file according to the specified options.<br/>
+	 * <br/>
+	 * Dingo will write all test report information to the specified print stream, unless the specified print stream is
+	 * null in which case Dingo will not write any test report information whatsoever to any stream or other
+	 * destination.
+	 * 
+	 * @param name
+	 *            the logical name.
+	 * @param report
+	 *            the print stream for report information, or null to switch off test reporting.
+	 * @param options
+	 *            the options.
+	 * @return the test scenarios.
+	 */
+	public static Scenarios scenarios(String name, PrintStream report, Options options) {
+
+		DataFile dataFile = new DataFile(name, report, options);
 		dataFile.openFile();
 
 		return new Scenarios(dataFile);
 
 	}
 
+	/**
+	 * Runs the specified task for every test scenario associated with the specified logical name, reading, parsing
+	 * and running the scenarios in parallel across all available processors.<br/>
+	 * <br/>
+	 * The test data file is memory-mapped and divided into chunks aligned to the start of a line, each of which is
+	 * read, parsed and run independently by a worker of the common fork-join pool. Scenarios are therefore run in no
+	 * particular order, although the line number of each scenario is retained.<br/>
+	 * <br/>
+	 * Dingo will write all test report information to the default <code>System.out</code> print stream.
+	 * 
+	 * @param name
+	 *            the logical name.
+	 * @param task
+	 *            the task, which must be thread-safe.
+	 */
+	public static void parallel(String name, ScenarioTask task) {
+
+		parallel(name, System.out, new Options(), task);
+
+	}
+
+	/**
+	 * Runs the specified task for every test scenario associated with the specified logical name, reading, parsing
+	 * and running the scenarios in parallel across all available processors, according to the specified options
+	 * except that the test data file is always memory-mapped.<br/>
+	 * <br/>
+	 * Dingo will write all test report information to the specified print stream, unless the specified print stream is
+	 * null in which case Dingo will not write any test report information whatsoever to any stream or other
+	 * destination.
+	 * 
+	 * @param name
+	 *            the logical name.
+	 * @param report
+	 *            the print stream for report information, or null to switch off test reporting.
+	 * @param options
+	 *            the options.
+	 * @param task
+	 *            the task, which must be thread-safe.
+	 */
+	public static void parallel(String name, PrintStream report, Options options, ScenarioTask task) {
+
+		DataFile dataFile = new DataFile(name, report, options);
+		dataFile.openFile(true);
+
+		dataFile.parallel(task);
+
+	}
+
+	/**
+	 * Runs the specified task for every test scenario associated with the specified logical name, reading the scenarios
+	 * in order but running them concurrently, each on its own virtual thread when the runtime supports virtual threads
+	 * or otherwise on a pooled thread, so that tests of components bound by I/O finish in a fraction of the time.<br/>
+	 * <br/>
+	 * Every scenario is run even if some scenarios fail, after which a single failure is thrown that lists the line
+	 * number and failure of every scenario that failed. The failure is an assertion error if every scenario that failed
+	 * did so by failing an assertion, or otherwise a Dingo exception.<br/>
+	 * <br/>
+	 * Dingo will write all test report information to the default <code>System.out</code> print stream.
+	 * 
+	 * @param name
+	 *            the logical name.
+	 * @param task
+	 *            the task, which must be thread-safe.
+	 */
+	public static void run(String name, ScenarioTask task) {
+
+		run(name, System.out, new Options(), task);
+
+	}
+
+	/**
+	 * Runs the specified task for every test scenario associated with the specified logical name, reading the scenarios
+	 * in order but running them concurrently, according to the specified options, which also limit the number of
+	 * scenarios run at once.<br/>
+	 * <br/>
+	 * Dingo will write all test report information to the specified print stream, unless the specified print stream is
+	 * null in which case Dingo will not write any test report information whatsoever to any stream or other
+	 * destination.
+	 * 
+	 * @param name
+	 *            the logical name.
+	 * @param report
+	 *            the print stream for report information, or null to switch off test reporting.
+	 * @param options
+	 *            the options.
+	 * @param task
+	 *            the task, which must be thread-safe.
+	 */
+	public static void run(String name, PrintStream report, Options options, ScenarioTask task) {
+
+		DataFile dataFile = new DataFile(name, report, options);
+		dataFile.openFile();
+
+		dataFile.run(task);
+
+	}
+
+	/**
+	 * Loads all the test scenarios associated with the specified logical name into a scenario table, whose column
+	 * types are inferred from the test data.<br/>
+	 * <br/>
+	 * The scenario table comprises every scenario, since only the scenarios read by iteration are sharded.<br/>
+	 * <br/>
+	 * Dingo will write all test report information to the default <code>System.out</code> print stream.
+	 * 
+	 * @param name
+	 *            the logical name.
+	 * @return the scenario table.
+	 */
+	public static ScenarioTable table(String name) {
+
+		return table(name, System.out);
+
+	}
+
+	/**
+	 * Loads all the test scenarios associated with the specified logical name into a scenario table, whose columns are
+	 * of the specified types, or of types inferred from the test data if no types are specified.<br/>
+	 * <br/>
+	 * The scenario table comprises every scenario, since only the scenarios read by iteration are sharded.<br/>
+	 * <br/>
+	 * Dingo will write all test report information to the specified print stream, unless the specified print stream is
+	 * null in which case Dingo will not write any test report information whatsoever to any stream or other
+	 * destination.
+	 * 
+	 * @param name
+	 *            the logical name.
+	 * @param report
+	 *            the print stream for report information, or null to switch off test reporting.
+	 * @param types
+	 *            the type of each column, or no types to infer the type of each column.
+	 * @return the scenario table.
+	 */
+	public static ScenarioTable table(String name, PrintStream report, ColumnType... types) {
+
+		return new ScenarioTable(name, report, types);
+
+	}
+
 }
\ No newline at end of file
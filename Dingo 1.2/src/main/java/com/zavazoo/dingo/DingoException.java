@@ -55,4 +55,18 @@ public class DingoException extends RuntimeException {
 
 	}
 
+	/**
+	 * Creates a Dingo exception with the specified error message and the specified original cause of this exception.
+	 * 
+	 * @param message
+	 *            the error message.
+	 * @param cause
+	 *            the cause.
+	 */
+	public DingoException(String message, Throwable cause) {
+
+		super(message, cause);
+
+	}
+
 }
\ No newline at end of file
@@ -0,0 +1,113 @@
+/*
+ * Zavazoo Dingo 1.2 - Java API for Data-Driven Testing 
+ * Copyright (C) 2013 Chris White <chriswhitelondon@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.zavazoo.dingo;
+
+/**
+ * Constitutes a listener that is notified of the work done by Dingo, such as opening test data files, reading and
+ * parsing lines, and converting values, so that the bottleneck of a long-running data-driven test suite may be
+ * identified.<br/>
+ * <br/>
+ * A single listener is registered for the whole process, and is notified by every thread that reads or converts test
+ * data, so every listener must be thread-safe and should do as little as possible. Every notification does nothing by
+ * default, so that a listener need only implement the notifications of interest. No notification is issued, and no
+ * time is measured, while no listener is registered.<br/>
+ * <br/>
+ * The default listener, registered by <code>DingoMetrics.jmx()</code> or by setting the 'dingo.metrics' system
+ * property to 'jmx', accumulates each notification within counters exposed through JMX.
+ * 
+ * @author Chris White <chriswhitelondon@gmail.com>
+ * @since JDK8
+ */
+public interface DingoMetrics {
+
+	/** The name under which the default listener is registered with the platform MBean server. */
+	String OBJECT_NAME = "com.zavazoo.dingo:type=Metrics";
+
+	/**
+	 * Notifies this listener that the test data file with the specified logical name has been opened.
+	 * 
+	 * @param name
+	 *            the logical name.
+	 * @param size
+	 *            the size of the test data file in bytes, or -1 if the size is not known before the test data file is
+	 *            read.
+	 */
+	default void fileOpened(String name, long size) {
+	}
+
+	/**
+	 * Notifies this listener that a line of test data has been read and parsed into a scenario.
+	 * 
+	 * @param length
+	 *            the length of the line, in encoded bytes when the test data file is memory-mapped, in bytes of the
+	 *            compiled record when scenarios are read from the compiled binary form, or otherwise in characters.
+	 * @param nanos
+	 *            the number of nanoseconds taken to parse the line.
+	 */
+	default void lineRead(int length, long nanos) {
+	}
+
+	/**
+	 * Notifies this listener that a value has been converted to the specified type, which is named after the method of
+	 * <code>Value</code> that converted the value, such as 'integer' or 'datetime'. Conversions already retained by a
+	 * value are not notified.
+	 * 
+	 * @param type
+	 *            the name of the type.
+	 * @param nanos
+	 *            the number of nanoseconds taken to convert the value.
+	 */
+	default void valueConverted(String type, long nanos) {
+	}
+
+	/**
+	 * Notifies this listener that a JSON value has been bound to an object, list or map, which is also notified as a
+	 * conversion of the value.
+	 * 
+	 * @param nanos
+	 *            the number of nanoseconds taken to bind the JSON value.
+	 */
+	default void jsonBound(long nanos) {
+	}
+
+	/**
+	 * Registers the specified listener for the whole process, in place of any listener already registered.
+	 * 
+	 * @param metrics
+	 *            the listener, or null to stop notifying any listener.
+	 */
+	static void register(DingoMetrics metrics) {
+
+		Metrics.register(metrics);
+
+	}
+
+	/**
+	 * Registers the default listener for the whole process, in place of any listener already registered, whose
+	 * counters are exposed through JMX by the platform MBean server under the name 'com.zavazoo.dingo:type=Metrics'.
+	 * 
+	 * @return the default listener.
+	 */
+	static DingoMetrics jmx() {
+
+		return Metrics.jmx();
+
+	}
+
+}
\ No newline at end of file
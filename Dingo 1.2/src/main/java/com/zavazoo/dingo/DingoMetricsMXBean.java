@@ -0,0 +1,93 @@
+/*
+ * Zavazoo Dingo 1.2 - Java API for Data-Driven Testing 
+ * Copyright (C) 2013 Chris White <chriswhitelondon@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.zavazoo.dingo;
+
+import java.util.Map;
+
+/**
+ * Constitutes the management interface of the default metrics listener, through which JMX tooling such as JConsole or
+ * VisualVM may observe the work done by Dingo while a data-driven test suite runs.
+ * 
+ * @author Chris White <chriswhitelondon@gmail.com>
+ * @since JDK8
+ */
+public interface DingoMetricsMXBean {
+
+	/**
+	 * Yields the number of test data files opened.
+	 * 
+	 * @return the number of test data files.
+	 */
+	long getFilesOpened();
+
+	/**
+	 * Yields the number of lines read and parsed.
+	 * 
+	 * @return the number of lines.
+	 */
+	long getLinesRead();
+
+	/**
+	 * Yields the total length of the lines read and parsed.
+	 * 
+	 * @return the total length, in bytes or characters depending upon how each test data file is read.
+	 */
+	long getBytesRead();
+
+	/**
+	 * Yields the total number of nanoseconds taken to parse lines.
+	 * 
+	 * @return the number of nanoseconds.
+	 */
+	long getParseNanos();
+
+	/**
+	 * Yields the number of value conversions to each type, keyed by the name of the type.
+	 * 
+	 * @return the number of conversions to each type.
+	 */
+	Map<String, Long> getConversions();
+
+	/**
+	 * Yields the total number of nanoseconds taken to convert values to each type, keyed by the name of the type.
+	 * 
+	 * @return the number of nanoseconds for each type.
+	 */
+	Map<String, Long> getConversionNanos();
+
+	/**
+	 * Yields the number of JSON values bound.
+	 * 
+	 * @return the number of JSON values.
+	 */
+	long getJsonBindings();
+
+	/**
+	 * Yields the total number of nanoseconds taken to bind JSON values.
+	 * 
+	 * @return the number of nanoseconds.
+	 */
+	long getJsonBindingNanos();
+
+	/**
+	 * Resets every counter to zero.
+	 */
+	void reset();
+
+}
\ No newline at end of file
@@ -0,0 +1,218 @@
+/*
+ * Zavazoo Dingo 1.2 - Java API for Data-Driven Testing 
+ * Copyright (C) 2013 Chris White <chriswhitelondon@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.zavazoo.dingo;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Collects the failures of scenarios run concurrently, each with the line number of its scenario, so that every
+ * failure may be reported together once every scenario has been run.
+ * 
+ * @author Chris White <chriswhitelondon@gmail.com>
+ * @since JDK8
+ */
+class Failures {
+
+	/** The maximum number of failures described by the aggregated failure. */
+	static final int DESCRIBED = 100;
+
+	/** The failures collected, in the order in which they occurred. */
+	private List<Failure> failures;
+
+	/**
+	 * Creates an empty collection of failures.
+	 */
+	Failures() {
+
+		failures = new ArrayList<Failure>();
+
+	}
+
+	/**
+	 * Collects the specified failure of the scenario with the specified line number.
+	 * 
+	 * @param number
+	 *            the line number.
+	 * @param error
+	 *            the failure.
+	 */
+	synchronized void add(int number, Throwable error) {
+
+		failures.add(new Failure(number, error));
+
+	}
+
+	/**
+	 * Yields the number of failures collected.
+	 * 
+	 * @return the number of failures.
+	 */
+	synchronized int size() {
+
+		return failures.size();
+
+	}
+
+	/**
+	 * Throws a single failure that aggregates every failure collected, ordered by line number, or does nothing if no
+	 * failures were collected.
+	 * 
+	 * @param name
+	 *            the logical name of the test data file.
+	 * @param run
+	 *            the number of scenarios run.
+	 */
+	synchronized void rethrow(String name, int run) {
+
+		Throwable aggregated = aggregate(name, run);
+
+		if (aggregated instanceof AssertionError) {
+
+			throw (AssertionError) aggregated;
+
+		} else if (aggregated != null) {
+
+			throw (DingoException) aggregated;
+
+		}
+
+	}
+
+	/**
+	 * Attaches a single failure that aggregates every failure collected to the specified failure as a suppressed
+	 * failure, unless no failures were collected, so that the failures of the scenarios already run are reported
+	 * when reading the remaining scenarios fails.
+	 * 
+	 * @param error
+	 *            the failure to read the remaining scenarios.
+	 * @param name
+	 *            the logical name of the test data file.
+	 * @param run
+	 *            the number of scenarios run.
+	 */
+	synchronized void suppress(Throwable error, String name, int run) {
+
+		Throwable aggregated = aggregate(name, run);
+
+		if (aggregated != null) {
+
+			error.addSuppressed(aggregated);
+
+		}
+
+	}
+
+	/**
+	 * Yields a single failure that aggregates every failure collected, ordered by line number, or null if no failures
+	 * were collected.<br/>
+	 * <br/>
+	 * The aggregated failure is an assertion error if every scenario failed an assertion, or otherwise a Dingo
+	 * exception, whose message lists the line number and failure of each scenario, and whose cause is the failure of
+	 * the first scenario that failed while the failures of the other scenarios are suppressed.
+	 * 
+	 * @param name
+	 *            the logical name of the test data file.
+	 * @param run
+	 *            the number of scenarios run.
+	 * @return the aggregated failure, or null if no failures were collected.
+	 */
+	private Throwable aggregate(String name, int run) {
+
+		if (failures.isEmpty()) {
+
+			return null;
+
+		}
+
+		failures.sort(Comparator.comparingInt(failure -> failure.number));
+
+		StringBuilder message = new StringBuilder();
+
+		message.append(failures.size()).append(" of ").append(run).append(" scenarios of the data file '").append(name)
+				.append("' failed");
+
+		boolean assertions = true;
+
+		for (int index = 0; index < failures.size(); index++) {
+
+			Failure failure = failures.get(index);
+
+			assertions &= failure.error instanceof AssertionError;
+
+			if (index < DESCRIBED) {
+
+				message.append(System.lineSeparator()).append("line ").append(failure.number).append(": ")
+						.append(failure.error);
+
+			}
+
+		}
+
+		if (failures.size() > DESCRIBED) {
+
+			message.append(System.lineSeparator()).append("and ").append(failures.size() - DESCRIBED).append(" more");
+
+		}
+
+		Throwable first = failures.get(0).error;
+
+		Throwable aggregated = assertions ? new AssertionError(message.toString(), first) : new DingoException(message
+				.toString(), first);
+
+		for (int index = 1; index < Math.min(failures.size(), DESCRIBED); index++) {
+
+			aggregated.addSuppressed(failures.get(index).error);
+
+		}
+
+		return aggregated;
+
+	}
+
+	/**
+	 * Constitutes the failure of a single scenario.
+	 */
+	private static class Failure {
+
+		/** The line number of the scenario. */
+		final int number;
+
+		/** The failure. */
+		final Throwable error;
+
+		/**
+		 * Creates the specified failure of the scenario with the specified line number.
+		 * 
+		 * @param number
+		 *            the line number.
+		 * @param error
+		 *            the failure.
+		 */
+		Failure(int number, Throwable error) {
+
+			this.number = number;
+			this.error = error;
+
+		}
+
+	}
+
+}
\ No newline at end of file
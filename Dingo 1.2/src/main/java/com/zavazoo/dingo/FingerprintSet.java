@@ -0,0 +1,253 @@
+/*
+ * Zavazoo Dingo 1.2 - Java API for Data-Driven Testing 
+ * Copyright (C) 2013 Chris White <chriswhitelondon@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.zavazoo.dingo;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Constitutes a set of 64-bit fingerprints stored off-heap, within a direct buffer, in an open-addressing hash table
+ * with linear probing, so that recording tens of millions of fingerprints costs eight bytes per slot and places no
+ * burden upon the garbage collector.<br/>
+ * <br/>
+ * Each fingerprint is assumed to be a well-mixed hash, whose low bits select its home slot directly. The zero
+ * fingerprint denotes an empty slot and is therefore recorded as a different constant. The table doubles in size
+ * whenever it becomes three-quarters full, and the direct buffer of a table that has been outgrown is released when it
+ * is garbage collected. This set is thread-safe.
+ * 
+ * @author Chris White <chriswhitelondon@gmail.com>
+ * @since JDK8
+ */
+class FingerprintSet {
+
+	/** The initial number of slots. */
+	static final int INITIAL = 1 << 12;
+
+	/** The maximum number of slots, whose table occupies one gibibyte. */
+	static final int MAXIMUM = 1 << 27;
+
+	/** The content of an empty slot. */
+	private static final long EMPTY = 0L;
+
+	/** The constant recorded in place of the zero fingerprint. */
+	private static final long ZERO = 0x9e3779b97f4a7c15L;
+
+	/** The table of slots. */
+	private ByteBuffer table;
+
+	/** The mask that reduces a fingerprint to a slot, which is one less than the number of slots. */
+	private int mask;
+
+	/** The number of fingerprints recorded. */
+	private int size;
+
+	/** The number of fingerprints beyond which the table is doubled in size. */
+	private int threshold;
+
+	/**
+	 * Creates an empty set with the initial number of slots.
+	 */
+	FingerprintSet() {
+
+		this(INITIAL);
+
+	}
+
+	/**
+	 * Creates an empty set with the specified number of slots.
+	 * 
+	 * @param slots
+	 *            the number of slots, which must be a power of two no greater than the maximum number of slots.
+	 */
+	FingerprintSet(int slots) {
+
+		allocate(slots);
+
+		size = 0;
+
+	}
+
+	/**
+	 * Records the specified fingerprint unless it has already been recorded.
+	 * 
+	 * @param fingerprint
+	 *            the fingerprint.
+	 * @return true if the fingerprint was recorded, false if it had already been recorded.
+	 */
+	synchronized boolean add(long fingerprint) {
+
+		if (fingerprint == EMPTY) {
+
+			fingerprint = ZERO;
+
+		}
+
+		int slot = (int) fingerprint & mask;
+
+		while (true) {
+
+			long current = table.getLong(slot << 3);
+
+			if (current == EMPTY) {
+
+				break;
+
+			}
+
+			if (current == fingerprint) {
+
+				return false;
+
+			}
+
+			slot = (slot + 1) & mask;
+
+		}
+
+		table.putLong(slot << 3, fingerprint);
+
+		size++;
+
+		if (size > threshold) {
+
+			grow();
+
+		}
+
+		return true;
+
+	}
+
+	/**
+	 * Asserts that the specified fingerprint has been recorded.
+	 * 
+	 * @param fingerprint
+	 *            the fingerprint.
+	 * @return true if the fingerprint has been recorded, false otherwise.
+	 */
+	synchronized boolean contains(long fingerprint) {
+
+		if (fingerprint == EMPTY) {
+
+			fingerprint = ZERO;
+
+		}
+
+		int slot = (int) fingerprint & mask;
+
+		while (true) {
+
+			long current = table.getLong(slot << 3);
+
+			if (current == EMPTY) {
+
+				return false;
+
+			}
+
+			if (current == fingerprint) {
+
+				return true;
+
+			}
+
+			slot = (slot + 1) & mask;
+
+		}
+
+	}
+
+	/**
+	 * Yields the number of fingerprints recorded.
+	 * 
+	 * @return the number of fingerprints.
+	 */
+	synchronized int size() {
+
+		return size;
+
+	}
+
+	/**
+	 * Yields the number of slots of the table.
+	 * 
+	 * @return the number of slots.
+	 */
+	synchronized int slots() {
+
+		return mask + 1;
+
+	}
+
+	/**
+	 * Allocates an empty table with the specified number of slots.
+	 * 
+	 * @param slots
+	 *            the number of slots.
+	 */
+	private void allocate(int slots) {
+
+		table = ByteBuffer.allocateDirect(slots << 3).order(ByteOrder.nativeOrder());
+
+		mask = slots - 1;
+
+		threshold = slots - (slots >>> 2);
+
+	}
+
+	/**
+	 * Doubles the number of slots of the table, recording every fingerprint again within the new table.
+	 */
+	private void grow() {
+
+		int slots = mask + 1;
+
+		if (slots >= MAXIMUM) {
+
+			throw new DingoException("Unable to record more than " + threshold + " distinct scenarios");
+
+		}
+
+		ByteBuffer previous = table;
+
+		allocate(slots << 1);
+
+		for (int index = 0; index < slots; index++) {
+
+			long fingerprint = previous.getLong(index << 3);
+
+			if (fingerprint != EMPTY) {
+
+				int slot = (int) fingerprint & mask;
+
+				while (table.getLong(slot << 3) != EMPTY) {
+
+					slot = (slot + 1) & mask;
+
+				}
+
+				table.putLong(slot << 3, fingerprint);
+
+			}
+
+		}
+
+	}
+
+}
\ No newline at end of file
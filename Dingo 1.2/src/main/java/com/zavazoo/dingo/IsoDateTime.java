@@ -0,0 +1,540 @@
+/*
+ * Zavazoo Dingo 1.2 - Java API for Data-Driven Testing 
+ * Copyright (C) 2013 Chris White <chriswhitelondon@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.zavazoo.dingo;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+
+/**
+ * Parses the common forms of ISO-8601 date/times without consulting any converter registry or time zone database, so
+ * that a date/time may be parsed with a single small allocation.<br/>
+ * <br/>
+ * The forms recognised are a calendar date 'yyyy-MM-dd', optionally followed by a time 'THH:mm', 'THH:mm:ss' or
+ * 'THH:mm:ss.fffffffff' with between one and nine fraction digits, optionally followed by an offset 'Z', '+HH:mm',
+ * '+HHmm' or '+HH'. Any other form, including ordinal and week dates, times without a date and offsets beyond
+ * eighteen hours, is not recognised, and the caller falls back to a general-purpose parser.<br/>
+ * <br/>
+ * A date/time without an offset is local, and is resolved against the default time zone by the caller.
+ * 
+ * @author Chris White <chriswhitelondon@gmail.com>
+ * @since JDK8
+ */
+final class IsoDateTime {
+
+	/** The number of days from the first day of the year zero to the first day of the year 1970. */
+	private static final long DAYS_0000_TO_1970 = 719528L;
+
+	/** The number of seconds in a day. */
+	private static final long SECONDS_PER_DAY = 86400L;
+
+	/** The greatest absolute offset in seconds, which is eighteen hours. */
+	private static final int MAXIMUM_OFFSET = 18 * 3600;
+
+	/** The powers of ten by which fractions of between zero and nine digits are scaled to nanoseconds. */
+	private static final int[] SCALES = { 1000000000, 100000000, 10000000, 1000000, 100000, 10000, 1000, 100, 10, 1 };
+
+	/** The year. */
+	final int year;
+
+	/** The month of the year, starting at one. */
+	final int month;
+
+	/** The day of the month, starting at one. */
+	final int day;
+
+	/** The hour of the day. */
+	final int hour;
+
+	/** The minute of the hour. */
+	final int minute;
+
+	/** The second of the minute. */
+	final int second;
+
+	/** The nanosecond of the second. */
+	final int nano;
+
+	/** The offset from UTC in seconds, or zero if no offset was specified. */
+	final int offset;
+
+	/** Indicates whether an offset was specified, without which the date/time is local. */
+	final boolean zoned;
+
+	/**
+	 * Creates a parsed date/time comprising the specified fields.
+	 * 
+	 * @param year
+	 *            the year.
+	 * @param month
+	 *            the month of the year.
+	 * @param day
+	 *            the day of the month.
+	 * @param hour
+	 *            the hour of the day.
+	 * @param minute
+	 *            the minute of the hour.
+	 * @param second
+	 *            the second of the minute.
+	 * @param nano
+	 *            the nanosecond of the second.
+	 * @param offset
+	 *            the offset from UTC in seconds.
+	 * @param zoned
+	 *            whether an offset was specified.
+	 */
+	private IsoDateTime(int year, int month, int day, int hour, int minute, int second, int nano, int offset,
+			boolean zoned) {
+
+		this.year = year;
+		this.month = month;
+		this.day = day;
+		this.hour = hour;
+		this.minute = minute;
+		this.second = second;
+		this.nano = nano;
+		this.offset = offset;
+		this.zoned = zoned;
+
+	}
+
+	/**
+	 * Parses the specified text as an ISO-8601 date/time in one of the recognised forms.
+	 * 
+	 * @param text
+	 *            the text.
+	 * @return the parsed date/time, or null if the text is not in a recognised form or its fields are out of range.
+	 */
+	static IsoDateTime parse(String text) {
+
+		int length = text.length();
+
+		if (length < 10 || text.charAt(4) != '-' || text.charAt(7) != '-') {
+
+			return null;
+
+		}
+
+		int year = digits(text, 0, 4);
+		int month = digits(text, 5, 2);
+		int day = digits(text, 8, 2);
+
+		if (year < 0 || month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month)) {
+
+			return null;
+
+		}
+
+		if (length == 10) {
+
+			return new IsoDateTime(year, month, day, 0, 0, 0, 0, 0, false);
+
+		}
+
+		if (length < 16 || text.charAt(10) != 'T' || text.charAt(13) != ':') {
+
+			return null;
+
+		}
+
+		int hour = digits(text, 11, 2);
+		int minute = digits(text, 14, 2);
+		int second = 0;
+		int nano = 0;
+
+		int position = 16;
+
+		if (position < length && text.charAt(position) == ':') {
+
+			second = digits(text, position + 1, 2);
+
+			position += 3;
+
+			if (position < length && text.charAt(position) == '.') {
+
+				int start = ++position;
+
+				while (position < length && position - start < 10 && Character.isDigit(text.charAt(position))) {
+
+					position++;
+
+				}
+
+				int count = position - start;
+
+				if (count == 0 || count > 9) {
+
+					return null;
+
+				}
+
+				nano = digits(text, start, count) * SCALES[count];
+
+			}
+
+		}
+
+		if (hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59) {
+
+			return null;
+
+		}
+
+		if (position == length) {
+
+			return new IsoDateTime(year, month, day, hour, minute, second, nano, 0, false);
+
+		}
+
+		int offset = offset(text, position);
+
+		if (offset == Integer.MIN_VALUE) {
+
+			return null;
+
+		}
+
+		return new IsoDateTime(year, month, day, hour, minute, second, nano, offset, true);
+
+	}
+
+	/**
+	 * Parses the specified text as an ISO-8601 date/time yielding an instant, resolving a local date/time against the
+	 * system default time zone.
+	 * 
+	 * @param text
+	 *            the text.
+	 * @return the instant.
+	 */
+	static Instant instant(String text) {
+
+		IsoDateTime parsed = parse(text);
+
+		if (parsed == null) {
+
+			return zoned(text).toInstant();
+
+		}
+
+		if (parsed.zoned) {
+
+			return Instant.ofEpochSecond(parsed.localEpochSecond() - parsed.offset, parsed.nano);
+
+		}
+
+		return parsed.local().atZone(ZoneId.systemDefault()).toInstant();
+
+	}
+
+	/**
+	 * Parses the specified text as an ISO-8601 date/time yielding a date/time with an offset, resolving a local
+	 * date/time against the system default time zone.
+	 * 
+	 * @param text
+	 *            the text.
+	 * @return the date/time with an offset.
+	 */
+	static OffsetDateTime offsetDateTime(String text) {
+
+		IsoDateTime parsed = parse(text);
+
+		if (parsed == null) {
+
+			return zoned(text).toOffsetDateTime();
+
+		}
+
+		if (parsed.zoned) {
+
+			return OffsetDateTime.of(parsed.local(), parsed.zoneOffset());
+
+		}
+
+		return parsed.local().atZone(ZoneId.systemDefault()).toOffsetDateTime();
+
+	}
+
+	/**
+	 * Parses the specified text as an ISO-8601 date or date/time yielding its date, disregarding any time and offset.
+	 * 
+	 * @param text
+	 *            the text.
+	 * @return the date.
+	 */
+	static LocalDate localDate(String text) {
+
+		IsoDateTime parsed = parse(text);
+
+		if (parsed == null) {
+
+			return LocalDate.from(text.indexOf('T') < 0 ? DateTimeFormatter.ISO_DATE.parse(text)
+					: DateTimeFormatter.ISO_DATE_TIME.parse(text));
+
+		}
+
+		return LocalDate.of(parsed.year, parsed.month, parsed.day);
+
+	}
+
+	/**
+	 * Yields this date/time as a java.time local date/time, disregarding any offset.
+	 * 
+	 * @return the local date/time.
+	 */
+	LocalDateTime local() {
+
+		return LocalDateTime.of(year, month, day, hour, minute, second, nano);
+
+	}
+
+	/**
+	 * Yields the number of seconds from the epoch to this date/time, disregarding any offset.
+	 * 
+	 * @return the local epoch second.
+	 */
+	long localEpochSecond() {
+
+		return epochDay() * SECONDS_PER_DAY + hour * 3600 + minute * 60 + second;
+
+	}
+
+	/**
+	 * Yields the number of milliseconds from the epoch to this date/time, disregarding any offset, with any fraction
+	 * of a millisecond truncated.
+	 * 
+	 * @return the local epoch millisecond.
+	 */
+	long localEpochMilli() {
+
+		return localEpochSecond() * 1000 + nano / 1000000;
+
+	}
+
+	/**
+	 * Yields the offset of this date/time as a java.time offset, which is cached by java.time for every offset that is
+	 * a whole number of quarter hours.
+	 * 
+	 * @return the offset.
+	 */
+	ZoneOffset zoneOffset() {
+
+		return offset == 0 ? ZoneOffset.UTC : ZoneOffset.ofTotalSeconds(offset);
+
+	}
+
+	/**
+	 * Yields the number of days from the epoch to the date of this date/time.
+	 * 
+	 * @return the epoch day.
+	 */
+	private long epochDay() {
+
+		long total = 365L * year + (year + 3) / 4 - (year + 99) / 100 + (year + 399) / 400;
+
+		total += (367 * month - 362) / 12 + day - 1;
+
+		if (month > 2) {
+
+			total -= isLeap(year) ? 1 : 2;
+
+		}
+
+		return total - DAYS_0000_TO_1970;
+
+	}
+
+	/**
+	 * Parses the specified text, which is not in a recognised form, using the general-purpose java.time parser,
+	 * resolving a local date/time against the system default time zone.
+	 * 
+	 * @param text
+	 *            the text.
+	 * @return the zoned date/time.
+	 */
+	private static ZonedDateTime zoned(String text) {
+
+		TemporalAccessor parsed = DateTimeFormatter.ISO_DATE_TIME.parseBest(text, ZonedDateTime::from,
+				LocalDateTime::from);
+
+		if (parsed instanceof ZonedDateTime) {
+
+			return (ZonedDateTime) parsed;
+
+		}
+
+		return ((LocalDateTime) parsed).atZone(ZoneId.systemDefault());
+
+	}
+
+	/**
+	 * Parses the offset at the specified position within the specified text, which must extend to the end of the text.
+	 * 
+	 * @param text
+	 *            the text.
+	 * @param position
+	 *            the position of the offset.
+	 * @return the offset in seconds, or <code>Integer.MIN_VALUE</code> if the offset is not in a recognised form.
+	 */
+	private static int offset(String text, int position) {
+
+		int length = text.length() - position;
+		char sign = text.charAt(position);
+
+		if (sign == 'Z') {
+
+			return length == 1 ? 0 : Integer.MIN_VALUE;
+
+		}
+
+		if (sign != '+' && sign != '-') {
+
+			return Integer.MIN_VALUE;
+
+		}
+
+		int hours;
+		int minutes;
+
+		if (length == 3) {
+
+			hours = digits(text, position + 1, 2);
+			minutes = 0;
+
+		} else if (length == 5) {
+
+			hours = digits(text, position + 1, 2);
+			minutes = digits(text, position + 3, 2);
+
+		} else if (length == 6 && text.charAt(position + 3) == ':') {
+
+			hours = digits(text, position + 1, 2);
+			minutes = digits(text, position + 4, 2);
+
+		} else {
+
+			return Integer.MIN_VALUE;
+
+		}
+
+		if (hours < 0 || minutes < 0 || minutes > 59) {
+
+			return Integer.MIN_VALUE;
+
+		}
+
+		int offset = hours * 3600 + minutes * 60;
+
+		if (offset > MAXIMUM_OFFSET) {
+
+			return Integer.MIN_VALUE;
+
+		}
+
+		return sign == '-' ? -offset : offset;
+
+	}
+
+	/**
+	 * Parses the specified number of decimal digits at the specified position within the specified text.
+	 * 
+	 * @param text
+	 *            the text.
+	 * @param position
+	 *            the position of the first digit.
+	 * @param count
+	 *            the number of digits, which must not exceed nine.
+	 * @return the number, or -1 if the text does not comprise the digits.
+	 */
+	private static int digits(String text, int position, int count) {
+
+		if (position + count > text.length()) {
+
+			return -1;
+
+		}
+
+		int number = 0;
+
+		for (int index = position; index < position + count; index++) {
+
+			int digit = text.charAt(index) - '0';
+
+			if (digit < 0 || digit > 9) {
+
+				return -1;
+
+			}
+
+			number = number * 10 + digit;
+
+		}
+
+		return number;
+
+	}
+
+	/**
+	 * Yields the number of days in the specified month of the specified year.
+	 * 
+	 * @param year
+	 *            the year.
+	 * @param month
+	 *            the month of the year.
+	 * @return the number of days.
+	 */
+	private static int lengthOfMonth(int year, int month) {
+
+		switch (month) {
+
+		case 2:
+			return isLeap(year) ? 29 : 28;
+
+		case 4:
+		case 6:
+		case 9:
+		case 11:
+			return 30;
+
+		default:
+			return 31;
+
+		}
+
+	}
+
+	/**
+	 * Indicates whether the specified year is a leap year in the proleptic Gregorian calendar.
+	 * 
+	 * @param year
+	 *            the year.
+	 * @return true if the year is a leap year.
+	 */
+	private static boolean isLeap(int year) {
+
+		return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,201 @@
+/*
+ * Zavazoo Dingo 1.2 - Java API for Data-Driven Testing 
+ * Copyright (C) 2013 Chris White <chriswhitelondon@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.zavazoo.dingo;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Accumulates the notifications of the work done by Dingo within counters that are exposed through JMX, each of which
+ * is striped so that threads notifying concurrently rarely contend.
+ * 
+ * @author Chris White <chriswhitelondon@gmail.com>
+ * @since JDK8
+ */
+class JmxMetrics implements DingoMetrics, DingoMetricsMXBean {
+
+	/** The number of test data files opened. */
+	private LongAdder filesOpened;
+
+	/** The number of lines read and parsed. */
+	private LongAdder linesRead;
+
+	/** The total length of the lines read and parsed. */
+	private LongAdder bytesRead;
+
+	/** The total number of nanoseconds taken to parse lines. */
+	private LongAdder parseNanos;
+
+	/** The number of conversions and the nanoseconds taken by those conversions, keyed by the name of the type. */
+	private ConcurrentMap<String, LongAdder[]> conversions;
+
+	/** The number of JSON values bound. */
+	private LongAdder jsonBindings;
+
+	/** The total number of nanoseconds taken to bind JSON values. */
+	private LongAdder jsonBindingNanos;
+
+	/**
+	 * Creates a listener whose counters are all zero.
+	 */
+	JmxMetrics() {
+
+		filesOpened = new LongAdder();
+		linesRead = new LongAdder();
+		bytesRead = new LongAdder();
+		parseNanos = new LongAdder();
+
+		conversions = new ConcurrentHashMap<String, LongAdder[]>();
+
+		jsonBindings = new LongAdder();
+		jsonBindingNanos = new LongAdder();
+
+	}
+
+	@Override
+	public void fileOpened(String name, long size) {
+
+		filesOpened.increment();
+
+	}
+
+	@Override
+	public void lineRead(int length, long nanos) {
+
+		linesRead.increment();
+		bytesRead.add(length);
+		parseNanos.add(nanos);
+
+	}
+
+	@Override
+	public void valueConverted(String type, long nanos) {
+
+		LongAdder[] counters = conversions.computeIfAbsent(type, key -> new LongAdder[] { new LongAdder(),
+				new LongAdder() });
+
+		counters[0].increment();
+		counters[1].add(nanos);
+
+	}
+
+	@Override
+	public void jsonBound(long nanos) {
+
+		jsonBindings.increment();
+		jsonBindingNanos.add(nanos);
+
+	}
+
+	@Override
+	public long getFilesOpened() {
+
+		return filesOpened.sum();
+
+	}
+
+	@Override
+	public long getLinesRead() {
+
+		return linesRead.sum();
+
+	}
+
+	@Override
+	public long getBytesRead() {
+
+		return bytesRead.sum();
+
+	}
+
+	@Override
+	public long getParseNanos() {
+
+		return parseNanos.sum();
+
+	}
+
+	@Override
+	public Map<String, Long> getConversions() {
+
+		return sums(0);
+
+	}
+
+	@Override
+	public Map<String, Long> getConversionNanos() {
+
+		return sums(1);
+
+	}
+
+	@Override
+	public long getJsonBindings() {
+
+		return jsonBindings.sum();
+
+	}
+
+	@Override
+	public long getJsonBindingNanos() {
+
+		return jsonBindingNanos.sum();
+
+	}
+
+	@Override
+	public void reset() {
+
+		filesOpened.reset();
+		linesRead.reset();
+		bytesRead.reset();
+		parseNanos.reset();
+
+		conversions.clear();
+
+		jsonBindings.reset();
+		jsonBindingNanos.reset();
+
+	}
+
+	/**
+	 * Yields the sum of the specified counter of the conversions to each type, keyed by the name of the type.
+	 * 
+	 * @param counter
+	 *            zero for the number of conversions, or one for the nanoseconds taken by the conversions.
+	 * @return the sums, ordered by the name of the type.
+	 */
+	private Map<String, Long> sums(int counter) {
+
+		Map<String, Long> sums = new TreeMap<String, Long>();
+
+		for (Map.Entry<String, LongAdder[]> entry : conversions.entrySet()) {
+
+			sums.put(entry.getKey(), entry.getValue()[counter].sum());
+
+		}
+
+		return sums;
+
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,336 @@
+/*
+ * Zavazoo Dingo 1.2 - Java API for Data-Driven Testing 
+ * Copyright (C) 2013 Chris White <chriswhitelondon@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.zavazoo.dingo;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.codehaus.jackson.JsonParser;
+import org.codehaus.jackson.JsonToken;
+import org.codehaus.jackson.map.ObjectMapper;
+import org.codehaus.jackson.map.ObjectReader;
+import org.codehaus.jackson.map.type.TypeFactory;
+import org.codehaus.jackson.type.JavaType;
+
+/**
+ * Provides JSON data binding through a single object mapper shared by every value, together with object readers
+ * cached according to the type to which JSON is bound, so that neither the mapper nor the metadata of a given type is
+ * constructed more than once per process.<br/>
+ * <br/>
+ * The object mapper is never reconfigured after construction, and object readers are immutable, so JSON data binding
+ * is thread-safe.
+ * 
+ * @author Chris White <chriswhitelondon@gmail.com>
+ * @since JDK8
+ */
+class Json {
+
+	/** The object mapper shared by every value. */
+	private static final ObjectMapper mapper = new ObjectMapper();
+
+	/** The object readers that bind to an object of a given type, keyed by that type. */
+	private static final ConcurrentMap<Class<?>, ObjectReader> objectReaders = new ConcurrentHashMap<>();
+
+	/** The object readers that bind to a list of a given entry type, keyed by that entry type. */
+	private static final ConcurrentMap<Class<?>, ObjectReader> listReaders = new ConcurrentHashMap<>();
+
+	/** The object readers that bind to a map of given key and value types, keyed by key type then value type. */
+	private static final ConcurrentMap<Class<?>, ConcurrentMap<Class<?>, ObjectReader>> mapReaders =
+			new ConcurrentHashMap<>();
+
+	/**
+	 * Creates no instance, since JSON data binding is provided by static operations only.
+	 */
+	private Json() {
+	}
+
+	/**
+	 * Binds the specified JSON to an object of the specified type.
+	 * 
+	 * @param json
+	 *            the JSON.
+	 * @param type
+	 *            the type of the object.
+	 * @return the object.
+	 */
+	static <ObjectType> ObjectType object(String json, Class<ObjectType> type) {
+
+		ObjectReader reader = objectReaders.computeIfAbsent(type, key -> mapper.reader(key));
+
+		return read(reader, json);
+
+	}
+
+	/**
+	 * Binds the specified JSON to a list with entries of the specified type.
+	 * 
+	 * @param json
+	 *            the JSON.
+	 * @param type
+	 *            the type of each list entry.
+	 * @return the list.
+	 */
+	static <EntryType> List<EntryType> list(String json, Class<EntryType> type) {
+
+		ObjectReader reader = listReaders.computeIfAbsent(type, key -> {
+
+			JavaType listType = TypeFactory.defaultInstance().constructCollectionType(List.class, key);
+
+			return mapper.reader(listType);
+
+		});
+
+		return read(reader, json);
+
+	}
+
+	/**
+	 * Binds the specified JSON to a map with keys and values of the specified types.
+	 * 
+	 * @param json
+	 *            the JSON.
+	 * @param keyType
+	 *            the type of the key of each map entry.
+	 * @param valueType
+	 *            the type of the value of each map entry.
+	 * @return the map.
+	 */
+	static <KeyType, ValueType> Map<KeyType, ValueType> map(String json, Class<KeyType> keyType,
+			Class<ValueType> valueType) {
+
+		ConcurrentMap<Class<?>, ObjectReader> readers = mapReaders.computeIfAbsent(keyType,
+				key -> new ConcurrentHashMap<Class<?>, ObjectReader>());
+
+		ObjectReader reader = readers.computeIfAbsent(valueType, value -> {
+
+			JavaType mapType = TypeFactory.defaultInstance().constructMapType(Map.class, keyType, value);
+
+			return mapper.reader(mapType);
+
+		});
+
+		return read(reader, json);
+
+	}
+
+	/**
+	 * Resolves the specified JSON pointer against the specified JSON, streaming through the JSON and skipping every
+	 * object member and array element that is not on the path, so that no part of the JSON is bound.<br/>
+	 * <br/>
+	 * A scalar is yielded as a value comprising its text, such as the unquoted string or the number as written, and
+	 * null is yielded as a null value, whereas an object or array is yielded as a value sliced from the JSON, which may
+	 * itself be resolved or bound. The slice is located by the current location of the parser, which follows the
+	 * opening and closing brackets exactly, rather than by the token location, which precedes any separator.
+	 * 
+	 * @param json
+	 *            the JSON.
+	 * @param pointer
+	 *            the JSON pointer, such as '/name/first' or '/items/0', or the empty string for the whole JSON.
+	 * @return the value, or null if the JSON has no value at the pointer.
+	 */
+	static Value pointer(String json, String pointer) {
+
+		if (!pointer.isEmpty() && pointer.charAt(0) != '/') {
+
+			throw new DingoException("Unable to resolve the JSON pointer '" + pointer + "', which must start with '/'");
+
+		}
+
+		long start = Metrics.start();
+
+		try (JsonParser parser = mapper.getJsonFactory().createJsonParser(json)) {
+
+			JsonToken token = parser.nextToken();
+
+			int position = 0;
+
+			while (position < pointer.length() && token != null) {
+
+				int next = pointer.indexOf('/', position + 1);
+
+				if (next < 0) {
+
+					next = pointer.length();
+
+				}
+
+				String segment = pointer.substring(position + 1, next).replace("~1", "/").replace("~0", "~");
+
+				position = next;
+
+				if (token == JsonToken.START_OBJECT) {
+
+					token = member(parser, segment);
+
+				} else if (token == JsonToken.START_ARRAY) {
+
+					token = element(parser, segment);
+
+				} else {
+
+					token = null;
+
+				}
+
+			}
+
+			Value value = null;
+
+			if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+
+				int from = (int) parser.getCurrentLocation().getCharOffset();
+
+				parser.skipChildren();
+
+				int to = (int) parser.getCurrentLocation().getCharOffset() + 1;
+
+				value = new Value(json, from, to - from);
+
+			} else if (token == JsonToken.VALUE_NULL) {
+
+				value = new Value(null);
+
+			} else if (token != null) {
+
+				value = new Value(parser.getText());
+
+			}
+
+			Metrics.jsonBound(start);
+
+			return value;
+
+		} catch (IOException error) {
+
+			throw new DingoException(error);
+
+		}
+
+	}
+
+	/**
+	 * Advances the specified parser, positioned at the start of an object, to the value of the member with the
+	 * specified name, skipping the values of every preceding member.
+	 * 
+	 * @param parser
+	 *            the parser.
+	 * @param name
+	 *            the name.
+	 * @return the first token of the value, or null if the object has no member with the name.
+	 */
+	private static JsonToken member(JsonParser parser, String name) throws IOException {
+
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+
+			JsonToken token = parser.nextToken();
+
+			if (name.equals(parser.getCurrentName())) {
+
+				return token;
+
+			}
+
+			parser.skipChildren();
+
+		}
+
+		return null;
+
+	}
+
+	/**
+	 * Advances the specified parser, positioned at the start of an array, to the element with the specified index,
+	 * skipping every preceding element.
+	 * 
+	 * @param parser
+	 *            the parser.
+	 * @param index
+	 *            the index, which must comprise decimal digits without leading zeros.
+	 * @return the first token of the element, or null if the index is invalid or beyond the end of the array.
+	 */
+	private static JsonToken element(JsonParser parser, String index) throws IOException {
+
+		if (index.isEmpty() || index.length() > 9 || (index.charAt(0) == '0' && index.length() > 1)) {
+
+			return null;
+
+		}
+
+		for (int at = 0; at < index.length(); at++) {
+
+			if (index.charAt(at) < '0' || index.charAt(at) > '9') {
+
+				return null;
+
+			}
+
+		}
+
+		int remaining = Integer.parseInt(index);
+
+		for (JsonToken token = parser.nextToken(); token != JsonToken.END_ARRAY && token != null; token = parser
+				.nextToken()) {
+
+			if (remaining-- == 0) {
+
+				return token;
+
+			}
+
+			parser.skipChildren();
+
+		}
+
+		return null;
+
+	}
+
+	/**
+	 * Binds the specified JSON using the specified object reader, wrapping any error within a Dingo exception.
+	 * 
+	 * @param reader
+	 *            the object reader.
+	 * @param json
+	 *            the JSON.
+	 * @return the bound object.
+	 */
+	private static <BoundType> BoundType read(ObjectReader reader, String json) {
+
+		long start = Metrics.start();
+
+		try {
+
+			BoundType bound = reader.readValue(json);
+
+			Metrics.jsonBound(start);
+
+			return bound;
+
+		} catch (Throwable error) {
+
+			throw new DingoException(error);
+
+		}
+
+	}
+
+}
\ No newline at end of file
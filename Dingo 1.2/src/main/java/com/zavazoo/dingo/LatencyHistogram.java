@@ -0,0 +1,282 @@
+/*
+ * Zavazoo Dingo 1.2 - Java API for Data-Driven Testing 
+ * Copyright (C) 2013 Chris White <chriswhitelondon@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.zavazoo.dingo;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Records the latency of running each scenario of a test data file within a log-linear histogram, in the manner of an
+ * HDR histogram, together with the slowest scenarios and their line numbers.<br/>
+ * <br/>
+ * Latencies below 128 nanoseconds are counted exactly, and every other latency is counted within a bucket that spans
+ * less than 1/64 of its lower bound, so that each percentile is accurate to within 1.6% using a fixed array of fewer
+ * than 4,000 counters regardless of the number of scenarios. Recording a latency is lock-free, except when the latency
+ * is among the slowest recorded so far.
+ * 
+ * @author Chris White <chriswhitelondon@gmail.com>
+ * @since JDK8
+ */
+class LatencyHistogram {
+
+	/** The number of bits of a latency that are counted exactly within each power of two. */
+	private static final int PRECISION = 7;
+
+	/** The number of buckets within each power of two, beyond the latencies that are counted exactly. */
+	private static final int HALF = 1 << (PRECISION - 1);
+
+	/** The counter of each bucket. */
+	private AtomicLongArray counts;
+
+	/** The number of latencies recorded. */
+	private AtomicLong count;
+
+	/** The maximum latency recorded. */
+	private AtomicLong maximum;
+
+	/** The number of slowest scenarios retained. */
+	private int slowest;
+
+	/** The slowest scenarios recorded so far, ordered so that the fastest of them is at the head. */
+	private PriorityQueue<Sample> samples;
+
+	/** The latency that a scenario must exceed to be among the slowest, once the slowest scenarios are retained. */
+	private volatile long threshold;
+
+	/**
+	 * Creates an empty histogram that retains the specified number of slowest scenarios.
+	 * 
+	 * @param slowest
+	 *            the number of slowest scenarios retained.
+	 */
+	LatencyHistogram(int slowest) {
+
+		this.slowest = slowest;
+
+		counts = new AtomicLongArray((64 - PRECISION + 1) * HALF);
+
+		count = new AtomicLong();
+		maximum = new AtomicLong();
+
+		samples = new PriorityQueue<Sample>(Math.max(1, slowest), Comparator.comparingLong(sample -> sample.latency));
+
+		threshold = slowest > 0 ? -1 : Long.MAX_VALUE;
+
+	}
+
+	/**
+	 * Records the specified latency of running the scenario with the specified line number.
+	 * 
+	 * @param number
+	 *            the line number.
+	 * @param latency
+	 *            the latency in nanoseconds.
+	 */
+	void record(int number, long latency) {
+
+		latency = Math.max(0, latency);
+
+		counts.incrementAndGet(index(latency));
+		count.incrementAndGet();
+
+		maximum.accumulateAndGet(latency, Math::max);
+
+		if (latency > threshold) {
+
+			synchronized (samples) {
+
+				samples.add(new Sample(number, latency));
+
+				if (samples.size() > slowest) {
+
+					samples.poll();
+
+				}
+
+				if (samples.size() == slowest) {
+
+					threshold = samples.peek().latency;
+
+				}
+
+			}
+
+		}
+
+	}
+
+	/**
+	 * Yields the number of latencies recorded.
+	 * 
+	 * @return the number of latencies.
+	 */
+	long count() {
+
+		return count.get();
+
+	}
+
+	/**
+	 * Yields the maximum latency recorded.
+	 * 
+	 * @return the maximum latency in nanoseconds.
+	 */
+	long maximum() {
+
+		return maximum.get();
+
+	}
+
+	/**
+	 * Yields the latency at or below which the specified proportion of latencies were recorded, as the highest latency
+	 * counted within the same bucket, but no higher than the maximum latency recorded.
+	 * 
+	 * @param proportion
+	 *            the proportion, between zero and one.
+	 * @return the latency in nanoseconds, or zero if no latencies were recorded.
+	 */
+	long percentile(double proportion) {
+
+		long total = count.get();
+
+		if (total == 0) {
+
+			return 0;
+
+		}
+
+		long target = Math.max(1, (long) Math.ceil(proportion * total));
+
+		long cumulative = 0;
+
+		for (int index = 0; index < counts.length(); index++) {
+
+			cumulative += counts.get(index);
+
+			if (cumulative >= target) {
+
+				return Math.min(highest(index), maximum.get());
+
+			}
+
+		}
+
+		return maximum.get();
+
+	}
+
+	/**
+	 * Yields the slowest scenarios recorded, slowest first.
+	 * 
+	 * @return the slowest scenarios.
+	 */
+	List<Sample> slowest() {
+
+		List<Sample> slowest;
+
+		synchronized (samples) {
+
+			slowest = new ArrayList<Sample>(samples);
+
+		}
+
+		Collections.sort(slowest, Comparator.comparingLong((Sample sample) -> sample.latency).reversed());
+
+		return slowest;
+
+	}
+
+	/**
+	 * Yields the index of the bucket that counts the specified latency.
+	 * 
+	 * @param latency
+	 *            the latency, which must not be negative.
+	 * @return the index.
+	 */
+	static int index(long latency) {
+
+		if (latency < 2 * HALF) {
+
+			return (int) latency;
+
+		}
+
+		int shift = 64 - Long.numberOfLeadingZeros(latency) - PRECISION;
+
+		return shift * HALF + (int) (latency >>> shift);
+
+	}
+
+	/**
+	 * Yields the highest latency counted within the bucket with the specified index.
+	 * 
+	 * @param index
+	 *            the index.
+	 * @return the highest latency.
+	 */
+	static long highest(int index) {
+
+		if (index < 2 * HALF) {
+
+			return index;
+
+		}
+
+		int shift = index / HALF - 1;
+
+		long lowest = (long) (index % HALF + HALF) << shift;
+
+		return lowest + (1L << shift) - 1;
+
+	}
+
+	/**
+	 * Constitutes the latency of running a single scenario.
+	 */
+	static class Sample {
+
+		/** The line number of the scenario. */
+		final int number;
+
+		/** The latency in nanoseconds. */
+		final long latency;
+
+		/**
+		 * Creates the specified latency of running the scenario with the specified line number.
+		 * 
+		 * @param number
+		 *            the line number.
+		 * @param latency
+		 *            the latency in nanoseconds.
+		 */
+		Sample(int number, long latency) {
+
+			this.number = number;
+			this.latency = latency;
+
+		}
+
+	}
+
+}
\ No newline at end of file
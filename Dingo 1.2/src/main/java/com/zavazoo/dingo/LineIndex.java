@@ -0,0 +1,186 @@
+/*
+ * Zavazoo Dingo 1.2 - Java API for Data-Driven Testing 
+ * Copyright (C) 2013 Chris White <chriswhitelondon@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.zavazoo.dingo;
+
+import java.util.stream.IntStream;
+
+/**
+ * Divides a memory-mapped test data file into chunks aligned to the start of a line, and counts the lines comprised by
+ * each chunk in parallel, so that the chunks may subsequently be read independently while yielding correct line
+ * numbers.
+ * 
+ * @author Chris White <chriswhitelondon@gmail.com>
+ * @since JDK8
+ */
+class LineIndex {
+
+	/** The minimum size of a chunk in bytes, below which the cost of splitting exceeds the benefit. */
+	static final long MINIMUM_CHUNK = 1 << 20;
+
+	/** The positions within the file at which each chunk starts, followed by the size of the file. */
+	private long[] offsets;
+
+	/** The number of lines preceding each chunk, followed by the total number of lines. */
+	private int[] numbers;
+
+	/**
+	 * Creates an index of the specified memory-mapped file divided into the specified number of chunks.
+	 * 
+	 * @param file
+	 *            the mapped file.
+	 * @param chunks
+	 *            the number of chunks, some of which may be empty.
+	 */
+	LineIndex(MappedFile file, int chunks) {
+
+		this(file, 0, 0, chunks);
+
+	}
+
+	/**
+	 * Creates an index of the remainder of the specified memory-mapped file, starting at the specified position and
+	 * preceded by the specified number of lines, divided into the specified number of chunks.
+	 * 
+	 * @param file
+	 *            the mapped file.
+	 * @param start
+	 *            the position at which the remainder of the file starts, which must be the start of a line.
+	 * @param number
+	 *            the number of lines preceding the remainder of the file.
+	 * @param chunks
+	 *            the number of chunks, some of which may be empty.
+	 */
+	LineIndex(MappedFile file, long start, int number, int chunks) {
+
+		long size = file.size();
+
+		offsets = new long[chunks + 1];
+		numbers = new int[chunks + 1];
+
+		offsets[0] = start;
+		offsets[chunks] = size;
+
+		numbers[0] = number;
+
+		for (int chunk = 1; chunk < chunks; chunk++) {
+
+			long position = Math.max(offsets[chunk - 1], start + (size - start) / chunks * chunk);
+
+			if (position > start && position < size) {
+
+				MappedReader reader = new MappedReader(file, position, size);
+				reader.nextLine();
+
+				position = reader.position();
+
+			}
+
+			offsets[chunk] = position;
+
+		}
+
+		int[] counts = new int[chunks];
+
+		IntStream.range(0, chunks).parallel().forEach(chunk -> {
+
+			MappedReader reader = new MappedReader(file, offsets[chunk], offsets[chunk + 1]);
+
+			while (reader.nextLine()) {
+
+				counts[chunk]++;
+
+			}
+
+		});
+
+		for (int chunk = 0; chunk < chunks; chunk++) {
+
+			numbers[chunk + 1] = numbers[chunk] + counts[chunk];
+
+		}
+
+	}
+
+	/**
+	 * Yields the number of chunks that suits a file of the specified size, given the parallelism of the common
+	 * fork-join pool.
+	 * 
+	 * @param size
+	 *            the size of the file in bytes.
+	 * @return the number of chunks.
+	 */
+	static int chunks(long size) {
+
+		long parallelism = Runtime.getRuntime().availableProcessors();
+
+		return (int) Math.max(1, Math.min(size / MINIMUM_CHUNK, parallelism * 4));
+
+	}
+
+	/**
+	 * Yields the number of chunks.
+	 * 
+	 * @return the number of chunks.
+	 */
+	int chunks() {
+
+		return offsets.length - 1;
+
+	}
+
+	/**
+	 * Yields the position within the file at which the specified chunk starts.
+	 * 
+	 * @param chunk
+	 *            the chunk, or the number of chunks to yield the size of the file.
+	 * @return the position.
+	 */
+	long offset(int chunk) {
+
+		return offsets[chunk];
+
+	}
+
+	/**
+	 * Yields the number of lines preceding the specified chunk, including any lines preceding the remainder of the
+	 * file that was indexed.
+	 * 
+	 * @param chunk
+	 *            the chunk, or the number of chunks to yield the total number of lines.
+	 * @return the number of lines.
+	 */
+	int number(int chunk) {
+
+		return numbers[chunk];
+
+	}
+
+	/**
+	 * Yields the total number of lines comprised by the file, including any lines preceding the remainder of the file
+	 * that was indexed.
+	 * 
+	 * @return the number of lines.
+	 */
+	int count() {
+
+		return numbers[numbers.length - 1];
+
+	}
+
+}
\ No newline at end of file
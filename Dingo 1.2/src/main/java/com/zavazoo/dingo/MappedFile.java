@@ -0,0 +1,240 @@
+/*
+ * Zavazoo Dingo 1.2 - Java API for Data-Driven Testing 
+ * Copyright (C) 2013 Chris White <chriswhitelondon@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.zavazoo.dingo;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Provides read-only memory-mapped access to a test data file located on the file system, or extracted from a JAR or
+ * decompressed to a temporary file on the file system.
+ * 
+ * @author Chris White <chriswhitelondon@gmail.com>
+ * @since JDK8
+ */
+class MappedFile {
+
+	/**
+	 * The temporary files extracted from non-file or compressed resources, keyed by the external form of the resource
+	 * URL.
+	 */
+	private static final ConcurrentMap<String, File> extracted = new ConcurrentHashMap<String, File>();
+
+	/** The file channel used to map regions of the file. */
+	private FileChannel channel;
+
+	/** The size of the file in bytes. */
+	private long size;
+
+	/** The file, or null if the file was extracted from a resource to a temporary file. */
+	private File file;
+
+	/**
+	 * Opens the file located by the specified URL, extracting the file to a temporary file first unless the URL refers
+	 * directly to the file system.
+	 * 
+	 * @param url
+	 *            the URL.
+	 */
+	MappedFile(URL url) {
+
+		this(url, Compression.NONE);
+
+	}
+
+	/**
+	 * Opens the file located by the specified URL, compressed in the specified compression format, extracting and
+	 * decompressing the file to a temporary file first unless the URL refers directly to an uncompressed file on the
+	 * file system.
+	 * 
+	 * @param url
+	 *            the URL.
+	 * @param compression
+	 *            the compression format.
+	 */
+	MappedFile(URL url, Compression compression) {
+
+		this(locate(url, compression));
+
+		if (compression != Compression.NONE || !"file".equals(url.getProtocol())) {
+
+			file = null;
+
+		}
+
+	}
+
+	/**
+	 * Opens the specified file.
+	 * 
+	 * @param file
+	 *            the file.
+	 */
+	MappedFile(File file) {
+
+		try {
+
+			channel = new RandomAccessFile(file, "r").getChannel();
+
+			size = channel.size();
+
+		} catch (IOException error) {
+
+			throw new DingoException(error);
+
+		}
+
+		this.file = file;
+
+	}
+
+	/**
+	 * Maps the specified region of the file into memory.
+	 * 
+	 * @param position
+	 *            the position of the region within the file.
+	 * @param length
+	 *            the length of the region, which must not exceed <code>Integer.MAX_VALUE</code>.
+	 * @return the mapped region.
+	 */
+	MappedByteBuffer map(long position, long length) {
+
+		try {
+
+			return channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+
+		} catch (IOException error) {
+
+			throw new DingoException(error);
+
+		}
+
+	}
+
+	/**
+	 * Yields the size of the file in bytes.
+	 * 
+	 * @return the size.
+	 */
+	long size() {
+
+		return size;
+
+	}
+
+	/**
+	 * Yields the file on the file system that is mapped, unless the file was extracted from a resource to a temporary
+	 * file whose name and modification time identify nothing about the resource.
+	 * 
+	 * @return the file, or null if the file was extracted from a resource.
+	 */
+	File getFile() {
+
+		return file;
+
+	}
+
+	/**
+	 * Closes the file, although regions that have already been mapped remain valid.
+	 */
+	void close() {
+
+		try {
+
+			channel.close();
+
+		} catch (IOException error) {
+
+			throw new DingoException(error);
+
+		}
+
+	}
+
+	/**
+	 * Locates the file on the file system that corresponds to the specified URL, compressed in the specified compression
+	 * format, extracting and decompressing the resource to a temporary file at most once per process when the URL does
+	 * not refer directly to an uncompressed file on the file system.
+	 * 
+	 * @param url
+	 *            the URL.
+	 * @param compression
+	 *            the compression format.
+	 * @return the file.
+	 */
+	private static File locate(URL url, Compression compression) {
+
+		if (compression == Compression.NONE && "file".equals(url.getProtocol())) {
+
+			try {
+
+				return new File(url.toURI());
+
+			} catch (URISyntaxException error) {
+
+				throw new DingoException(error);
+
+			}
+
+		}
+
+		return extracted.computeIfAbsent(url.toExternalForm(), key -> extract(url, compression));
+
+	}
+
+	/**
+	 * Extracts the resource located by the specified URL, decompressing the resource according to the specified
+	 * compression format, to a temporary file that is deleted when the process exits.
+	 * 
+	 * @param url
+	 *            the URL.
+	 * @param compression
+	 *            the compression format.
+	 * @return the temporary file.
+	 */
+	private static File extract(URL url, Compression compression) {
+
+		try (InputStream input = compression.decompress(url.openStream())) {
+
+			File file = File.createTempFile("dingo-", ".data");
+			file.deleteOnExit();
+
+			Files.copy(input, file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+
+			return file;
+
+		} catch (IOException error) {
+
+			throw new DingoException(error);
+
+		}
+
+	}
+
+}
\ No newline at end of file
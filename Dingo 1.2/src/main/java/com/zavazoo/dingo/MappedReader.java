@@ -0,0 +1,238 @@
+/*
+ * Zavazoo Dingo 1.2 - Java API for Data-Driven Testing 
+ * Copyright (C) 2013 Chris White <chriswhitelondon@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.zavazoo.dingo;
+
+import java.nio.MappedByteBuffer;
+
+/**
+ * Reads successive lines from a region of a memory-mapped file, without decoding or copying any bytes.<br/>
+ * <br/>
+ * The region is mapped through a window which slides forward whenever a line extends beyond the end of the window, so
+ * that files larger than the maximum size of a single mapping may be read. Lines are terminated by a line feed, a
+ * carriage return, or a carriage return followed by a line feed, consistent with <code>BufferedReader</code>.
+ * 
+ * @author Chris White <chriswhitelondon@gmail.com>
+ * @since JDK8
+ */
+class MappedReader {
+
+	/** The default size of the window through which the region is mapped. */
+	static final int WINDOW = 1 << 28;
+
+	/** The mapped file. */
+	private MappedFile file;
+
+	/** The position at which the region ends within the file. */
+	private long end;
+
+	/** The maximum size of the window through which the region is mapped. */
+	private int window;
+
+	/** The currently mapped window, or null if no window has been mapped. */
+	private MappedByteBuffer buffer;
+
+	/** The position at which the currently mapped window starts within the file. */
+	private long start;
+
+	/** The position within the file of the first byte of the next line. */
+	private long position;
+
+	/** The index within the current window of the first byte of the current line. */
+	private int lineStart;
+
+	/** The index within the current window following the last byte of the current line. */
+	private int lineEnd;
+
+	/**
+	 * Creates a reader over the specified region of the specified mapped file.
+	 * 
+	 * @param file
+	 *            the mapped file.
+	 * @param position
+	 *            the position at which the region starts, which must be the start of a line.
+	 * @param end
+	 *            the position at which the region ends, which must be the start of a line or the end of the file.
+	 */
+	MappedReader(MappedFile file, long position, long end) {
+
+		this(file, position, end, WINDOW);
+
+	}
+
+	/**
+	 * Creates a reader over the specified region of the specified mapped file using a window of the specified size.
+	 * 
+	 * @param file
+	 *            the mapped file.
+	 * @param position
+	 *            the position at which the region starts, which must be the start of a line.
+	 * @param end
+	 *            the position at which the region ends, which must be the start of a line or the end of the file.
+	 * @param window
+	 *            the maximum size of the window, which must exceed the length of the longest line.
+	 */
+	MappedReader(MappedFile file, long position, long end, int window) {
+
+		this.file = file;
+		this.position = position;
+		this.end = end;
+		this.window = window;
+
+	}
+
+	/**
+	 * Advances to the next line of the region.
+	 * 
+	 * @return true if there is a next line, false if the end of the region has been reached.
+	 */
+	boolean nextLine() {
+
+		if (position >= end) {
+
+			return false;
+
+		}
+
+		while (true) {
+
+			if (buffer == null || position + 1 > start + buffer.limit()) {
+
+				slide();
+
+			}
+
+			int index = (int) (position - start);
+			int limit = buffer.limit();
+			boolean last = start + limit >= end;
+
+			int scan = index;
+
+			while (scan < limit) {
+
+				byte current = buffer.get(scan);
+
+				if (current == '\n' || current == '\r') {
+
+					break;
+
+				}
+
+				scan++;
+
+			}
+
+			if (scan == limit && last) {
+
+				lineStart = index;
+				lineEnd = limit;
+
+				position = end;
+
+				return true;
+
+			}
+
+			if (scan < limit && (buffer.get(scan) == '\n' || scan + 1 < limit || last)) {
+
+				int next = scan + 1;
+
+				if (buffer.get(scan) == '\r' && next < limit && buffer.get(next) == '\n') {
+
+					next++;
+
+				}
+
+				lineStart = index;
+				lineEnd = scan;
+
+				position = start + next;
+
+				return true;
+
+			}
+
+			if (index == 0) {
+
+				throw new DingoException("Unable to read a line longer than " + window + " bytes at position "
+						+ position);
+
+			}
+
+			slide();
+
+		}
+
+	}
+
+	/**
+	 * Yields the currently mapped window, within which the current line is located.
+	 * 
+	 * @return the window.
+	 */
+	MappedByteBuffer buffer() {
+
+		return buffer;
+
+	}
+
+	/**
+	 * Yields the index within the current window of the first byte of the current line.
+	 * 
+	 * @return the index.
+	 */
+	int lineStart() {
+
+		return lineStart;
+
+	}
+
+	/**
+	 * Yields the index within the current window following the last byte of the current line.
+	 * 
+	 * @return the index.
+	 */
+	int lineEnd() {
+
+		return lineEnd;
+
+	}
+
+	/**
+	 * Yields the position within the file of the first byte of the next line.
+	 * 
+	 * @return the position.
+	 */
+	long position() {
+
+		return position;
+
+	}
+
+	/**
+	 * Maps a new window starting at the first byte of the next line.
+	 */
+	private void slide() {
+
+		start = position;
+
+		buffer = file.map(start, Math.min(window, end - start));
+
+	}
+
+}
\ No newline at end of file
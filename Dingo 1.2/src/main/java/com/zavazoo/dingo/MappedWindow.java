@@ -0,0 +1,106 @@
+/*
+ * Zavazoo Dingo 1.2 - Java API for Data-Driven Testing 
+ * Copyright (C) 2013 Chris White <chriswhitelondon@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.zavazoo.dingo;
+
+import java.nio.MappedByteBuffer;
+
+/**
+ * Provides random access to arbitrary regions of a memory-mapped file through a window that is remapped only when a
+ * region extends beyond the currently mapped window, which is therefore rarely remapped when regions are accessed in
+ * ascending order.
+ * 
+ * @author Chris White <chriswhitelondon@gmail.com>
+ * @since JDK8
+ */
+class MappedWindow {
+
+	/** The mapped file. */
+	private MappedFile file;
+
+	/** The preferred size of the window. */
+	private int window;
+
+	/** The currently mapped window, or null if no window has been mapped. */
+	private MappedByteBuffer buffer;
+
+	/** The position at which the currently mapped window starts within the file. */
+	private long start;
+
+	/**
+	 * Creates a window over the specified mapped file using the default window size.
+	 * 
+	 * @param file
+	 *            the mapped file.
+	 */
+	MappedWindow(MappedFile file) {
+
+		this(file, MappedReader.WINDOW);
+
+	}
+
+	/**
+	 * Creates a window over the specified mapped file using a window of the specified preferred size.
+	 * 
+	 * @param file
+	 *            the mapped file.
+	 * @param window
+	 *            the preferred size of the window, which is exceeded only by a region larger than the window.
+	 */
+	MappedWindow(MappedFile file, int window) {
+
+		this.file = file;
+		this.window = window;
+
+	}
+
+	/**
+	 * Ensures that the specified region of the file is mapped and yields the index of the region within the window.
+	 * 
+	 * @param position
+	 *            the position of the region within the file.
+	 * @param length
+	 *            the length of the region.
+	 * @return the index of the region within the window.
+	 */
+	int locate(long position, int length) {
+
+		if (buffer == null || position < start || position + length > start + buffer.limit()) {
+
+			start = position;
+
+			buffer = file.map(position, Math.max(length, Math.min(window, file.size() - position)));
+
+		}
+
+		return (int) (position - start);
+
+	}
+
+	/**
+	 * Yields the currently mapped window, within which the most recently located region is located.
+	 * 
+	 * @return the window.
+	 */
+	MappedByteBuffer buffer() {
+
+		return buffer;
+
+	}
+
+}
\ No newline at end of file
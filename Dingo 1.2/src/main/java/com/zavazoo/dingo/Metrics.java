@@ -0,0 +1,201 @@
+/*
+ * Zavazoo Dingo 1.2 - Java API for Data-Driven Testing 
+ * Copyright (C) 2013 Chris White <chriswhitelondon@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.zavazoo.dingo;
+
+import java.lang.management.ManagementFactory;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+
+/**
+ * Holds the metrics listener registered for the whole process, and notifies the listener on behalf of the rest of
+ * Dingo, measuring elapsed time only while a listener is registered.<br/>
+ * <br/>
+ * A measurement is started by <code>start</code>, which yields zero while no listener is registered, and is finished
+ * by a notification that is issued only when the measurement was started, so that the cost of metrics while no
+ * listener is registered is a single volatile read.
+ * 
+ * @author Chris White <chriswhitelondon@gmail.com>
+ * @since JDK8
+ */
+class Metrics {
+
+	/** The listener registered for the whole process, or null if no listener is registered. */
+	private static volatile DingoMetrics listener = null;
+
+	static {
+
+		if ("jmx".equalsIgnoreCase(System.getProperty("dingo.metrics"))) {
+
+			jmx();
+
+		}
+
+	}
+
+	/**
+	 * Prevents instantiation.
+	 */
+	private Metrics() {
+	}
+
+	/**
+	 * Registers the specified listener, in place of any listener already registered.
+	 * 
+	 * @param metrics
+	 *            the listener, or null to stop notifying any listener.
+	 */
+	static void register(DingoMetrics metrics) {
+
+		listener = metrics;
+
+	}
+
+	/**
+	 * Registers the default listener, in place of any listener already registered, with the platform MBean server,
+	 * replacing any MBean already registered under the same name.
+	 * 
+	 * @return the default listener.
+	 */
+	static synchronized DingoMetrics jmx() {
+
+		JmxMetrics metrics = new JmxMetrics();
+
+		try {
+
+			MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+			ObjectName name = new ObjectName(DingoMetrics.OBJECT_NAME);
+
+			if (server.isRegistered(name)) {
+
+				server.unregisterMBean(name);
+
+			}
+
+			server.registerMBean(new StandardMBean(metrics, DingoMetricsMXBean.class, true), name);
+
+		} catch (JMException error) {
+
+			throw new DingoException(error);
+
+		}
+
+		register(metrics);
+
+		return metrics;
+
+	}
+
+	/**
+	 * Starts a measurement of elapsed time, if a listener is registered.
+	 * 
+	 * @return the current value of the high-resolution time source in nanoseconds, or zero if no listener is
+	 *         registered.
+	 */
+	static long start() {
+
+		return listener == null ? 0 : System.nanoTime();
+
+	}
+
+	/**
+	 * Notifies the listener that the test data file with the specified logical name has been opened.
+	 * 
+	 * @param name
+	 *            the logical name.
+	 * @param size
+	 *            the size of the test data file in bytes, or -1 if the size is not known.
+	 */
+	static void fileOpened(String name, long size) {
+
+		DingoMetrics metrics = listener;
+
+		if (metrics != null) {
+
+			metrics.fileOpened(name, size);
+
+		}
+
+	}
+
+	/**
+	 * Notifies the listener that a line of the specified length has been read and parsed, if the measurement started
+	 * at the specified time was started.
+	 * 
+	 * @param length
+	 *            the length of the line.
+	 * @param start
+	 *            the time at which the measurement started, or zero if the measurement was not started.
+	 */
+	static void lineRead(int length, long start) {
+
+		DingoMetrics metrics = listener;
+
+		if (metrics != null && start != 0) {
+
+			metrics.lineRead(length, System.nanoTime() - start);
+
+		}
+
+	}
+
+	/**
+	 * Notifies the listener that a value has been converted to the type with the specified name, if the measurement
+	 * started at the specified time was started.
+	 * 
+	 * @param type
+	 *            the name of the type.
+	 * @param start
+	 *            the time at which the measurement started, or zero if the measurement was not started.
+	 */
+	static void valueConverted(String type, long start) {
+
+		DingoMetrics metrics = listener;
+
+		if (metrics != null && start != 0) {
+
+			metrics.valueConverted(type, System.nanoTime() - start);
+
+		}
+
+	}
+
+	/**
+	 * Notifies the listener that a JSON value has been bound, if the measurement started at the specified time was
+	 * started.
+	 * 
+	 * @param start
+	 *            the time at which the measurement started, or zero if the measurement was not started.
+	 */
+	static void jsonBound(long start) {
+
+		DingoMetrics metrics = listener;
+
+		if (metrics != null && start != 0) {
+
+			metrics.jsonBound(System.nanoTime() - start);
+
+		}
+
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,673 @@
+/*
+ * Zavazoo Dingo 1.2 - Java API for Data-Driven Testing 
+ * Copyright (C) 2013 Chris White <chriswhitelondon@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.zavazoo.dingo;
+
+import java.io.File;
+import java.util.Locale;
+import java.util.function.Consumer;
+
+/**
+ * Constitutes the options that determine how Dingo reads and parses a test data file.<br/>
+ * <br/>
+ * Each option is assigned using a method that yields these options, so that several options may be assigned in a
+ * single expression, for example <code>new Options().mapped(true)</code>.
+ * 
+ * @author Chris White <chriswhitelondon@gmail.com>
+ * @since JDK8
+ */
+public class Options {
+
+	/** Asserts that the test data file is memory-mapped rather than read through a buffered reader. */
+	private boolean mapped;
+
+	/** Asserts that scenarios are read from the compiled binary form of the test data file. */
+	private boolean compiled;
+
+	/** The cache directory within which the compiled binary form of each test data file is stored. */
+	private File cache;
+
+	/** The sink to which test report information is written, or null to write to the print stream for reporting. */
+	private ReportSink sink;
+
+	/** Asserts that test report information is written by a background thread. */
+	private boolean asynchronous;
+
+	/** The interval between the line numbers of the lines that are reported. */
+	private int sample;
+
+	/** Asserts that only the lines of scenarios that fail are reported. */
+	private boolean failures;
+
+	/** Asserts that scenarios which duplicate a scenario already read are skipped. */
+	private boolean distinct;
+
+	/** The index of the shard whose scenarios are read, which is reduced modulo the shard count. */
+	private int shardIndex;
+
+	/** The number of shards among which the scenarios are divided. */
+	private int shardCount;
+
+	/** The way in which scenarios are assigned to shards. */
+	private Sharding sharding;
+
+	/** The maximum number of criteria of each scenario that are read. */
+	private int projection;
+
+	/** The maximum number of scenarios read ahead on a background thread, or zero if scenarios are not read ahead. */
+	private int readAhead;
+
+	/** The preparation applied to each scenario when the scenario is read, or null. */
+	private Consumer<Scenario> preparation;
+
+	/** The maximum number of scenarios run concurrently by a scenario runner. */
+	private int concurrency;
+
+	/** The number of slowest scenarios reported, or -1 if the latency of each scenario is not recorded. */
+	private int latency;
+
+	/** Asserts that the first line of the test data file is a header line naming the columns. */
+	private boolean header;
+
+	/**
+	 * Creates the default options, which read the test data file through a buffered reader.
+	 */
+	public Options() {
+
+		mapped = false;
+		compiled = false;
+
+		cache = new File(System.getProperty("dingo.cache", System.getProperty("java.io.tmpdir") + File.separator
+				+ "dingo-cache"));
+
+		sink = null;
+		asynchronous = false;
+		sample = 1;
+		failures = false;
+		distinct = false;
+
+		shardIndex = Integer.getInteger("dingo.shard.index", 0);
+		shardCount = Integer.getInteger("dingo.shard.count", 1);
+
+		sharding = null;
+
+		projection = Tokenizer.ALL;
+
+		readAhead = 0;
+		preparation = null;
+
+		concurrency = 64;
+
+		latency = -1;
+
+		header = false;
+
+	}
+
+	/**
+	 * Specifies whether the test data file is memory-mapped rather than read through a buffered reader.<br/>
+	 * <br/>
+	 * A memory-mapped test data file is scanned for line and column boundaries directly from the mapped bytes, which
+	 * are decoded as UTF-8 only when a value is actually read. Test data files packaged within a JAR are extracted to
+	 * a temporary file once per process so that they may also be mapped.
+	 * 
+	 * @param mapped
+	 *            true to memory-map the test data file, false otherwise.
+	 * @return these options.
+	 */
+	public Options mapped(boolean mapped) {
+
+		this.mapped = mapped;
+
+		return this;
+
+	}
+
+	/**
+	 * Specifies whether scenarios are read from the compiled binary form of the test data file, rather than by
+	 * tokenizing each line of the test data file.<br/>
+	 * <br/>
+	 * The test data file is compiled at most once into a compact binary form, comprising each value as a
+	 * length-prefixed range of UTF-8 encoded bytes together with a table of the position of each line. The binary form
+	 * is stored within the cache directory keyed by the path, size and modification time of the test data file, or by
+	 * a checksum of a test data file extracted from a resource, and is memory-mapped by subsequent runs and by
+	 * concurrent processes, such as forked test JVMs, which therefore never tokenize the test data file again until it
+	 * changes.
+	 * 
+	 * @param compiled
+	 *            true to read scenarios from the compiled binary form, false otherwise.
+	 * @return these options.
+	 */
+	public Options compiled(boolean compiled) {
+
+		this.compiled = compiled;
+
+		return this;
+
+	}
+
+	/**
+	 * Specifies the cache directory within which the compiled binary form of each test data file is stored, which
+	 * otherwise defaults to the value of the 'dingo.cache' system property or else to a directory named 'dingo-cache'
+	 * within the temporary directory.
+	 * 
+	 * @param cache
+	 *            the cache directory.
+	 * @return these options.
+	 */
+	public Options cache(File cache) {
+
+		this.cache = cache;
+
+		return this;
+
+	}
+
+	/**
+	 * Specifies the sink to which test report information is written, instead of the print stream for report
+	 * information, such as <code>ReportSink.file(file)</code> to append test report information to a file.<br/>
+	 * <br/>
+	 * Test report information is written to the sink even if the print stream for report information is null.
+	 * 
+	 * @param sink
+	 *            the sink, or null to write to the print stream for report information.
+	 * @return these options.
+	 */
+	public Options sink(ReportSink sink) {
+
+		this.sink = sink;
+
+		return this;
+
+	}
+
+	/**
+	 * Specifies whether test report information is written asynchronously by a background thread, so that writing the
+	 * test report is no longer on the path of each test.<br/>
+	 * <br/>
+	 * Each record is handed to the background thread through a bounded ring buffer, and is formatted, written and
+	 * flushed in batches by the background thread. Every record reported is written before the process exits.
+	 * 
+	 * @param asynchronous
+	 *            true to write test report information asynchronously, false otherwise.
+	 * @return these options.
+	 */
+	public Options asynchronous(boolean asynchronous) {
+
+		this.asynchronous = asynchronous;
+
+		return this;
+
+	}
+
+	/**
+	 * Specifies that only every nth line of the test data file is reported, starting with the first line.
+	 * 
+	 * @param every
+	 *            the interval between the line numbers of the lines that are reported, which is one to report every
+	 *            line.
+	 * @return these options.
+	 */
+	public Options sample(int every) {
+
+		if (every < 1) {
+
+			throw new DingoException("Unable to sample every " + every + " lines of test report information");
+
+		}
+
+		this.sample = every;
+
+		return this;
+
+	}
+
+	/**
+	 * Specifies whether only the lines of scenarios that fail are reported, so that nothing is written for scenarios
+	 * that pass.<br/>
+	 * <br/>
+	 * Scenarios run in parallel are reported as soon as they fail. A scenario read sequentially fails when the test
+	 * abandons the scenarios without reading the next scenario, and is reported when the scenarios are garbage
+	 * collected or, at the latest, when the process exits.
+	 * 
+	 * @param failures
+	 *            true to report only the lines of scenarios that fail, false otherwise.
+	 * @return these options.
+	 */
+	public Options failures(boolean failures) {
+
+		this.failures = failures;
+
+		return this;
+
+	}
+
+	/**
+	 * Specifies whether scenarios which duplicate a scenario already read are skipped, so that each distinct scenario
+	 * is read, reported and run only once.<br/>
+	 * <br/>
+	 * The 64-bit hash of every scenario read is recorded off-heap, within an open-addressing hash table, so that tens
+	 * of millions of scenarios may be de-duplicated while streaming without enlarging the heap.
+	 * 
+	 * @param distinct
+	 *            true to skip duplicate scenarios, false otherwise.
+	 * @return these options.
+	 */
+	public Options distinct(boolean distinct) {
+
+		this.distinct = distinct;
+
+		return this;
+
+	}
+
+	/**
+	 * Specifies that only the scenarios assigned to the shard with the specified index, among the specified number of
+	 * shards, are read, so that test JVMs which each read a different shard of the same test data file run every
+	 * scenario exactly once between them.<br/>
+	 * <br/>
+	 * The shard otherwise defaults to the values of the 'dingo.shard.index' and 'dingo.shard.count' system properties,
+	 * or else to a single shard comprising every scenario. The shard index is reduced modulo the shard count, so that
+	 * the one-based fork number of a forked test JVM, such as <code>${surefire.forkNumber}</code>, may be specified as
+	 * the shard index when the shard count is the number of forks.<br/>
+	 * <br/>
+	 * Only the scenarios of a test data file are sharded, so that a scenario table always comprises every scenario.
+	 * 
+	 * @param index
+	 *            the shard index.
+	 * @param count
+	 *            the shard count.
+	 * @return these options.
+	 */
+	public Options shard(int index, int count) {
+
+		if (count < 1) {
+
+			throw new DingoException("Unable to divide scenarios among " + count + " shards");
+
+		}
+
+		this.shardIndex = index;
+		this.shardCount = count;
+
+		return this;
+
+	}
+
+	/**
+	 * Specifies the way in which scenarios are assigned to shards, which otherwise defaults to the value of the
+	 * 'dingo.shard.mode' system property, either 'hash' or 'range', or else to assignment by hash. The system property
+	 * is only read once the scenarios are sharded.
+	 * 
+	 * @param sharding
+	 *            the way in which scenarios are assigned to shards.
+	 * @return these options.
+	 */
+	public Options sharding(Sharding sharding) {
+
+		this.sharding = sharding;
+
+		return this;
+
+	}
+
+	/**
+	 * Specifies that only the expected result and the specified number of leading criteria of each scenario are read,
+	 * so that the remaining columns of a wide test data file, which a test never reads, are not even scanned.<br/>
+	 * <br/>
+	 * Each scenario comprises at most the specified number of criteria, and scenarios are de-duplicated and sharded by
+	 * hash according to the values read alone.
+	 * 
+	 * @param criteria
+	 *            the number of criteria read.
+	 * @return these options.
+	 */
+	public Options projection(int criteria) {
+
+		if (criteria < 0) {
+
+			throw new DingoException("Unable to read " + criteria + " criteria of each scenario");
+
+		}
+
+		this.projection = criteria;
+
+		return this;
+
+	}
+
+	/**
+	 * Specifies that scenarios read sequentially are read, parsed and prepared ahead of the test on a background thread,
+	 * holding at most the specified number of scenarios in memory, so that the test pays only for running each
+	 * scenario.<br/>
+	 * <br/>
+	 * Each scenario is reported only when it is handed to the test, exactly as if it had been read by the test. Once
+	 * scenarios are read ahead, the remaining scenarios are streamed sequentially even by a parallel stream.
+	 * 
+	 * @param depth
+	 *            the maximum number of scenarios read ahead, or zero to read scenarios on the thread of the test.
+	 * @return these options.
+	 */
+	public Options readAhead(int depth) {
+
+		if (depth < 0) {
+
+			throw new DingoException("Unable to read " + depth + " scenarios ahead");
+
+		}
+
+		this.readAhead = depth;
+
+		return this;
+
+	}
+
+	/**
+	 * Specifies a preparation that is applied to each scenario read sequentially before the scenario is handed to the
+	 * test, such as <code>scenario -> scenario.criteria[0].datetime()</code> to convert a value eagerly.<br/>
+	 * <br/>
+	 * When scenarios are read ahead, the preparation is applied on the background thread, so that the test reads each
+	 * prepared conversion without repeating it because every value retains its most recent conversion.
+	 * 
+	 * @param preparation
+	 *            the preparation, or null to prepare nothing.
+	 * @return these options.
+	 */
+	public Options prepare(Consumer<Scenario> preparation) {
+
+		this.preparation = preparation;
+
+		return this;
+
+	}
+
+	/**
+	 * Specifies the maximum number of scenarios that are run concurrently when every scenario is run by
+	 * <code>Dingo.run</code>, which otherwise defaults to 64, so that components bound by I/O may be tested by many
+	 * scenarios at once without overwhelming the resources they depend upon.
+	 * 
+	 * @param scenarios
+	 *            the maximum number of scenarios run concurrently.
+	 * @return these options.
+	 */
+	public Options concurrency(int scenarios) {
+
+		if (scenarios < 1) {
+
+			throw new DingoException("Unable to run " + scenarios + " scenarios concurrently");
+
+		}
+
+		this.concurrency = scenarios;
+
+		return this;
+
+	}
+
+	/**
+	 * Specifies that the latency of running the task for each scenario is recorded whenever Dingo runs the scenarios,
+	 * through <code>Dingo.run</code> or <code>Dingo.parallel</code>, and that the median, 99th percentile and maximum
+	 * latency are reported once every scenario has run, followed by the specified number of slowest scenarios with
+	 * their line numbers.<br/>
+	 * <br/>
+	 * Latencies are recorded within a fixed-size log-linear histogram, so that recording costs a few atomic increments
+	 * per scenario regardless of the number of scenarios.
+	 * 
+	 * @param slowest
+	 *            the number of slowest scenarios reported.
+	 * @return these options.
+	 */
+	public Options latency(int slowest) {
+
+		if (slowest < 0) {
+
+			throw new DingoException("Unable to report the " + slowest + " slowest scenarios");
+
+		}
+
+		this.latency = slowest;
+
+		return this;
+
+	}
+
+	/**
+	 * Specifies whether the first line of the test data file is a header line naming the columns, rather than a
+	 * scenario, so that the value of each column may be read by name.<br/>
+	 * <br/>
+	 * The header line is read when the test data file is opened and is neither reported nor run, while the scenarios
+	 * retain the line numbers of their lines within the test data file, starting at two. Every column of the header
+	 * line is named, regardless of any projection.
+	 * 
+	 * @param header
+	 *            true if the first line is a header line, false otherwise.
+	 * @return these options.
+	 */
+	public Options header(boolean header) {
+
+		this.header = header;
+
+		return this;
+
+	}
+
+	/**
+	 * Asserts that the test data file is memory-mapped rather than read through a buffered reader.
+	 * 
+	 * @return true if the test data file is memory-mapped, false otherwise.
+	 */
+	boolean isMapped() {
+
+		return mapped;
+
+	}
+
+	/**
+	 * Asserts that scenarios are read from the compiled binary form of the test data file.
+	 * 
+	 * @return true if scenarios are read from the compiled binary form, false otherwise.
+	 */
+	boolean isCompiled() {
+
+		return compiled;
+
+	}
+
+	/**
+	 * Yields the cache directory within which the compiled binary form of each test data file is stored.
+	 * 
+	 * @return the cache directory.
+	 */
+	File getCache() {
+
+		return cache;
+
+	}
+
+	/**
+	 * Yields the sink to which test report information is written.
+	 * 
+	 * @return the sink, or null to write to the print stream for report information.
+	 */
+	ReportSink getSink() {
+
+		return sink;
+
+	}
+
+	/**
+	 * Asserts that test report information is written asynchronously by a background thread.
+	 * 
+	 * @return true if test report information is written asynchronously, false otherwise.
+	 */
+	boolean isAsynchronous() {
+
+		return asynchronous;
+
+	}
+
+	/**
+	 * Yields the interval between the line numbers of the lines that are reported.
+	 * 
+	 * @return the interval.
+	 */
+	int getSample() {
+
+		return sample;
+
+	}
+
+	/**
+	 * Asserts that only the lines of scenarios that fail are reported.
+	 * 
+	 * @return true if only the lines of scenarios that fail are reported, false otherwise.
+	 */
+	boolean isFailures() {
+
+		return failures;
+
+	}
+
+	/**
+	 * Asserts that scenarios which duplicate a scenario already read are skipped.
+	 * 
+	 * @return true if duplicate scenarios are skipped, false otherwise.
+	 */
+	boolean isDistinct() {
+
+		return distinct;
+
+	}
+
+	/**
+	 * Yields the index of the shard whose scenarios are read.
+	 * 
+	 * @return the shard index.
+	 */
+	int getShardIndex() {
+
+		return shardIndex;
+
+	}
+
+	/**
+	 * Yields the number of shards among which the scenarios are divided.
+	 * 
+	 * @return the shard count.
+	 */
+	int getShardCount() {
+
+		return shardCount;
+
+	}
+
+	/**
+	 * Yields the way in which scenarios are assigned to shards.
+	 * 
+	 * @return the way in which scenarios are assigned to shards.
+	 */
+	Sharding getSharding() {
+
+		if (sharding == null) {
+
+			String mode = System.getProperty("dingo.shard.mode", Sharding.HASH.name());
+
+			try {
+
+				sharding = Sharding.valueOf(mode.trim().toUpperCase(Locale.ROOT));
+
+			} catch (IllegalArgumentException error) {
+
+				throw new DingoException("Unable to shard scenarios by the mode '" + mode
+						+ "' of the 'dingo.shard.mode' system property, which must be either 'hash' or 'range'", error);
+
+			}
+
+		}
+
+		return sharding;
+
+	}
+
+	/**
+	 * Yields the maximum number of criteria of each scenario that are read.
+	 * 
+	 * @return the number of criteria read.
+	 */
+	int getProjection() {
+
+		return projection;
+
+	}
+
+	/**
+	 * Yields the maximum number of scenarios read ahead on a background thread.
+	 * 
+	 * @return the maximum number of scenarios read ahead, or zero if scenarios are not read ahead.
+	 */
+	int getReadAhead() {
+
+		return readAhead;
+
+	}
+
+	/**
+	 * Yields the preparation applied to each scenario when the scenario is read.
+	 * 
+	 * @return the preparation, or null.
+	 */
+	Consumer<Scenario> getPreparation() {
+
+		return preparation;
+
+	}
+
+	/**
+	 * Yields the maximum number of scenarios run concurrently by a scenario runner.
+	 * 
+	 * @return the maximum number of scenarios run concurrently.
+	 */
+	int getConcurrency() {
+
+		return concurrency;
+
+	}
+
+	/**
+	 * Yields the number of slowest scenarios reported, when the latency of each scenario is recorded.
+	 * 
+	 * @return the number of slowest scenarios reported, or -1 if the latency of each scenario is not recorded.
+	 */
+	int getLatency() {
+
+		return latency;
+
+	}
+
+	/**
+	 * Asserts that the first line of the test data file is a header line naming the columns.
+	 * 
+	 * @return true if the first line is a header line, false otherwise.
+	 */
+	boolean isHeader() {
+
+		return header;
+
+	}
+
+}
\ No newline at end of file
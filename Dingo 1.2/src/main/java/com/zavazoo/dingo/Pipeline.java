@@ -0,0 +1,260 @@
+/*
+ * Zavazoo Dingo 1.2 - Java API for Data-Driven Testing 
+ * Copyright (C) 2013 Chris White <chriswhitelondon@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.zavazoo.dingo;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Reads, parses and prepares the scenarios of a data file on a background thread, ahead of the thread that runs the
+ * scenarios, so that the running thread pays only for running each scenario.<br/>
+ * <br/>
+ * The background thread hands each scenario to the running thread through a bounded queue, so that at most the depth
+ * of the queue of scenarios are held in memory ahead of the running thread. Each scenario is reported only when it is
+ * handed to the running thread, exactly as if it had been read by the running thread.<br/>
+ * <br/>
+ * The background thread refers to the data file only weakly while waiting for room within the queue, so that a data
+ * file whose scenarios are abandoned may still be garbage collected, whereupon the background thread stops. No entry
+ * may therefore refer to the data file, so the supplier of each line to report captures only what it reads.
+ * 
+ * @author Chris White <chriswhitelondon@gmail.com>
+ * @since JDK8
+ */
+class Pipeline {
+
+	/** The number of milliseconds for which the background thread waits for room within the queue before checking. */
+	private static final long WAIT = 100;
+
+	/** The entry that marks the end of the scenarios. */
+	private static final Entry END = new Entry(null, null);
+
+	/** The data file whose scenarios are read ahead. */
+	private WeakReference<DataFile> dataFile;
+
+	/** The entries read ahead and yet to be handed to the running thread. */
+	private BlockingQueue<Entry> queue;
+
+	/** The background thread that reads ahead. */
+	private Thread thread;
+
+	/** Asserts that the scenarios are no longer required, so that the background thread stops. */
+	private volatile boolean closed;
+
+	/** The failure encountered by the background thread, or null, which is published by the end entry. */
+	private Throwable failure;
+
+	/** Asserts that the end entry has been taken by the running thread. */
+	private boolean ended;
+
+	/**
+	 * Creates a pipeline that reads ahead at most the specified number of scenarios of the specified data file, which
+	 * must be started before scenarios are taken.
+	 * 
+	 * @param dataFile
+	 *            the data file.
+	 * @param depth
+	 *            the maximum number of scenarios read ahead.
+	 */
+	Pipeline(DataFile dataFile, int depth) {
+
+		this.dataFile = new WeakReference<DataFile>(dataFile);
+
+		queue = new ArrayBlockingQueue<Entry>(depth);
+
+		closed = false;
+		failure = null;
+		ended = false;
+
+		thread = new Thread(this::produce, "dingo-pipeline");
+		thread.setDaemon(true);
+
+	}
+
+	/**
+	 * Starts the background thread.
+	 */
+	void start() {
+
+		thread.start();
+
+	}
+
+	/**
+	 * Takes the next entry read ahead, waiting for the background thread if necessary, or yields null if there are no
+	 * more scenarios.
+	 * 
+	 * @return the entry, or null if there are no more scenarios.
+	 */
+	Entry next() {
+
+		if (ended) {
+
+			return null;
+
+		}
+
+		Entry entry;
+
+		try {
+
+			entry = queue.take();
+
+		} catch (InterruptedException interrupted) {
+
+			Thread.currentThread().interrupt();
+
+			throw new DingoException(interrupted);
+
+		}
+
+		if (entry == END) {
+
+			ended = true;
+
+			if (failure instanceof RuntimeException) {
+
+				throw (RuntimeException) failure;
+
+			}
+
+			if (failure instanceof Error) {
+
+				throw (Error) failure;
+
+			}
+
+			return null;
+
+		}
+
+		return entry;
+
+	}
+
+	/**
+	 * Stops the background thread, abandoning every scenario not yet read.
+	 */
+	void close() {
+
+		closed = true;
+
+	}
+
+	/**
+	 * Reads ahead until there are no more scenarios, a failure is encountered, or the scenarios are no longer
+	 * required.
+	 */
+	private void produce() {
+
+		try {
+
+			while (true) {
+
+				DataFile dataFile = this.dataFile.get();
+
+				if (dataFile == null || closed) {
+
+					return;
+
+				}
+
+				Entry entry = dataFile.readAhead();
+
+				dataFile = null;
+
+				if (!put(entry == null ? END : entry) || entry == null) {
+
+					return;
+
+				}
+
+			}
+
+		} catch (RuntimeException | Error failure) {
+
+			this.failure = failure;
+
+			put(END);
+
+		}
+
+	}
+
+	/**
+	 * Puts the specified entry into the queue, waiting for room within the queue for as long as the scenarios are
+	 * still required.
+	 * 
+	 * @param entry
+	 *            the entry.
+	 * @return true if the entry was put into the queue, false if the scenarios are no longer required.
+	 */
+	private boolean put(Entry entry) {
+
+		try {
+
+			while (!closed && dataFile.get() != null) {
+
+				if (queue.offer(entry, WAIT, TimeUnit.MILLISECONDS)) {
+
+					return true;
+
+				}
+
+			}
+
+		} catch (InterruptedException interrupted) {
+		}
+
+		return false;
+
+	}
+
+	/**
+	 * Constitutes a scenario read ahead, together with the line to report when the scenario is handed to the running
+	 * thread.
+	 */
+	static class Entry {
+
+		/** The scenario. */
+		final Scenario scenario;
+
+		/** The supplier of the line to report, or null if the line is not reported. */
+		final Supplier<String> line;
+
+		/**
+		 * Creates an entry comprising the specified scenario and the specified supplier of the line to report.
+		 * 
+		 * @param scenario
+		 *            the scenario.
+		 * @param line
+		 *            the supplier of the line to report, or null if the line is not reported.
+		 */
+		Entry(Scenario scenario, Supplier<String> line) {
+
+			this.scenario = scenario;
+			this.line = line;
+
+		}
+
+	}
+
+}
\ No newline at end of file
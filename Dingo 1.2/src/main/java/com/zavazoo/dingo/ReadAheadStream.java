@@ -0,0 +1,300 @@
+/*
+ * Zavazoo Dingo 1.2 - Java API for Data-Driven Testing 
+ * Copyright (C) 2013 Chris White <chriswhitelondon@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.zavazoo.dingo;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Reads ahead from an input stream on a background thread, so that the thread reading this stream is kept supplied with
+ * bytes while the underlying input stream, such as a decompressing input stream, is read.<br/>
+ * <br/>
+ * The background thread fills a small, fixed pool of large chunks in turn, and hands each filled chunk to the reading
+ * thread through a bounded queue, so that the background thread is never more than the pool of chunks ahead of the
+ * reading thread. The underlying input stream is read, and closed, by the background thread alone.
+ * 
+ * @author Chris White <chriswhitelondon@gmail.com>
+ * @since JDK8
+ */
+class ReadAheadStream extends InputStream {
+
+	/** The size of each chunk of bytes read ahead. */
+	static final int CHUNK = 1 << 20;
+
+	/** The number of chunks of bytes that may be read ahead. */
+	static final int CHUNKS = 4;
+
+	/** The chunk that marks the end of the underlying input stream. */
+	private static final Chunk END = new Chunk(0);
+
+	/** The chunks that have been filled by the background thread and are yet to be read. */
+	private BlockingQueue<Chunk> filled;
+
+	/** The chunks that have been read and may be filled again by the background thread. */
+	private BlockingQueue<Chunk> empty;
+
+	/** The background thread that reads the underlying input stream. */
+	private Thread thread;
+
+	/** The error encountered by the background thread, or null if no error has been encountered. */
+	private volatile IOException error;
+
+	/** The chunk currently being read, or null if no chunk has been taken. */
+	private Chunk chunk;
+
+	/** The index within the current chunk of the next byte to be read. */
+	private int index;
+
+	/**
+	 * Creates a stream that reads ahead from the specified input stream on a background thread.
+	 * 
+	 * @param input
+	 *            the underlying input stream.
+	 */
+	ReadAheadStream(InputStream input) {
+
+		filled = new ArrayBlockingQueue<Chunk>(CHUNKS + 1);
+		empty = new ArrayBlockingQueue<Chunk>(CHUNKS);
+
+		for (int count = 0; count < CHUNKS; count++) {
+
+			empty.add(new Chunk(CHUNK));
+
+		}
+
+		chunk = null;
+		index = 0;
+
+		thread = new Thread(() -> fill(input), "dingo-read-ahead");
+		thread.setDaemon(true);
+		thread.start();
+
+	}
+
+	/**
+	 * Fills chunks from the specified input stream until the end of the input stream is reached, an error is
+	 * encountered, or this stream is closed, and then closes the input stream.
+	 * 
+	 * @param input
+	 *            the underlying input stream.
+	 */
+	private void fill(InputStream input) {
+
+		try {
+
+			while (true) {
+
+				Chunk next = empty.take();
+
+				next.length = 0;
+
+				int read = 0;
+
+				while (next.length < CHUNK && (read = input.read(next.bytes, next.length, CHUNK - next.length)) >= 0) {
+
+					next.length += read;
+
+				}
+
+				if (next.length > 0) {
+
+					filled.put(next);
+
+				}
+
+				if (read < 0) {
+
+					break;
+
+				}
+
+			}
+
+		} catch (IOException error) {
+
+			this.error = error;
+
+		} catch (InterruptedException interrupted) {
+
+			return;
+
+		} finally {
+
+			filled.offer(END);
+
+			try {
+
+				input.close();
+
+			} catch (IOException error) {
+			}
+
+		}
+
+	}
+
+	@Override
+	public int read() throws IOException {
+
+		if (!available(true)) {
+
+			return -1;
+
+		}
+
+		return chunk.bytes[index++] & 0xFF;
+
+	}
+
+	@Override
+	public int read(byte[] bytes, int offset, int length) throws IOException {
+
+		if (length == 0) {
+
+			return 0;
+
+		}
+
+		if (!available(true)) {
+
+			return -1;
+
+		}
+
+		int count = Math.min(length, chunk.length - index);
+
+		System.arraycopy(chunk.bytes, index, bytes, offset, count);
+
+		index += count;
+
+		return count;
+
+	}
+
+	@Override
+	public int available() throws IOException {
+
+		return available(false) ? chunk.length - index : 0;
+
+	}
+
+	/**
+	 * Asserts that bytes of the current chunk remain to be read, taking the next filled chunk when the current chunk has
+	 * been read entirely, if required waiting for the background thread to fill the next chunk.
+	 * 
+	 * @param wait
+	 *            true to wait for the background thread, false otherwise.
+	 * @return true if bytes remain to be read, false otherwise.
+	 */
+	private boolean available(boolean wait) throws IOException {
+
+		if (chunk != null && index < chunk.length) {
+
+			return true;
+
+		}
+
+		if (chunk == END) {
+
+			if (error != null) {
+
+				throw error;
+
+			}
+
+			return false;
+
+		}
+
+		Chunk next;
+
+		try {
+
+			next = wait ? filled.take() : filled.poll();
+
+		} catch (InterruptedException interrupted) {
+
+			Thread.currentThread().interrupt();
+
+			throw new InterruptedIOException();
+
+		}
+
+		if (next == null) {
+
+			return false;
+
+		}
+
+		if (chunk != null) {
+
+			empty.offer(chunk);
+
+		}
+
+		chunk = next;
+		index = 0;
+
+		return available(wait);
+
+	}
+
+	/**
+	 * Closes this stream, stopping the background thread, which in turn closes the underlying input stream.
+	 */
+	@Override
+	public void close() {
+
+		thread.interrupt();
+
+		chunk = END;
+		index = 0;
+
+	}
+
+	/**
+	 * Constitutes a chunk of bytes read ahead.
+	 */
+	private static class Chunk {
+
+		/** The bytes of the chunk. */
+		final byte[] bytes;
+
+		/** The number of bytes filled. */
+		int length;
+
+		/**
+		 * Creates a chunk of the specified capacity.
+		 * 
+		 * @param capacity
+		 *            the capacity.
+		 */
+		Chunk(int capacity) {
+
+			bytes = new byte[capacity];
+			length = 0;
+
+		}
+
+	}
+
+}
\ No newline at end of file
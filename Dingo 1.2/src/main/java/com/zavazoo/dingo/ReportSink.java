@@ -0,0 +1,99 @@
+/*
+ * Zavazoo Dingo 1.2 - Java API for Data-Driven Testing 
+ * Copyright (C) 2013 Chris White <chriswhitelondon@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.zavazoo.dingo;
+
+import java.io.File;
+import java.io.PrintStream;
+
+/**
+ * Constitutes a destination for test report information, to which each record of the test report is written as a
+ * single line.<br/>
+ * <br/>
+ * A sink may be written and flushed by a background thread when test reporting is asynchronous, and by several
+ * threads when scenarios are run in parallel, so every sink must be thread-safe.
+ * 
+ * @author Chris White <chriswhitelondon@gmail.com>
+ * @since JDK8
+ */
+public interface ReportSink {
+
+	/**
+	 * Writes the specified record of the test report, which is terminated by a line separator unless this sink
+	 * discards every record.
+	 * 
+	 * @param record
+	 *            the record.
+	 */
+	void write(String record);
+
+	/**
+	 * Flushes any records that have been written but not yet delivered to the destination.
+	 */
+	void flush();
+
+	/**
+	 * Yields a sink that writes test report information to the specified print stream.
+	 * 
+	 * @param stream
+	 *            the print stream.
+	 * @return the sink.
+	 */
+	static ReportSink stream(PrintStream stream) {
+
+		return new StreamSink(stream);
+
+	}
+
+	/**
+	 * Yields a sink that writes test report information to the standard output stream.
+	 * 
+	 * @return the sink.
+	 */
+	static ReportSink stdout() {
+
+		return new StreamSink(System.out);
+
+	}
+
+	/**
+	 * Yields a sink that appends test report information, encoded as UTF-8, to the specified file through a file
+	 * channel which remains open for the lifetime of the process.
+	 * 
+	 * @param file
+	 *            the file, which is created if it does not already exist.
+	 * @return the sink.
+	 */
+	static ReportSink file(File file) {
+
+		return new ChannelSink(file);
+
+	}
+
+	/**
+	 * Yields a sink that discards all test report information.
+	 * 
+	 * @return the sink.
+	 */
+	static ReportSink none() {
+
+		return new NoneSink();
+
+	}
+
+}
\ No newline at end of file
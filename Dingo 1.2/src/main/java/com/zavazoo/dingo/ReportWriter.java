@@ -0,0 +1,268 @@
+/*
+ * Zavazoo Dingo 1.2 - Java API for Data-Driven Testing 
+ * Copyright (C) 2013 Chris White <chriswhitelondon@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.zavazoo.dingo;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Writes test report information asynchronously on a single daemon thread, which takes records from a bounded ring
+ * buffer shared by every reporter and writes them to their sinks in batches, flushing each sink once per batch.<br/>
+ * <br/>
+ * A reporter blocks only when the ring buffer is full, so that the memory consumed by pending records is bounded. When
+ * the process exits, the scenarios abandoned by a failure are reported and the ring buffer is drained before the
+ * process halts.
+ * 
+ * @author Chris White <chriswhitelondon@gmail.com>
+ * @since JDK8
+ */
+class ReportWriter implements Runnable {
+
+	/** The capacity of the ring buffer. */
+	static final int CAPACITY = 1 << 13;
+
+	/** The maximum number of records written in a single batch. */
+	static final int BATCH = 1 << 10;
+
+	/** The ring buffer of records that have been reported but not yet written. */
+	private static final BlockingQueue<Record> queue = new ArrayBlockingQueue<Record>(CAPACITY);
+
+	/** The reporters retaining a scenario that may yet be abandoned by a failure. */
+	private static final Set<Reporter> reporters = ConcurrentHashMap.newKeySet();
+
+	/** The number of records that have been placed in the ring buffer. */
+	private static final AtomicLong enqueued = new AtomicLong();
+
+	/** The lock that guards the number of records written. */
+	private static final Object lock = new Object();
+
+	/** The number of records that have been written to their sinks. */
+	private static long written = 0;
+
+	static {
+
+		Thread thread = new Thread(new ReportWriter(), "dingo-report-writer");
+		thread.setDaemon(true);
+		thread.start();
+
+		Runtime.getRuntime().addShutdownHook(new Thread(ReportWriter::shutdown, "dingo-report-shutdown"));
+
+	}
+
+	/**
+	 * Places the specified record in the ring buffer, waiting while the ring buffer is full.
+	 * 
+	 * @param record
+	 *            the record.
+	 */
+	static void enqueue(Record record) {
+
+		enqueued.incrementAndGet();
+
+		try {
+
+			queue.put(record);
+
+		} catch (InterruptedException error) {
+
+			enqueued.decrementAndGet();
+
+			Thread.currentThread().interrupt();
+
+			throw new DingoException(error);
+
+		}
+
+	}
+
+	/**
+	 * Waits until every record placed in the ring buffer so far has been written to its sink and flushed.
+	 */
+	static void drain() {
+
+		long target = enqueued.get();
+
+		synchronized (lock) {
+
+			try {
+
+				while (written < target) {
+
+					lock.wait();
+
+				}
+
+			} catch (InterruptedException error) {
+
+				Thread.currentThread().interrupt();
+
+			}
+
+		}
+
+	}
+
+	/**
+	 * Registers the specified reporter as retaining a scenario that may yet be abandoned by a failure.
+	 * 
+	 * @param reporter
+	 *            the reporter.
+	 */
+	static void register(Reporter reporter) {
+
+		reporters.add(reporter);
+
+	}
+
+	/**
+	 * Deregisters the specified reporter, which no longer retains a scenario.
+	 * 
+	 * @param reporter
+	 *            the reporter.
+	 */
+	static void deregister(Reporter reporter) {
+
+		reporters.remove(reporter);
+
+	}
+
+	/**
+	 * Reports the scenarios abandoned by a failure and drains the ring buffer as the process exits.
+	 */
+	private static void shutdown() {
+
+		for (Reporter reporter : new ArrayList<Reporter>(reporters)) {
+
+			reporter.close();
+
+		}
+
+		drain();
+
+	}
+
+	@Override
+	public void run() {
+
+		List<Record> batch = new ArrayList<Record>(BATCH);
+
+		Set<Reporter> flushed = Collections.newSetFromMap(new IdentityHashMap<Reporter, Boolean>());
+
+		while (true) {
+
+			try {
+
+				batch.add(queue.take());
+
+			} catch (InterruptedException error) {
+
+				return;
+
+			}
+
+			queue.drainTo(batch, BATCH - 1);
+
+			for (Record record : batch) {
+
+				try {
+
+					record.reporter.getSink().write(record.reporter.format(record));
+
+					flushed.add(record.reporter);
+
+				} catch (RuntimeException error) {
+
+					record.reporter.setError(error);
+
+				}
+
+			}
+
+			for (Reporter reporter : flushed) {
+
+				try {
+
+					reporter.getSink().flush();
+
+				} catch (RuntimeException error) {
+
+					reporter.setError(error);
+
+				}
+
+			}
+
+			synchronized (lock) {
+
+				written += batch.size();
+
+				lock.notifyAll();
+
+			}
+
+			batch.clear();
+			flushed.clear();
+
+		}
+
+	}
+
+	/**
+	 * Constitutes a record of the test report, comprising a line of test data and its line number.
+	 */
+	static class Record {
+
+		/** The reporter. */
+		final Reporter reporter;
+
+		/** The line number, or zero if the record summarises the test data file rather than a line. */
+		final int number;
+
+		/** The supplier of the line. */
+		final Supplier<String> line;
+
+		/**
+		 * Creates a record of the specified line with the specified line number.
+		 * 
+		 * @param reporter
+		 *            the reporter.
+		 * @param number
+		 *            the line number.
+		 * @param line
+		 *            the supplier of the line.
+		 */
+		Record(Reporter reporter, int number, Supplier<String> line) {
+
+			this.reporter = reporter;
+			this.number = number;
+			this.line = line;
+
+		}
+
+	}
+
+}
\ No newline at end of file
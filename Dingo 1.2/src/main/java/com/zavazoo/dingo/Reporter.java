@@ -0,0 +1,325 @@
+/*
+ * Zavazoo Dingo 1.2 - Java API for Data-Driven Testing 
+ * Copyright (C) 2013 Chris White <chriswhitelondon@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.zavazoo.dingo;
+
+import java.io.PrintStream;
+import java.util.function.Supplier;
+
+/**
+ * Writes the test report information of a test data file to a sink, either synchronously or through the background
+ * report writer, reporting either a sample of every line read or only the lines of scenarios that fail.<br/>
+ * <br/>
+ * Each line is supplied rather than given, so that a line is decoded and each record is formatted only when it is
+ * actually reported, and by the background report writer when test reporting is asynchronous.<br/>
+ * <br/>
+ * When only failures are reported, the scenario most recently read sequentially is retained until the next scenario is
+ * read, or every scenario has been read, when it is known to have passed. A scenario that is still retained when the
+ * test data file is garbage collected, or when the process exits, was abandoned by a failure and is reported then.
+ * Scenarios run in parallel are reported explicitly as soon as they fail.
+ * 
+ * @author Chris White <chriswhitelondon@gmail.com>
+ * @since JDK8
+ */
+class Reporter {
+
+	/** The name of the test data file. */
+	private String name;
+
+	/** The sink. */
+	private ReportSink sink;
+
+	/** The interval between the line numbers of sampled lines. */
+	private int sample;
+
+	/** Asserts that only the lines of scenarios that fail are reported. */
+	private boolean failures;
+
+	/** Asserts that records are written by the background report writer. */
+	private boolean asynchronous;
+
+	/** The record of the scenario most recently read sequentially, when only failures are reported. */
+	private volatile ReportWriter.Record pending;
+
+	/** The first error raised by the sink when written by the background report writer, or null if none. */
+	private volatile RuntimeException error;
+
+	/**
+	 * Creates a reporter for the test data file with the specified name.
+	 * 
+	 * @param name
+	 *            the name of the test data file.
+	 * @param sink
+	 *            the sink.
+	 * @param options
+	 *            the options that determine how test report information is sampled and written.
+	 */
+	Reporter(String name, ReportSink sink, Options options) {
+
+		this.name = name;
+		this.sink = sink;
+
+		sample = options.getSample();
+		failures = options.isFailures();
+		asynchronous = options.isAsynchronous();
+
+		pending = null;
+		error = null;
+
+	}
+
+	/**
+	 * Creates a reporter for the test data file with the specified name, writing to the sink specified by the options
+	 * or else to the specified print stream, or yields null if test reporting is switched off.
+	 * 
+	 * @param name
+	 *            the name of the test data file.
+	 * @param report
+	 *            the print stream for report information, or null to switch off test reporting unless the options
+	 *            specify a sink.
+	 * @param options
+	 *            the options.
+	 * @return the reporter, or null if test reporting is switched off.
+	 */
+	static Reporter create(String name, PrintStream report, Options options) {
+
+		ReportSink sink = options.getSink();
+
+		if (sink == null && report != null) {
+
+			sink = new StreamSink(report);
+
+		}
+
+		if (sink == null) {
+
+			return null;
+
+		}
+
+		return new Reporter(name, sink, options);
+
+	}
+
+	/**
+	 * Reports the line with the specified line number, unless the line is not sampled or only failures are reported.
+	 * 
+	 * @param number
+	 *            the line number.
+	 * @param line
+	 *            the supplier of the line.
+	 * @param sequential
+	 *            true if the line was read sequentially, so that it is retained until the next line is read when only
+	 *            failures are reported, false if the line was read in parallel.
+	 */
+	void report(int number, Supplier<String> line, boolean sequential) {
+
+		if (failures) {
+
+			if (sequential) {
+
+				if (pending == null) {
+
+					ReportWriter.register(this);
+
+				}
+
+				pending = new ReportWriter.Record(this, number, line);
+
+			}
+
+			return;
+
+		}
+
+		if (sample > 1 && (number - 1) % sample != 0) {
+
+			return;
+
+		}
+
+		write(new ReportWriter.Record(this, number, line));
+
+	}
+
+	/**
+	 * Reports the line with the specified line number, whose scenario failed, when only failures are reported.
+	 * 
+	 * @param number
+	 *            the line number.
+	 * @param line
+	 *            the supplier of the line.
+	 */
+	void failed(int number, Supplier<String> line) {
+
+		if (failures) {
+
+			write(new ReportWriter.Record(this, number, line));
+
+		}
+
+	}
+
+	/**
+	 * Reports the specified summary of the line with the specified line number, or of the test data file as a whole,
+	 * such as the latencies of its scenarios, regardless of sampling and even when only failures are reported.
+	 * 
+	 * @param number
+	 *            the line number, or zero to summarise the test data file as a whole.
+	 * @param summary
+	 *            the summary.
+	 */
+	void summary(int number, String summary) {
+
+		write(new ReportWriter.Record(this, number, () -> summary));
+
+	}
+
+	/**
+	 * Discards the scenario most recently read, which passed since every scenario has been read, and flushes the sink
+	 * unless test reporting is asynchronous.
+	 */
+	void finish() {
+
+		if (pending != null) {
+
+			pending = null;
+
+			ReportWriter.deregister(this);
+
+		}
+
+		if (!asynchronous) {
+
+			sink.flush();
+
+		}
+
+	}
+
+	/**
+	 * Reports the scenario most recently read, which was abandoned by a failure unless every scenario has been read,
+	 * and waits until every record has been written to the sink and flushed.
+	 */
+	void close() {
+
+		ReportWriter.Record abandoned = pending;
+
+		pending = null;
+
+		if (abandoned != null) {
+
+			ReportWriter.deregister(this);
+
+			write(abandoned);
+
+		}
+
+		if (asynchronous) {
+
+			ReportWriter.drain();
+
+		}
+
+		sink.flush();
+
+	}
+
+	/**
+	 * Writes the specified record to the sink, either synchronously or through the background report writer.
+	 * 
+	 * @param record
+	 *            the record.
+	 */
+	private void write(ReportWriter.Record record) {
+
+		if (asynchronous) {
+
+			if (error != null) {
+
+				throw error;
+
+			}
+
+			ReportWriter.enqueue(record);
+
+		} else {
+
+			sink.write(format(record));
+
+		}
+
+	}
+
+	/**
+	 * Formats the specified record as a line of the test report.
+	 * 
+	 * @param record
+	 *            the record.
+	 * @return the line of the test report.
+	 */
+	String format(ReportWriter.Record record) {
+
+		StringBuilder information = new StringBuilder();
+
+		information.append(DataFile.REPORT_PREFIX);
+		information.append(name);
+
+		if (record.number > 0) {
+
+			information.append(".");
+			information.append(record.number);
+
+		}
+
+		information.append(": ");
+		information.append(record.line.get());
+
+		return information.toString();
+
+	}
+
+	/**
+	 * Yields the sink.
+	 * 
+	 * @return the sink.
+	 */
+	ReportSink getSink() {
+
+		return sink;
+
+	}
+
+	/**
+	 * Records the first error raised by the sink when written by the background report writer, which is thrown when
+	 * the next record is reported.
+	 * 
+	 * @param error
+	 *            the error.
+	 */
+	void setError(RuntimeException error) {
+
+		if (this.error == null) {
+
+			this.error = error;
+
+		}
+
+	}
+
+}
\ No newline at end of file
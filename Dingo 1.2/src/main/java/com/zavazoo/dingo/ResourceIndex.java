@@ -0,0 +1,145 @@
+/*
+ * Zavazoo Dingo 1.2 - Java API for Data-Driven Testing 
+ * Copyright (C) 2013 Chris White <chriswhitelondon@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.zavazoo.dingo;
+
+import java.net.URL;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Resolves the logical name of a test data file to the URL of the test data file on the class path, together with its
+ * data file type and compression format, at most once per process.<br/>
+ * <br/>
+ * The class path is probed for each data file type in turn only when a logical name is first resolved, and every
+ * subsequent resolution of the same logical name costs a single lookup within a concurrent map. Logical names that
+ * cannot be resolved are not retained, so that a test data file which appears on the class path later is still found.
+ * 
+ * @author Chris White <chriswhitelondon@gmail.com>
+ * @since JDK8
+ */
+class ResourceIndex {
+
+	/** The resolved test data files, keyed by logical name. */
+	private static final ConcurrentMap<String, Resource> resources = new ConcurrentHashMap<String, Resource>();
+
+	/**
+	 * Resolves the specified logical name to a test data file on the class path.
+	 * 
+	 * @param name
+	 *            the logical name.
+	 * @return the test data file.
+	 */
+	static Resource resolve(String name) {
+
+		if (name == null) {
+
+			return probe(name);
+
+		}
+
+		Resource resource = resources.get(name);
+
+		if (resource == null) {
+
+			resource = resources.computeIfAbsent(name, ResourceIndex::probe);
+
+		}
+
+		return resource;
+
+	}
+
+	/**
+	 * Probes the class path for a test data file with the specified logical name, trying each data file type in turn,
+	 * uncompressed and then in each compression format.
+	 * 
+	 * @param name
+	 *            the logical name.
+	 * @return the test data file.
+	 */
+	private static Resource probe(String name) {
+
+		StringBuilder tried = new StringBuilder();
+
+		for (DataFileType type : DataFileType.values()) {
+
+			for (Compression compression : Compression.values()) {
+
+				String resourceName = "/" + name + compression.suffix(type);
+
+				URL url = DataFile.class.getResource(resourceName);
+
+				if (url != null) {
+
+					return new Resource(url, type, compression);
+
+				}
+
+				if (tried.length() > 0) {
+
+					tried.append(" or ");
+
+				}
+
+				tried.append("'").append(resourceName).append("'");
+
+			}
+
+		}
+
+		throw new DingoException("Unable to find a data file on the class path with resource name " + tried);
+
+	}
+
+	/**
+	 * Constitutes a test data file on the class path.
+	 */
+	static class Resource {
+
+		/** The URL of the test data file. */
+		final URL url;
+
+		/** The data file type. */
+		final DataFileType type;
+
+		/** The compression format of the test data file. */
+		final Compression compression;
+
+		/**
+		 * Creates a test data file located by the specified URL, of the specified data file type, compressed in the
+		 * specified compression format.
+		 * 
+		 * @param url
+		 *            the URL.
+		 * @param type
+		 *            the data file type.
+		 * @param compression
+		 *            the compression format.
+		 */
+		Resource(URL url, DataFileType type, Compression compression) {
+
+			this.url = url;
+			this.type = type;
+			this.compression = compression;
+
+		}
+
+	}
+
+}
\ No newline at end of file
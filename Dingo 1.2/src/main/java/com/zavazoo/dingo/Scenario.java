@@ -32,8 +32,14 @@ public class Scenario {
 	/** The criteria which define this scenario. */
 	public final Value[] criteria;
 
-	/** The hash code that uniquely identifies this scenario. */
-	private Integer hashCode;
+	/** The line number of this scenario within its test data file, or zero if the line number is not known. */
+	public final int number;
+
+	/** The 64-bit hash of this scenario, or zero until the hash has been calculated. */
+	private volatile long hash;
+
+	/** The columns named by the header line of the test data file, or null if the file has no header line. */
+	private Columns columns;
 
 	/**
 	 * Creates a scenario with the specified expected result given the specified criteria.
@@ -45,13 +51,125 @@ public class Scenario {
 	 */
 	Scenario(Value result, Value[] criteria) {
 
+		this(result, criteria, 0);
+
+	}
+
+	/**
+	 * Creates a scenario with the specified expected result given the specified criteria, defined by the line of the
+	 * test data file with the specified line number, to which the result and criteria are located if the line number
+	 * is known.
+	 * 
+	 * @param result
+	 *            the result.
+	 * @param criteria
+	 *            the criteria.
+	 * @param number
+	 *            the line number.
+	 */
+	Scenario(Value result, Value[] criteria, int number) {
+
 		this.result = result;
 		this.criteria = criteria;
+		this.number = number;
+
+		if (number > 0) {
+
+			result.locate(number, 1);
+
+			for (int index = 0; index < criteria.length; index++) {
+
+				criteria[index].locate(number, index + 2);
+
+			}
+
+		}
+
+	}
+
+	/**
+	 * Yields the value of the column with the specified name, as given by the header line of the test data file,
+	 * where the first column is the result and each subsequent column is a criterion.<br/>
+	 * <br/>
+	 * The columns are indexed once per test data file within a perfect hash table, so that looking up a value by name
+	 * costs little more than reading the criteria by position.
+	 * 
+	 * @param name
+	 *            the name of the column.
+	 * @return the value.
+	 */
+	public Value get(String name) {
+
+		if (columns == null) {
+
+			throw new DingoException("Unable to find the column '" + name
+					+ "' unless the test data file is read with a header line");
+
+		}
+
+		int column = columns.column(name);
+
+		if (column < 0 || column > criteria.length) {
+
+			throw new DingoException("Unable to find the column '" + name + "' of the scenario at line " + number);
+
+		}
+
+		return column == 0 ? result : criteria[column - 1];
 
 	}
 
 	/**
-	 * Asserts that this scenario is equivalent to the specified scenario.
+	 * Binds this scenario to a new instance of the specified class, passing the result and criteria in turn to the
+	 * constructor of the class with the most parameters, or, if the class has only a constructor without parameters,
+	 * assigning them to the instance fields of the class. Fields are assigned the values of the columns of the same
+	 * names when the test data file is read with a header line, and otherwise in the order in which reflection reports
+	 * them, which is usually but not necessarily the order of declaration.<br/>
+	 * <br/>
+	 * Each value is converted to the type of its parameter or field, such as an integer, a date/time or a string,
+	 * where a value of any other type is bound from JSON. The constructor or fields and the conversions are looked up
+	 * once per class, so that binding costs little more than copying the values by hand.
+	 * 
+	 * @param type
+	 *            the class, such as a record.
+	 * @return the instance.
+	 */
+	public <BoundType> BoundType bind(Class<BoundType> type) {
+
+		return Binder.of(type).bind(this);
+
+	}
+
+	/**
+	 * Specifies the columns named by the header line of the test data file comprising this scenario.
+	 * 
+	 * @param columns
+	 *            the columns.
+	 */
+	void index(Columns columns) {
+
+		this.columns = columns;
+
+	}
+
+	/**
+	 * Asserts that this scenario was read from a test data file with a header line, so that its values may be read by
+	 * the names of their columns.
+	 * 
+	 * @return true if the columns of this scenario are named, false otherwise.
+	 */
+	boolean isIndexed() {
+
+		return columns != null;
+
+	}
+
+	/**
+	 * Asserts that this scenario is equivalent to the specified scenario, such that the results are equivalent and the
+	 * criteria are equivalent element by element, regardless of the line numbers of the scenarios.<br/>
+	 * <br/>
+	 * The 64-bit hashes of the scenarios are compared first, if both have already been calculated, so that scenarios
+	 * that differ are almost always distinguished without comparing any values.
 	 * 
 	 * @param that
 	 *            the specified scenario.
@@ -60,39 +178,92 @@ public class Scenario {
 	@Override
 	public boolean equals(Object that) {
 
-		return this.hashCode() == ((Scenario) that).hashCode();
+		if (this == that) {
+
+			return true;
+
+		}
+
+		if (!(that instanceof Scenario)) {
+
+			return false;
+
+		}
+
+		Scenario other = (Scenario) that;
+
+		if (hash != 0 && other.hash != 0 && hash != other.hash) {
+
+			return false;
+
+		}
+
+		if (criteria.length != other.criteria.length || !result.equals(other.result)) {
+
+			return false;
+
+		}
+
+		for (int index = 0; index < criteria.length; index++) {
+
+			if (!criteria[index].equals(other.criteria[index])) {
+
+				return false;
+
+			}
+
+		}
+
+		return true;
 
 	}
 
 	/**
-	 * Calculates and yields the hash code that uniquely identifies this scenario.
+	 * Yields a hash code for this scenario, consistent with <code>equals</code>, which is derived from the 64-bit hash
+	 * of this scenario.
 	 * 
 	 * @return the hash code.
 	 */
 	@Override
 	public int hashCode() {
 
-		if (hashCode == null) {
+		long hash = longHashCode();
 
-			String impossible = "!\"£$%^&*()-=_+{}:@~;'#";
+		return (int) (hash ^ (hash >>> 32));
 
-			StringBuilder builder = new StringBuilder();
+	}
 
-			builder.append(result.toString());
+	/**
+	 * Calculates and yields the 64-bit hash of this scenario, which is streamed over the code points of the result and
+	 * of every criterion in turn without concatenating or decoding any values, and is calculated at most once.<br/>
+	 * <br/>
+	 * Scenarios that are equivalent yield the same hash, regardless of whether their values comprise strings or
+	 * encoded bytes, and the hash is wide enough to identify scenarios within the large hash-based structures used to
+	 * deduplicate and look up scenarios.
+	 * 
+	 * @return the 64-bit hash.
+	 */
+	public long longHashCode() {
 
-			for (Value criterion : criteria) {
+		long hash = this.hash;
+
+		if (hash == 0) {
 
-				builder.append(impossible);
+			hash = result.hash(Value.SEED);
 
-				builder.append(criterion.toString());
+			for (Value criterion : criteria) {
+
+				hash = criterion.hash(hash);
 
 			}
 
-			hashCode = builder.toString().hashCode();
+			hash = Value.finish(hash);
+
+			this.hash = hash;
 
 		}
 
-		return hashCode;
+		return hash;
 
 	}
 
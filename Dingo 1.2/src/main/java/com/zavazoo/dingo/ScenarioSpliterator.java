@@ -0,0 +1,108 @@
+/*
+ * Zavazoo Dingo 1.2 - Java API for Data-Driven Testing 
+ * Copyright (C) 2013 Chris White <chriswhitelondon@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.zavazoo.dingo;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Traverses the remaining scenarios of a scenarios abstraction in order, one at a time and without buffering, which
+ * is necessary when the test data file can only be read sequentially.
+ * 
+ * @author Chris White <chriswhitelondon@gmail.com>
+ * @since JDK8
+ */
+class ScenarioSpliterator implements Spliterator<Scenario> {
+
+	/** The scenarios to be traversed. */
+	private Scenarios scenarios;
+
+	/**
+	 * Creates a spliterator over the remaining scenarios of the specified scenarios abstraction.
+	 * 
+	 * @param scenarios
+	 *            the scenarios.
+	 */
+	ScenarioSpliterator(Scenarios scenarios) {
+
+		this.scenarios = scenarios;
+
+	}
+
+	/**
+	 * Yields the next scenario, if any, and performs the specified action upon that scenario.
+	 * 
+	 * @param action
+	 *            the action.
+	 * @return true if there was a next scenario, false otherwise.
+	 */
+	@Override
+	public boolean tryAdvance(Consumer<? super Scenario> action) {
+
+		Scenario scenario = scenarios.next();
+
+		if (scenario == null) {
+
+			return false;
+
+		}
+
+		action.accept(scenario);
+
+		return true;
+
+	}
+
+	/**
+	 * Declines to split, since the remaining scenarios can only be read sequentially.
+	 * 
+	 * @return null.
+	 */
+	@Override
+	public Spliterator<Scenario> trySplit() {
+
+		return null;
+
+	}
+
+	/**
+	 * Yields an unknown number of scenarios, since the test data file has not been counted.
+	 * 
+	 * @return <code>Long.MAX_VALUE</code>.
+	 */
+	@Override
+	public long estimateSize() {
+
+		return Long.MAX_VALUE;
+
+	}
+
+	/**
+	 * Yields the characteristics of this spliterator, which is ordered but not sized.
+	 * 
+	 * @return the characteristics.
+	 */
+	@Override
+	public int characteristics() {
+
+		return ORDERED | NONNULL;
+
+	}
+
+}
\ No newline at end of file
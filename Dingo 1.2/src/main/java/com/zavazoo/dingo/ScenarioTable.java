@@ -0,0 +1,535 @@
+/*
+ * Zavazoo Dingo 1.2 - Java API for Data-Driven Testing 
+ * Copyright (C) 2013 Chris White <chriswhitelondon@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.zavazoo.dingo;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Constitutes all of the test scenarios defined within a given test data file, loaded into typed columns so that
+ * numeric test data occupies a primitive array element per value rather than an object per value.<br/>
+ * <br/>
+ * Column zero comprises the expected result of each scenario and the subsequent columns comprise the criteria of each
+ * scenario, in the order in which they are defined within the test data file. Row zero comprises the scenario defined
+ * by the first line of the test data file that is not blank, since blank lines are skipped. The indexed accessors
+ * never allocate, and accessors of numeric columns widen integers to long integers and long integers to long
+ * floating-point numbers.<br/>
+ * <br/>
+ * A scenario table is never sharded, so that it comprises every scenario whatever the shard specified by the
+ * 'dingo.shard.index' and 'dingo.shard.count' system properties.<br/>
+ * <br/>
+ * A scenario table is immutable and therefore thread-safe.
+ * 
+ * @author Chris White <chriswhitelondon@gmail.com>
+ * @since JDK8
+ */
+public class ScenarioTable {
+
+	/** The number of rows. */
+	private int rows;
+
+	/** The type of each column. */
+	private ColumnType[] types;
+
+	/** The values of each integer column, or null for other columns. */
+	private int[][] integers;
+
+	/** The values of each long integer column, or null for other columns. */
+	private long[][] longints;
+
+	/** The values of each long floating-point column, or null for other columns. */
+	private double[][] doubleints;
+
+	/** The dictionary code of the value of each string column, or null for other columns. */
+	private int[][] codes;
+
+	/** The dictionary of distinct values of each string column, or null for other columns. */
+	private String[][] dictionaries;
+
+	/**
+	 * Loads the test data file associated with the specified logical name into columns of the specified types, or of
+	 * inferred types if no types are specified.<br/>
+	 * <br/>
+	 * Column types are inferred by reading the memory-mapped test data file once before loading it, so that no value
+	 * is retained as a string unless its column is a string column.
+	 * 
+	 * @param name
+	 *            the logical name.
+	 * @param report
+	 *            the print stream for report information, or null to switch off test reporting.
+	 * @param types
+	 *            the type of each column, or no types to infer the type of each column.
+	 */
+	ScenarioTable(String name, PrintStream report, ColumnType[] types) {
+
+		if (types.length == 0) {
+
+			types = infer(name);
+
+		}
+
+		this.types = types;
+
+		int columns = types.length;
+
+		integers = new int[columns][];
+		longints = new long[columns][];
+		doubleints = new double[columns][];
+		codes = new int[columns][];
+		dictionaries = new String[columns][];
+
+		int capacity = 1024;
+
+		allocate(capacity);
+
+		List<Map<String, Integer>> encoders = new ArrayList<Map<String, Integer>>(columns);
+
+		for (int column = 0; column < columns; column++) {
+
+			encoders.add(types[column] == ColumnType.STRING ? new HashMap<String, Integer>() : null);
+
+		}
+
+		DataFile dataFile = open(name, report);
+
+		Scenario scenario;
+
+		while ((scenario = dataFile.nextScenario()) != null) {
+
+			if (blank(scenario)) {
+
+				continue;
+
+			}
+
+			check(scenario, columns);
+
+			if (rows == capacity) {
+
+				capacity *= 2;
+
+				allocate(capacity);
+
+			}
+
+			for (int column = 0; column < columns; column++) {
+
+				Value value = column == 0 ? scenario.result : scenario.criteria[column - 1];
+
+				switch (types[column]) {
+
+				case INTEGER:
+
+					integers[column][rows] = value.integer();
+
+					break;
+
+				case LONG:
+
+					longints[column][rows] = value.longint();
+
+					break;
+
+				case DOUBLE:
+
+					doubleints[column][rows] = value.doubleint();
+
+					break;
+
+				default:
+
+					codes[column][rows] = encode(encoders.get(column), value.string());
+
+				}
+
+			}
+
+			rows++;
+
+		}
+
+		allocate(rows);
+
+		for (int column = 0; column < columns; column++) {
+
+			Map<String, Integer> encoder = encoders.get(column);
+
+			if (encoder != null) {
+
+				String[] dictionary = new String[encoder.size()];
+
+				for (Map.Entry<String, Integer> entry : encoder.entrySet()) {
+
+					dictionary[entry.getValue()] = entry.getKey();
+
+				}
+
+				dictionaries[column] = dictionary;
+
+			}
+
+		}
+
+	}
+
+	/**
+	 * Yields the number of rows, which equals the number of scenarios.
+	 * 
+	 * @return the number of rows.
+	 */
+	public int rows() {
+
+		return rows;
+
+	}
+
+	/**
+	 * Yields the number of columns, which equals one more than the number of criteria of each scenario.
+	 * 
+	 * @return the number of columns.
+	 */
+	public int columns() {
+
+		return types.length;
+
+	}
+
+	/**
+	 * Yields the type of the specified column.
+	 * 
+	 * @param column
+	 *            the column.
+	 * @return the column type.
+	 */
+	public ColumnType type(int column) {
+
+		return types[column];
+
+	}
+
+	/**
+	 * Yields the value of the specified integer column at the specified row.
+	 * 
+	 * @param row
+	 *            the row.
+	 * @param column
+	 *            the column.
+	 * @return the integer.
+	 */
+	public int integer(int row, int column) {
+
+		int[] values = integers[column];
+
+		if (values == null) {
+
+			throw mismatch(column, ColumnType.INTEGER);
+
+		}
+
+		return values[row];
+
+	}
+
+	/**
+	 * Yields the value of the specified integer or long integer column at the specified row.
+	 * 
+	 * @param row
+	 *            the row.
+	 * @param column
+	 *            the column.
+	 * @return the long integer.
+	 */
+	public long longint(int row, int column) {
+
+		long[] values = longints[column];
+
+		if (values == null) {
+
+			if (integers[column] == null) {
+
+				throw mismatch(column, ColumnType.LONG);
+
+			}
+
+			return integers[column][row];
+
+		}
+
+		return values[row];
+
+	}
+
+	/**
+	 * Yields the value of the specified numeric column at the specified row.
+	 * 
+	 * @param row
+	 *            the row.
+	 * @param column
+	 *            the column.
+	 * @return the long floating-point number.
+	 */
+	public double doubleint(int row, int column) {
+
+		double[] values = doubleints[column];
+
+		if (values == null) {
+
+			if (types[column] == ColumnType.STRING) {
+
+				throw mismatch(column, ColumnType.DOUBLE);
+
+			}
+
+			return longint(row, column);
+
+		}
+
+		return values[row];
+
+	}
+
+	/**
+	 * Yields the value of the specified string column at the specified row.
+	 * 
+	 * @param row
+	 *            the row.
+	 * @param column
+	 *            the column.
+	 * @return the string, which is shared by every row with an equivalent value in the same column.
+	 */
+	public String string(int row, int column) {
+
+		int[] values = codes[column];
+
+		if (values == null) {
+
+			throw mismatch(column, ColumnType.STRING);
+
+		}
+
+		int code = values[row];
+
+		return code < 0 ? null : dictionaries[column][code];
+
+	}
+
+	/**
+	 * Infers the type of each column of the test data file associated with the specified logical name, as the least
+	 * general type that can represent every value of that column.
+	 * 
+	 * @param name
+	 *            the logical name.
+	 * @return the type of each column.
+	 */
+	private static ColumnType[] infer(String name) {
+
+		DataFile dataFile = open(name, null);
+
+		ColumnType[] types = null;
+
+		Scenario scenario;
+
+		while ((scenario = dataFile.nextScenario()) != null) {
+
+			if (blank(scenario)) {
+
+				continue;
+
+			}
+
+			if (types == null) {
+
+				types = new ColumnType[scenario.criteria.length + 1];
+
+				Arrays.fill(types, ColumnType.INTEGER);
+
+			}
+
+			check(scenario, types.length);
+
+			for (int column = 0; column < types.length; column++) {
+
+				if (types[column] != ColumnType.STRING) {
+
+					Value value = column == 0 ? scenario.result : scenario.criteria[column - 1];
+
+					ColumnType type = ColumnType.infer(value.string());
+
+					if (type.compareTo(types[column]) > 0) {
+
+						types[column] = type;
+
+					}
+
+				}
+
+			}
+
+		}
+
+		return types == null ? new ColumnType[0] : types;
+
+	}
+
+	/**
+	 * Opens the memory-mapped test data file associated with the specified logical name, comprising a single shard.
+	 * 
+	 * @param name
+	 *            the logical name.
+	 * @param report
+	 *            the print stream for report information, or null to switch off test reporting.
+	 * @return the data file.
+	 */
+	private static DataFile open(String name, PrintStream report) {
+
+		DataFile dataFile = new DataFile(name, report, new Options().shard(0, 1));
+		dataFile.openFile(true);
+
+		return dataFile;
+
+	}
+
+	/**
+	 * Asserts that the specified scenario was read from a blank line, which is skipped rather than loaded as a row.
+	 * 
+	 * @param scenario
+	 *            the scenario.
+	 * @return true if the scenario was read from a blank line, false otherwise.
+	 */
+	private static boolean blank(Scenario scenario) {
+
+		return scenario.criteria.length == 0 && scenario.result.isNull();
+
+	}
+
+	/**
+	 * Asserts that the specified scenario comprises the specified number of columns.
+	 * 
+	 * @param scenario
+	 *            the scenario.
+	 * @param columns
+	 *            the number of columns.
+	 */
+	private static void check(Scenario scenario, int columns) {
+
+		if (scenario.criteria.length + 1 != columns) {
+
+			throw new DingoException("Unable to load line " + scenario.number + " comprising "
+					+ (scenario.criteria.length + 1) + " values into a scenario table comprising " + columns
+					+ " columns");
+
+		}
+
+	}
+
+	/**
+	 * Resizes the array of every column to the specified capacity.
+	 * 
+	 * @param capacity
+	 *            the capacity.
+	 */
+	private void allocate(int capacity) {
+
+		for (int column = 0; column < types.length; column++) {
+
+			switch (types[column]) {
+
+			case INTEGER:
+
+				integers[column] = integers[column] == null ? new int[capacity] : Arrays.copyOf(integers[column],
+						capacity);
+
+				break;
+
+			case LONG:
+
+				longints[column] = longints[column] == null ? new long[capacity] : Arrays.copyOf(longints[column],
+						capacity);
+
+				break;
+
+			case DOUBLE:
+
+				doubleints[column] = doubleints[column] == null ? new double[capacity] : Arrays.copyOf(
+						doubleints[column], capacity);
+
+				break;
+
+			default:
+
+				codes[column] = codes[column] == null ? new int[capacity] : Arrays.copyOf(codes[column], capacity);
+
+			}
+
+		}
+
+	}
+
+	/**
+	 * Yields the dictionary code of the specified string, adding the string to the dictionary if necessary.
+	 * 
+	 * @param encoder
+	 *            the dictionary, mapping each distinct string to its code.
+	 * @param string
+	 *            the string, or null.
+	 * @return the code, or minus one if the string is null.
+	 */
+	private static int encode(Map<String, Integer> encoder, String string) {
+
+		if (string == null) {
+
+			return -1;
+
+		}
+
+		Integer code = encoder.get(string);
+
+		if (code == null) {
+
+			code = encoder.size();
+
+			encoder.put(string, code);
+
+		}
+
+		return code;
+
+	}
+
+	/**
+	 * Creates an exception describing an attempt to read the specified column as the specified type.
+	 * 
+	 * @param column
+	 *            the column.
+	 * @param type
+	 *            the type.
+	 * @return the exception.
+	 */
+	private DingoException mismatch(int column, ColumnType type) {
+
+		return new DingoException("Unable to read column " + column + " of type " + types[column] + " as type "
+				+ type);
+
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,43 @@
+/*
+ * Zavazoo Dingo 1.2 - Java API for Data-Driven Testing 
+ * Copyright (C) 2013 Chris White <chriswhitelondon@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.zavazoo.dingo;
+
+/**
+ * Constitutes a task that tests a component using a single test scenario, so that Dingo may run the task for each of
+ * the test scenarios comprised by a test data file.<br/>
+ * <br/>
+ * A task may be run concurrently for several scenarios and must therefore be thread-safe.
+ * 
+ * @author Chris White <chriswhitelondon@gmail.com>
+ * @since JDK8
+ */
+public interface ScenarioTask {
+
+	/**
+	 * Tests a component using the specified scenario, typically by asserting that the outcome of invoking the component
+	 * with the criteria of the scenario is equivalent to the expected result of the scenario.
+	 * 
+	 * @param scenario
+	 *            the scenario.
+	 * @throws Exception
+	 *             if the component fails, which Dingo will rethrow wrapped within a Dingo exception.
+	 */
+	void run(Scenario scenario) throws Exception;
+
+}
\ No newline at end of file
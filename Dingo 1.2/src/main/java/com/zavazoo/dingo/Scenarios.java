@@ -18,13 +18,22 @@
 
 package com.zavazoo.dingo;
 
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 /**
- * Constitutes an abstraction over all of the test scenarios defined within a given test data file.
+ * Constitutes an abstraction over all of the test scenarios defined within a given test data file.<br/>
+ * <br/>
+ * The scenarios may be traversed once only, either by calling the <code>more</code> and <code>next</code> operations,
+ * by iterating over the scenarios, or by streaming the scenarios.
  * 
  * @author Chris White <chriswhitelondon@gmail.com>
  * @since JDK6
  */
-public class Scenarios {
+public class Scenarios implements Iterable<Scenario> {
 
 	/** The data file that comprises the scenarios. */
 	private DataFile dataFile;
@@ -99,6 +108,137 @@ public class Scenarios {
 
 	}
 
+	/**
+	 * Yields an iterator over the remaining scenarios.
+	 * 
+	 * @return the iterator.
+	 */
+	@Override
+	public Iterator<Scenario> iterator() {
+
+		return new Iterator<Scenario>() {
+
+			@Override
+			public boolean hasNext() {
+
+				return more();
+
+			}
+
+			@Override
+			public Scenario next() {
+
+				if (!more()) {
+
+					throw new NoSuchElementException();
+
+				}
+
+				return Scenarios.this.next();
+
+			}
+
+		};
+
+	}
+
+	/**
+	 * Yields a spliterator over the remaining scenarios, which reads the scenarios sequentially and without buffering.
+	 * 
+	 * @return the spliterator.
+	 */
+	@Override
+	public Spliterator<Scenario> spliterator() {
+
+		return new ScenarioSpliterator(this);
+
+	}
+
+	/**
+	 * Skips every remaining scenario that duplicates a scenario already read, so that each distinct scenario is read
+	 * only once, and yields these scenarios.<br/>
+	 * <br/>
+	 * Duplicates are detected while streaming, including when the scenarios are streamed in parallel, by recording the
+	 * 64-bit hash of every scenario read off-heap, equivalent to specifying the distinct option when the scenarios are
+	 * obtained.
+	 * 
+	 * @return these scenarios.
+	 */
+	public Scenarios distinct() {
+
+		dataFile.distinct();
+
+		if (!used && next != null) {
+
+			dataFile.duplicate(next);
+
+		}
+
+		return this;
+
+	}
+
+	/**
+	 * Yields a sequential stream of the remaining scenarios.
+	 * 
+	 * @return the stream.
+	 */
+	public Stream<Scenario> stream() {
+
+		return StreamSupport.stream(spliterator(), false);
+
+	}
+
+	/**
+	 * Yields a sequential stream of the remaining scenarios, each of which is bound to a new instance of the specified
+	 * class as by <code>Scenario.bind</code>.
+	 * 
+	 * @param type
+	 *            the class, such as a record.
+	 * @return the stream of instances.
+	 */
+	public <BoundType> Stream<BoundType> as(Class<BoundType> type) {
+
+		Binder<BoundType> binder = Binder.of(type);
+
+		return stream().map(binder::bind);
+
+	}
+
+	/**
+	 * Yields a parallel stream of the remaining scenarios.<br/>
+	 * <br/>
+	 * When the test data file is memory-mapped, and no scenario is pending after a call to <code>more</code>, the
+	 * remainder of the test data file is divided into chunks aligned to the start of a line whose lines are counted in
+	 * parallel. The stream then reads and parses each chunk independently and knows the exact number of scenarios.
+	 * Otherwise the test data file can only be read sequentially and the stream does not split.
+	 * 
+	 * @return the stream.
+	 */
+	public Stream<Scenario> parallelStream() {
+
+		Spliterator<Scenario> spliterator = null;
+
+		if (!done && used) {
+
+			spliterator = dataFile.chunkSpliterator();
+
+		}
+
+		if (spliterator == null) {
+
+			spliterator = spliterator();
+
+		} else {
+
+			done = true;
+
+		}
+
+		return StreamSupport.stream(spliterator, true);
+
+	}
+
 	/**
 	 * Asserts that there are more scenarios and assigns the next scenario, or assigns null if there are no more
 	 * scenarios.
@@ -0,0 +1,153 @@
+/*
+ * Zavazoo Dingo 1.2 - Java API for Data-Driven Testing 
+ * Copyright (C) 2013 Chris White <chriswhitelondon@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.zavazoo.dingo;
+
+/**
+ * Determines which scenarios of a test data file are assigned to a single shard of the test data file.<br/>
+ * <br/>
+ * The shard index is reduced modulo the shard count, so that one-based fork numbers may be used as shard indices.
+ * Scenarios are assigned either by the 64-bit hash of their values, or by dividing the lines of the test data file
+ * into contiguous ranges, in which case the number of lines must be specified before any scenario is read.
+ * 
+ * @author Chris White <chriswhitelondon@gmail.com>
+ * @since JDK8
+ */
+class Shard {
+
+	/** The index of this shard, from zero to one less than the shard count. */
+	private int index;
+
+	/** The number of shards. */
+	private int count;
+
+	/** The way in which scenarios are assigned to shards. */
+	private Sharding sharding;
+
+	/** The line number of the first line assigned to this shard, when assigned by range. */
+	private int first;
+
+	/** The line number of the last line assigned to this shard, when assigned by range. */
+	private int last;
+
+	/**
+	 * Creates the shard with the specified index among the specified number of shards.
+	 * 
+	 * @param index
+	 *            the shard index, which is reduced modulo the shard count.
+	 * @param count
+	 *            the shard count.
+	 * @param sharding
+	 *            the way in which scenarios are assigned to shards.
+	 */
+	Shard(int index, int count, Sharding sharding) {
+
+		this.index = Math.floorMod(index, count);
+		this.count = count;
+		this.sharding = sharding;
+
+		first = 1;
+		last = Integer.MAX_VALUE;
+
+	}
+
+	/**
+	 * Creates the shard specified by the specified options, or yields null unless the scenarios are sharded.
+	 * 
+	 * @param options
+	 *            the options.
+	 * @return the shard, or null unless the scenarios are sharded.
+	 */
+	static Shard create(Options options) {
+
+		if (options.getShardCount() <= 1) {
+
+			return null;
+
+		}
+
+		return new Shard(options.getShardIndex(), options.getShardCount(), options.getSharding());
+
+	}
+
+	/**
+	 * Asserts that scenarios are assigned to this shard by range, so that the number of lines must be specified.
+	 * 
+	 * @return true if scenarios are assigned by range, false otherwise.
+	 */
+	boolean isRange() {
+
+		return sharding == Sharding.RANGE;
+
+	}
+
+	/**
+	 * Specifies the number of lines of the test data file, dividing the lines into contiguous ranges of equal length
+	 * when scenarios are assigned by range.
+	 * 
+	 * @param lines
+	 *            the number of lines.
+	 */
+	void lines(int lines) {
+
+		first = (int) ((long) lines * index / count) + 1;
+		last = (int) ((long) lines * (index + 1) / count);
+
+	}
+
+	/**
+	 * Asserts that the line with the specified line number is assigned to this shard, or may be assigned depending
+	 * upon its scenario, so that the line must be parsed.
+	 * 
+	 * @param number
+	 *            the line number.
+	 * @return true if the line must be parsed, false if the line is assigned to another shard.
+	 */
+	boolean includes(int number) {
+
+		return number >= first && number <= last;
+
+	}
+
+	/**
+	 * Asserts that the line with the specified line number, and every subsequent line, is assigned to another shard.
+	 * 
+	 * @param number
+	 *            the line number.
+	 * @return true if no subsequent line is assigned to this shard, false otherwise.
+	 */
+	boolean after(int number) {
+
+		return number > last;
+
+	}
+
+	/**
+	 * Asserts that the specified scenario is assigned to another shard according to its values.
+	 * 
+	 * @param scenario
+	 *            the scenario.
+	 * @return true if the scenario is assigned to another shard, false otherwise.
+	 */
+	boolean excludes(Scenario scenario) {
+
+		return sharding == Sharding.HASH && Math.floorMod(scenario.longHashCode(), (long) count) != index;
+
+	}
+
+}
\ No newline at end of file
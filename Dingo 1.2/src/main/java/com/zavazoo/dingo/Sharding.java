@@ -0,0 +1,43 @@
+/*
+ * Zavazoo Dingo 1.2 - Java API for Data-Driven Testing 
+ * Copyright (C) 2013 Chris White <chriswhitelondon@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.zavazoo.dingo;
+
+/**
+ * Enumerates the ways in which the scenarios of a test data file are assigned to shards, so that several test JVMs
+ * may each run only their own share of the scenarios.
+ * 
+ * @author Chris White <chriswhitelondon@gmail.com>
+ * @since JDK8
+ */
+public enum Sharding {
+
+	/**
+	 * Assigns each scenario to a shard according to the 64-bit hash of its values, so that the assignment of a
+	 * scenario is stable regardless of its position within the test data file and duplicate scenarios always share a
+	 * shard.
+	 */
+	HASH,
+
+	/**
+	 * Assigns each shard a contiguous range of lines of equal length, so that each shard reads and parses only its own
+	 * lines, at the cost of counting the lines of the test data file when it is opened.
+	 */
+	RANGE
+
+}
\ No newline at end of file
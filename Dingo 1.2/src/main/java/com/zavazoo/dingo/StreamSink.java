@@ -0,0 +1,60 @@
+/*
+ * Zavazoo Dingo 1.2 - Java API for Data-Driven Testing 
+ * Copyright (C) 2013 Chris White <chriswhitelondon@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.zavazoo.dingo;
+
+import java.io.PrintStream;
+
+/**
+ * Writes test report information to a print stream.
+ * 
+ * @author Chris White <chriswhitelondon@gmail.com>
+ * @since JDK8
+ */
+class StreamSink implements ReportSink {
+
+	/** The print stream. */
+	private PrintStream stream;
+
+	/**
+	 * Creates a sink that writes test report information to the specified print stream.
+	 * 
+	 * @param stream
+	 *            the print stream.
+	 */
+	StreamSink(PrintStream stream) {
+
+		this.stream = stream;
+
+	}
+
+	@Override
+	public void write(String record) {
+
+		stream.println(record);
+
+	}
+
+	@Override
+	public void flush() {
+
+		stream.flush();
+
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,523 @@
+/*
+ * Zavazoo Dingo 1.2 - Java API for Data-Driven Testing 
+ * Copyright (C) 2013 Chris White <chriswhitelondon@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.zavazoo.dingo;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Tokenizes a line of test data into the values of a scenario in a single pass, consistent with RFC 4180 except that
+ * the delimiter depends upon the data file type and that a quoted value may not span several lines.<br/>
+ * <br/>
+ * Every value is delimited by the delimiter, so that consecutive delimiters define an empty value. Unquoted values are
+ * trimmed of leading and trailing whitespace. A value may be enclosed within double quotes, so that it may comprise the
+ * delimiter and leading or trailing whitespace, and a double quote within a quoted value is escaped by another double
+ * quote. Whitespace is permitted before the opening quote and after the closing quote of a quoted value.<br/>
+ * <br/>
+ * A line comprising only whitespace yields a scenario with a null result and no criteria.<br/>
+ * <br/>
+ * The boundaries of each value are recorded within a scratch array confined to the current thread, so that the array
+ * of values is allocated at exactly the right size and a tokenizer may be shared between threads. Each value records
+ * only its boundaries within the line, and is sliced from the line only when it is first read, so that the values of
+ * a wide line which are never read cost no more than their boundaries.
+ * 
+ * @author Chris White <chriswhitelondon@gmail.com>
+ * @since JDK8
+ */
+class Tokenizer {
+
+	/** The character that encloses a quoted value. */
+	private static final char QUOTE = '"';
+
+	/** Identifies an unquoted value within the scratch array. */
+	private static final int UNQUOTED = 0;
+
+	/** Identifies a quoted value within the scratch array. */
+	private static final int QUOTED = 1;
+
+	/** Identifies a quoted value comprising escaped quotes within the scratch array. */
+	private static final int ESCAPED = 2;
+
+	/** The limit on the number of criteria that tokenizes every criterion. */
+	static final int ALL = Integer.MAX_VALUE;
+
+	/** The scratch array, confined to each thread, recording the start, end and quoting of each value. */
+	private static final ThreadLocal<int[]> scratch = ThreadLocal.withInitial(() -> new int[3 * 64]);
+
+	/** The data column delimiter. */
+	private char delimiter;
+
+	/**
+	 * Creates a tokenizer for lines delimited by the specified delimiter.
+	 * 
+	 * @param delimiter
+	 *            the data column delimiter, which must be encoded as a single byte in UTF-8.
+	 */
+	Tokenizer(char delimiter) {
+
+		this.delimiter = delimiter;
+
+	}
+
+	/**
+	 * Tokenizes the specified line into a scenario with the specified line number.
+	 * 
+	 * @param line
+	 *            the line.
+	 * @param number
+	 *            the line number.
+	 * @return the scenario.
+	 */
+	Scenario tokenize(String line, int number) {
+
+		return tokenize(line, number, ALL);
+
+	}
+
+	/**
+	 * Tokenizes the specified line into a scenario with the specified line number, comprising at most the specified
+	 * number of criteria, whose values are sliced from the line only when they are first read unless they comprise
+	 * escaped quotes.<br/>
+	 * <br/>
+	 * Tokenizing stops as soon as the last criterion required has been delimited, so that the remainder of the line is
+	 * never scanned.
+	 * 
+	 * @param line
+	 *            the line.
+	 * @param number
+	 *            the line number.
+	 * @param limit
+	 *            the maximum number of criteria.
+	 * @return the scenario.
+	 */
+	Scenario tokenize(String line, int number, int limit) {
+
+		int[] fields = scratch.get();
+		int count = 0;
+
+		int length = line.length();
+		int position = 0;
+
+		while (true) {
+
+			while (position < length && whitespace(line.charAt(position))) {
+
+				position++;
+
+			}
+
+			int start;
+			int end;
+			int quoting = UNQUOTED;
+
+			if (position < length && line.charAt(position) == QUOTE) {
+
+				position++;
+
+				start = position;
+
+				quoting = QUOTED;
+
+				while (true) {
+
+					if (position >= length) {
+
+						throw malformed("Unterminated quoted value", number, start);
+
+					}
+
+					if (line.charAt(position) == QUOTE) {
+
+						if (position + 1 < length && line.charAt(position + 1) == QUOTE) {
+
+							quoting = ESCAPED;
+
+							position += 2;
+
+							continue;
+
+						}
+
+						break;
+
+					}
+
+					position++;
+
+				}
+
+				end = position;
+
+				position++;
+
+				while (position < length && whitespace(line.charAt(position))) {
+
+					position++;
+
+				}
+
+				if (position < length && line.charAt(position) != delimiter) {
+
+					throw malformed("Unexpected character after quoted value", number, position);
+
+				}
+
+			} else {
+
+				start = position;
+
+				while (position < length && line.charAt(position) != delimiter) {
+
+					position++;
+
+				}
+
+				end = position;
+
+				while (end > start && whitespace(line.charAt(end - 1))) {
+
+					end--;
+
+				}
+
+			}
+
+			if (3 * count + 3 > fields.length) {
+
+				fields = grow(fields);
+
+			}
+
+			fields[3 * count] = start;
+			fields[3 * count + 1] = end;
+			fields[3 * count + 2] = quoting;
+
+			count++;
+
+			if (position >= length || count > limit) {
+
+				break;
+
+			}
+
+			position++;
+
+		}
+
+		if (count == 1 && position >= length && fields[0] == fields[1] && fields[2] == UNQUOTED) {
+
+			return new Scenario(new Value(null), new Value[0], number);
+
+		}
+
+		Value result = null;
+		Value[] criteria = new Value[count - 1];
+
+		for (int field = 0; field < count; field++) {
+
+			int start = fields[3 * field];
+			int end = fields[3 * field + 1];
+
+			Value value;
+
+			if (fields[3 * field + 2] == ESCAPED) {
+
+				value = new Value(line.substring(start, end).replace("\"\"", "\""));
+
+			} else {
+
+				value = new Value(line, start, end - start);
+
+			}
+
+			if (field == 0) {
+
+				result = value;
+
+			} else {
+
+				criteria[field - 1] = value;
+
+			}
+
+		}
+
+		return new Scenario(result, criteria, number);
+
+	}
+
+	/**
+	 * Tokenizes the specified range of UTF-8 encoded bytes, comprising a line, into a scenario with the specified line
+	 * number, whose values are decoded only when they are first read unless they comprise escaped quotes.<br/>
+	 * <br/>
+	 * Tokenizing is possible without decoding because the delimiter, the quote and every whitespace character are
+	 * encoded as a single byte that never occurs within the encoding of any other character.
+	 * 
+	 * @param buffer
+	 *            the buffer comprising the encoded bytes.
+	 * @param from
+	 *            the index within the buffer of the first encoded byte of the line.
+	 * @param to
+	 *            the index within the buffer following the last encoded byte of the line.
+	 * @param number
+	 *            the line number.
+	 * @return the scenario.
+	 */
+	Scenario tokenize(ByteBuffer buffer, int from, int to, int number) {
+
+		return tokenize(buffer, from, to, number, ALL);
+
+	}
+
+	/**
+	 * Tokenizes the specified range of UTF-8 encoded bytes, comprising a line, into a scenario with the specified line
+	 * number, comprising at most the specified number of criteria, whose values are decoded only when they are first
+	 * read unless they comprise escaped quotes.
+	 * 
+	 * @param buffer
+	 *            the buffer comprising the encoded bytes.
+	 * @param from
+	 *            the index within the buffer of the first encoded byte of the line.
+	 * @param to
+	 *            the index within the buffer following the last encoded byte of the line.
+	 * @param number
+	 *            the line number.
+	 * @param limit
+	 *            the maximum number of criteria.
+	 * @return the scenario.
+	 */
+	Scenario tokenize(ByteBuffer buffer, int from, int to, int number, int limit) {
+
+		int[] fields = scratch.get();
+		int count = 0;
+
+		byte delimiter = (byte) this.delimiter;
+
+		int position = from;
+
+		while (true) {
+
+			while (position < to && whitespace(buffer.get(position))) {
+
+				position++;
+
+			}
+
+			int start;
+			int end;
+			int quoting = UNQUOTED;
+
+			if (position < to && buffer.get(position) == QUOTE) {
+
+				position++;
+
+				start = position;
+
+				quoting = QUOTED;
+
+				while (true) {
+
+					if (position >= to) {
+
+						throw malformed("Unterminated quoted value", number, start - from);
+
+					}
+
+					if (buffer.get(position) == QUOTE) {
+
+						if (position + 1 < to && buffer.get(position + 1) == QUOTE) {
+
+							quoting = ESCAPED;
+
+							position += 2;
+
+							continue;
+
+						}
+
+						break;
+
+					}
+
+					position++;
+
+				}
+
+				end = position;
+
+				position++;
+
+				while (position < to && whitespace(buffer.get(position))) {
+
+					position++;
+
+				}
+
+				if (position < to && buffer.get(position) != delimiter) {
+
+					throw malformed("Unexpected character after quoted value", number, position - from);
+
+				}
+
+			} else {
+
+				start = position;
+
+				while (position < to && buffer.get(position) != delimiter) {
+
+					position++;
+
+				}
+
+				end = position;
+
+				while (end > start && whitespace(buffer.get(end - 1))) {
+
+					end--;
+
+				}
+
+			}
+
+			if (3 * count + 3 > fields.length) {
+
+				fields = grow(fields);
+
+			}
+
+			fields[3 * count] = start;
+			fields[3 * count + 1] = end;
+			fields[3 * count + 2] = quoting;
+
+			count++;
+
+			if (position >= to || count > limit) {
+
+				break;
+
+			}
+
+			position++;
+
+		}
+
+		if (count == 1 && position >= to && fields[0] == fields[1] && fields[2] == UNQUOTED) {
+
+			return new Scenario(new Value(null), new Value[0], number);
+
+		}
+
+		Value result = null;
+		Value[] criteria = new Value[count - 1];
+
+		for (int field = 0; field < count; field++) {
+
+			int start = fields[3 * field];
+			int end = fields[3 * field + 1];
+
+			Value value;
+
+			if (fields[3 * field + 2] == ESCAPED) {
+
+				value = new Value(Value.decode(buffer, start, end - start).replace("\"\"", "\""));
+
+			} else {
+
+				value = new Value(buffer, start, end - start);
+
+			}
+
+			if (field == 0) {
+
+				result = value;
+
+			} else {
+
+				criteria[field - 1] = value;
+
+			}
+
+		}
+
+		return new Scenario(result, criteria, number);
+
+	}
+
+	/**
+	 * Asserts that the specified character is whitespace that is trimmed from a value, which excludes the delimiter.
+	 * 
+	 * @param character
+	 *            the character.
+	 * @return true if the character is trimmed, false otherwise.
+	 */
+	private boolean whitespace(char character) {
+
+		return character <= ' ' && character != delimiter;
+
+	}
+
+	/**
+	 * Asserts that the specified encoded byte is whitespace that is trimmed from a value, which excludes the delimiter.
+	 * 
+	 * @param encoded
+	 *            the encoded byte.
+	 * @return true if the encoded byte is trimmed, false otherwise.
+	 */
+	private boolean whitespace(byte encoded) {
+
+		return (encoded & 0xff) <= ' ' && encoded != delimiter;
+
+	}
+
+	/**
+	 * Doubles the capacity of the scratch array confined to the current thread.
+	 * 
+	 * @param fields
+	 *            the current scratch array.
+	 * @return the new scratch array.
+	 */
+	private static int[] grow(int[] fields) {
+
+		int[] grown = new int[fields.length * 2];
+
+		System.arraycopy(fields, 0, grown, 0, fields.length);
+
+		scratch.set(grown);
+
+		return grown;
+
+	}
+
+	/**
+	 * Creates an exception describing a malformed line.
+	 * 
+	 * @param problem
+	 *            the problem.
+	 * @param number
+	 *            the line number.
+	 * @param index
+	 *            the index within the line at which the problem occurs.
+	 * @return the exception.
+	 */
+	private static DingoException malformed(String problem, int number, int index) {
+
+		return new DingoException(problem + " at line " + number + ", index " + index);
+
+	}
+
+}
\ No newline at end of file
@@ -19,57 +19,124 @@
 package com.zavazoo.dingo;
 
 import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Map;
 
-import org.codehaus.jackson.map.ObjectMapper;
-import org.codehaus.jackson.type.TypeReference;
 import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
 
 /**
  * Constitutes a value of some test data, providing easy access to a wide range of value types so that calling code may
- * avoid parsing string values to other types.
+ * avoid parsing string values to other types.<br/>
+ * <br/>
+ * Only the most recent conversion of a value is retained, within a single slot tagged with the kind of conversion, so
+ * that repeatedly reading a value as the same type costs no more than the first read. Conversions to primitive types
+ * are retained as primitive bits and therefore never allocate a wrapper object. A value may be read by any thread to
+ * which it has been safely published, but must not be converted by several threads concurrently.
  * 
  * @author Chris White <chriswhitelondon@gmail.com>
  * @since JDK6
  */
 public class Value {
 
-	/** This value as a string. */
-	private String string;
+	/** The kind of a value that has not been converted. */
+	private static final byte NONE = 0;
+
+	/** The kind of a value converted to a character. */
+	private static final byte CHARACTER = 1;
+
+	/** The kind of a value converted to a boolean. */
+	private static final byte TRUTH = 2;
+
+	/** The kind of a value converted to an integer. */
+	private static final byte INTEGER = 3;
+
+	/** The kind of a value converted to a short integer. */
+	private static final byte SHORTINT = 4;
+
+	/** The kind of a value converted to a long integer. */
+	private static final byte LONGINT = 5;
+
+	/** The kind of a value converted to a short floating-point number. */
+	private static final byte FLOATING = 6;
+
+	/** The kind of a value converted to a long floating-point number. */
+	private static final byte DOUBLEINT = 7;
+
+	/** The kind of a value converted to a big decimal. */
+	private static final byte PRECISE = 8;
+
+	/** The kind of a value converted to a Joda date/time object. */
+	private static final byte DATETIME = 9;
+
+	/** The kind of a value converted to a list using raw/untyped JSON binding. */
+	private static final byte LIST = 10;
+
+	/** The kind of a value converted to a map using raw/untyped JSON binding. */
+	private static final byte MAP = 11;
+
+	/** The kind of a value converted to a java.time instant. */
+	private static final byte INSTANT = 12;
+
+	/** The kind of a value converted to a java.time date/time with an offset. */
+	private static final byte OFFSET_DATETIME = 13;
+
+	/** The kind of a value converted to a java.time date. */
+	private static final byte LOCAL_DATE = 14;
+
+	/** The initial state of a streaming 64-bit hash, which is the FNV-1a offset basis. */
+	static final long SEED = 0xcbf29ce484222325L;
 
-	/** This value as a character. */
-	private Character character;
+	/** The multiplier of a streaming 64-bit hash, which is the FNV-1a prime. */
+	private static final long PRIME = 0x100000001b3L;
 
-	/** This value as a boolean. */
-	private Boolean truth;
+	/** The marker fed to a streaming 64-bit hash in place of a null value. */
+	private static final long NULL = -1L;
 
-	/** This value as an integer. */
-	private Integer integer;
+	/** The powers of ten that are exactly representable as long floating-point numbers. */
+	private static final double[] POWERS = { 1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13,
+			1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22 };
 
-	/** This value as a short integer. */
-	private Short shortint;
+	/** The powers of ten that are exactly representable as short floating-point numbers. */
+	private static final float[] SHORT_POWERS = { 1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f };
 
-	/** This value as a long integer. */
-	private Long longint;
+	/** The greatest number of significant digits accumulated when parsing a floating-point number directly. */
+	private static final int DIGITS = 18;
 
-	/** This value as a short floating-point number. */
-	private Float floating;
+	/** This value as a string, or null until this value has been decoded or sliced from its line. */
+	private String string;
+
+	/** The buffer comprising the UTF-8 encoded bytes of this value, or null unless this value was created from bytes. */
+	private ByteBuffer buffer;
+
+	/** The line comprising the characters of this value, or null unless this value was created from a line. */
+	private String line;
+
+	/** The index within the buffer or line of the first encoded byte or character of this value. */
+	private int offset;
 
-	/** This value as a long floating-point number. */
-	private Double doubleint;
+	/** The number of encoded bytes or characters of this value within the buffer or line. */
+	private int length;
 
-	/** This value as a big decimal to help with precise calculations. */
-	private BigDecimal precise;
+	/** The most recent conversion of this value to a type other than a primitive type, or null. */
+	private Object converted;
 
-	/** This value as a Joda datetime that is compatible with the ISO-8601 standard. */
-	private DateTime datetime;
+	/** The most recent conversion of this value to a primitive type, as the bits of a long integer. */
+	private long primitive;
 
-	/** This value as a list created using "raw" "untyped" JSON binding. */
-	private List<Object> list;
+	/** The kind of the most recent conversion of this value, or NONE if this value has not been converted. */
+	private byte kind;
 
-	/** This value as a map created using "raw" "untyped" JSON binding. */
-	private Map<String, Object> map;
+	/** The line number of the scenario comprising this value, or zero if the line number is not known. */
+	private int number;
+
+	/** The column of this value within its scenario, starting at one for the result. */
+	private int column;
 
 	/**
 	 * Creates a value equivalent to the specified string.
@@ -81,6 +148,50 @@ public class Value {
 
 		string = value;
 
+		kind = NONE;
+
+	}
+
+	/**
+	 * Creates a value equivalent to the specified range of UTF-8 encoded bytes, which are decoded to a string only when
+	 * this value is first read.
+	 * 
+	 * @param buffer
+	 *            the buffer comprising the encoded bytes, which must not be modified subsequently.
+	 * @param offset
+	 *            the index within the buffer of the first encoded byte.
+	 * @param length
+	 *            the number of encoded bytes.
+	 */
+	Value(ByteBuffer buffer, int offset, int length) {
+
+		this.buffer = buffer;
+		this.offset = offset;
+		this.length = length;
+
+		kind = NONE;
+
+	}
+
+	/**
+	 * Creates a value equivalent to the specified range of characters of the specified line, which are sliced from the
+	 * line only when this value is first read.
+	 * 
+	 * @param line
+	 *            the line.
+	 * @param offset
+	 *            the index within the line of the first character.
+	 * @param length
+	 *            the number of characters.
+	 */
+	Value(String line, int offset, int length) {
+
+		this.line = line;
+		this.offset = offset;
+		this.length = length;
+
+		kind = NONE;
+
 	}
 
 	/**
@@ -90,6 +201,20 @@ public class Value {
 	 */
 	public String string() {
 
+		if (string == null) {
+
+			if (buffer != null) {
+
+				string = decode(buffer, offset, length);
+
+			} else if (line != null) {
+
+				string = line.substring(offset, offset + length);
+
+			}
+
+		}
+
 		return string;
 
 	}
@@ -101,12 +226,22 @@ public class Value {
 	 */
 	public char character() {
 
-		if (character == null) {
+		if (kind == CHARACTER) {
 
-			character = string.charAt(0);
+			return (char) primitive;
 
 		}
 
+		long start = Metrics.start();
+
+		char character = string().charAt(0);
+
+		Metrics.valueConverted("character", start);
+
+		primitive = character;
+		converted = null;
+		kind = CHARACTER;
+
 		return character;
 
 	}
@@ -118,12 +253,22 @@ public class Value {
 	 */
 	public boolean truth() {
 
-		if (truth == null) {
+		if (kind == TRUTH) {
 
-			truth = Boolean.parseBoolean(string);
+			return primitive != 0;
 
 		}
 
+		long start = Metrics.start();
+
+		boolean truth = Boolean.parseBoolean(string());
+
+		Metrics.valueConverted("truth", start);
+
+		primitive = truth ? 1 : 0;
+		converted = null;
+		kind = TRUTH;
+
 		return truth;
 
 	}
@@ -135,12 +280,40 @@ public class Value {
 	 */
 	public int integer() {
 
-		if (integer == null) {
+		if (kind == INTEGER) {
+
+			return (int) primitive;
+
+		}
+
+		long start = Metrics.start();
+
+		int integer;
+
+		if (parseLong(Integer.MIN_VALUE, Integer.MAX_VALUE)) {
+
+			integer = (int) primitive;
+
+		} else {
+
+			try {
+
+				integer = Integer.parseInt(string());
+
+			} catch (NumberFormatException error) {
+
+				throw unparsable("an integer", error);
 
-			integer = Integer.parseInt(string);
+			}
 
 		}
 
+		Metrics.valueConverted("integer", start);
+
+		primitive = integer;
+		converted = null;
+		kind = INTEGER;
+
 		return integer;
 
 	}
@@ -152,12 +325,40 @@ public class Value {
 	 */
 	public short shortint() {
 
-		if (shortint == null) {
+		if (kind == SHORTINT) {
+
+			return (short) primitive;
+
+		}
+
+		long start = Metrics.start();
+
+		short shortint;
+
+		if (parseLong(Short.MIN_VALUE, Short.MAX_VALUE)) {
+
+			shortint = (short) primitive;
+
+		} else {
+
+			try {
+
+				shortint = Short.parseShort(string());
+
+			} catch (NumberFormatException error) {
+
+				throw unparsable("a short integer", error);
 
-			shortint = Short.parseShort(string);
+			}
 
 		}
 
+		Metrics.valueConverted("shortint", start);
+
+		primitive = shortint;
+		converted = null;
+		kind = SHORTINT;
+
 		return shortint;
 
 	}
@@ -169,12 +370,40 @@ public class Value {
 	 */
 	public long longint() {
 
-		if (longint == null) {
+		if (kind == LONGINT) {
+
+			return primitive;
+
+		}
+
+		long start = Metrics.start();
+
+		long longint;
+
+		if (parseLong(Long.MIN_VALUE, Long.MAX_VALUE)) {
+
+			longint = primitive;
+
+		} else {
+
+			try {
+
+				longint = Long.parseLong(string());
+
+			} catch (NumberFormatException error) {
+
+				throw unparsable("a long integer", error);
 
-			longint = Long.parseLong(string);
+			}
 
 		}
 
+		Metrics.valueConverted("longint", start);
+
+		primitive = longint;
+		converted = null;
+		kind = LONGINT;
+
 		return longint;
 
 	}
@@ -186,12 +415,40 @@ public class Value {
 	 */
 	public float floating() {
 
-		if (floating == null) {
+		if (kind == FLOATING) {
+
+			return Float.intBitsToFloat((int) primitive);
+
+		}
+
+		long start = Metrics.start();
+
+		float floating;
+
+		if (parseFloating(true)) {
+
+			floating = Float.intBitsToFloat((int) primitive);
+
+		} else {
+
+			try {
+
+				floating = Float.parseFloat(string());
+
+			} catch (NumberFormatException error) {
+
+				throw unparsable("a short floating-point number", error);
 
-			floating = Float.parseFloat(string);
+			}
 
 		}
 
+		Metrics.valueConverted("floating", start);
+
+		primitive = Float.floatToRawIntBits(floating);
+		converted = null;
+		kind = FLOATING;
+
 		return floating;
 
 	}
@@ -203,12 +460,40 @@ public class Value {
 	 */
 	public double doubleint() {
 
-		if (doubleint == null) {
+		if (kind == DOUBLEINT) {
+
+			return Double.longBitsToDouble(primitive);
+
+		}
+
+		long start = Metrics.start();
+
+		double doubleint;
+
+		if (parseFloating(false)) {
+
+			doubleint = Double.longBitsToDouble(primitive);
+
+		} else {
+
+			try {
+
+				doubleint = Double.parseDouble(string());
+
+			} catch (NumberFormatException error) {
+
+				throw unparsable("a long floating-point number", error);
 
-			doubleint = Double.parseDouble(string);
+			}
 
 		}
 
+		Metrics.valueConverted("doubleint", start);
+
+		primitive = Double.doubleToRawLongBits(doubleint);
+		converted = null;
+		kind = DOUBLEINT;
+
 		return doubleint;
 
 	}
@@ -220,56 +505,164 @@ public class Value {
 	 */
 	public BigDecimal precise() {
 
-		if (precise == null) {
+		if (kind == PRECISE) {
 
-			precise = new BigDecimal(string);
+			return (BigDecimal) converted;
 
 		}
 
+		long start = Metrics.start();
+
+		BigDecimal precise = new BigDecimal(string());
+
+		Metrics.valueConverted("precise", start);
+
+		converted = precise;
+		kind = PRECISE;
+
 		return precise;
 
 	}
 
 	/**
-	 * This value as a Joda date/time object that is compatible with the ISO8601 standard.
+	 * This value as a Joda date/time object that is compatible with the ISO8601 standard.<br/>
+	 * <br/>
+	 * The common forms of ISO-8601 date/time are parsed directly, while any other form is parsed by Joda.
 	 * 
 	 * @return the Joda date/time object.
 	 */
 	public DateTime datetime() {
 
+		if (kind == DATETIME) {
+
+			return (DateTime) converted;
+
+		}
+
+		long start = Metrics.start();
+
+		IsoDateTime parsed = IsoDateTime.parse(string());
+
+		DateTime datetime = parsed == null ? null : datetime(parsed);
+
 		if (datetime == null) {
 
-			datetime = new DateTime(string);
+			datetime = new DateTime(string());
 
 		}
 
+		Metrics.valueConverted("datetime", start);
+
+		converted = datetime;
+		kind = DATETIME;
+
 		return datetime;
 
 	}
 
+	/**
+	 * Yields this value as a java.time instant, parsed from an ISO-8601 date/time that is resolved against the system
+	 * default time zone when it has no offset.
+	 * 
+	 * @return the instant.
+	 */
+	public Instant instant() {
+
+		if (kind == INSTANT) {
+
+			return (Instant) converted;
+
+		}
+
+		long start = Metrics.start();
+
+		Instant instant = IsoDateTime.instant(string());
+
+		Metrics.valueConverted("instant", start);
+
+		converted = instant;
+		kind = INSTANT;
+
+		return instant;
+
+	}
+
+	/**
+	 * Yields this value as a java.time date/time with an offset, parsed from an ISO-8601 date/time that is resolved
+	 * against the system default time zone when it has no offset.
+	 * 
+	 * @return the date/time with an offset.
+	 */
+	public OffsetDateTime offsetDateTime() {
+
+		if (kind == OFFSET_DATETIME) {
+
+			return (OffsetDateTime) converted;
+
+		}
+
+		long start = Metrics.start();
+
+		OffsetDateTime offsetDateTime = IsoDateTime.offsetDateTime(string());
+
+		Metrics.valueConverted("offsetDateTime", start);
+
+		converted = offsetDateTime;
+		kind = OFFSET_DATETIME;
+
+		return offsetDateTime;
+
+	}
+
+	/**
+	 * Yields this value as a java.time date, parsed from an ISO-8601 date or date/time whose time and offset are
+	 * disregarded.
+	 * 
+	 * @return the date.
+	 */
+	public LocalDate localDate() {
+
+		if (kind == LOCAL_DATE) {
+
+			return (LocalDate) converted;
+
+		}
+
+		long start = Metrics.start();
+
+		LocalDate localDate = IsoDateTime.localDate(string());
+
+		Metrics.valueConverted("localDate", start);
+
+		converted = localDate;
+		kind = LOCAL_DATE;
+
+		return localDate;
+
+	}
+
 	/**
 	 * Yields this value as a list created using raw/untyped JSON binding.
 	 * 
 	 * @return the list.
 	 */
+	@SuppressWarnings("unchecked")
 	public List<Object> list() {
 
-		if (list == null) {
-
-			ObjectMapper mapper = new ObjectMapper();
+		if (kind == LIST) {
 
-			try {
+			return (List<Object>) converted;
 
-				list = mapper.readValue(string, new TypeReference<List<Object>>() {
-				});
+		}
 
-			} catch (Throwable error) {
+		long start = Metrics.start();
 
-				throw new DingoException(error);
+		List<Object> list = Json.list(string(), Object.class);
 
-			}
+		Metrics.valueConverted("list", start);
 
-		}
+		converted = list;
+		kind = LIST;
 
 		return list;
 
@@ -284,20 +677,13 @@ public class Value {
 	 */
 	public <EntryType> List<EntryType> list(Class<EntryType> type) {
 
-		ObjectMapper mapper = new ObjectMapper();
-
-		try {
-
-			List<EntryType> list = mapper.readValue(string, new TypeReference<List<EntryType>>() {
-			});
+		long start = Metrics.start();
 
-			return list;
+		List<EntryType> list = Json.list(string(), type);
 
-		} catch (Throwable error) {
+		Metrics.valueConverted("list", start);
 
-			throw new DingoException(error);
-
-		}
+		return list;
 
 	}
 
@@ -306,24 +692,23 @@ public class Value {
 	 * 
 	 * @return the map.
 	 */
+	@SuppressWarnings("unchecked")
 	public Map<String, Object> map() {
 
-		if (map == null) {
-
-			ObjectMapper mapper = new ObjectMapper();
+		if (kind == MAP) {
 
-			try {
+			return (Map<String, Object>) converted;
 
-				map = mapper.readValue(string, new TypeReference<Map<String, Object>>() {
-				});
+		}
 
-			} catch (Throwable error) {
+		long start = Metrics.start();
 
-				throw new DingoException(error);
+		Map<String, Object> map = Json.map(string(), String.class, Object.class);
 
-			}
+		Metrics.valueConverted("map", start);
 
-		}
+		converted = map;
+		kind = MAP;
 
 		return map;
 
@@ -340,20 +725,13 @@ public class Value {
 	 */
 	public <KeyType, ValueType> Map<KeyType, ValueType> map(Class<KeyType> keyType, Class<ValueType> valueType) {
 
-		ObjectMapper mapper = new ObjectMapper();
+		long start = Metrics.start();
 
-		try {
+		Map<KeyType, ValueType> map = Json.map(string(), keyType, valueType);
 
-			Map<KeyType, ValueType> map = mapper.readValue(string, new TypeReference<Map<KeyType, ValueType>>() {
-			});
+		Metrics.valueConverted("map", start);
 
-			return map;
-
-		} catch (Throwable error) {
-
-			throw new DingoException(error);
-
-		}
+		return map;
 
 	}
 
@@ -366,31 +744,701 @@ public class Value {
 	 */
 	public <ObjectType> ObjectType object(Class<ObjectType> type) {
 
-		ObjectMapper mapper = new ObjectMapper();
+		long start = Metrics.start();
+
+		ObjectType object = Json.object(string(), type);
+
+		Metrics.valueConverted("object", start);
+
+		return object;
+
+	}
+
+	/**
+	 * Yields the value at the specified JSON pointer within this value, which is streamed as JSON without binding any
+	 * part of the JSON, so that a few fields of a large JSON document may be read cheaply.<br/>
+	 * <br/>
+	 * A scalar yields a value comprising its text, so that a number may be read as an integer for example, while an
+	 * object or array yields a value comprising its JSON, which may itself be read by pointer or bound.
+	 * 
+	 * @param pointer
+	 *            the JSON pointer, such as '/name/first' or '/items/0', or the empty string for the whole JSON.
+	 * @return the value, or null if there is no value at the pointer.
+	 */
+	public Value json(String pointer) {
+
+		return Json.pointer(string(), pointer);
+
+	}
 
-		try {
+	/**
+	 * Yields the UTF-8 encoded bytes of this value, or null if this value is null.
+	 * 
+	 * @return the encoded bytes, or null.
+	 */
+	byte[] bytes() {
 
-			ObjectType object = mapper.readValue(string, type);
+		if (buffer != null) {
 
-			return object;
+			byte[] bytes = new byte[length];
 
-		} catch (Throwable error) {
+			ByteBuffer view = buffer.duplicate();
+			view.position(offset);
+			view.get(bytes);
 
-			throw new DingoException(error);
+			return bytes;
 
 		}
 
+		String string = string();
+
+		return string == null ? null : string.getBytes(StandardCharsets.UTF_8);
+
 	}
 
 	/**
-	 * Yields a string representation of this value.
+	 * Asserts that this value is null, without decoding or slicing this value.
 	 * 
-	 * @return the representation.
+	 * @return true if this value is null, false otherwise.
+	 */
+	boolean isNull() {
+
+		return string == null && line == null && buffer == null;
+
+	}
+
+	/**
+	 * Records the location of this value within its test data file, so that a value that cannot be converted may be
+	 * reported with its line number and column.
+	 * 
+	 * @param number
+	 *            the line number of the scenario comprising this value.
+	 * @param column
+	 *            the column of this value within its scenario, starting at one for the result.
+	 */
+	void locate(int number, int column) {
+
+		this.number = number;
+		this.column = column;
+
+	}
+
+	/**
+	 * Asserts that this value is equivalent to the specified value, such that both values are null or both values
+	 * comprise the same sequence of characters.<br/>
+	 * <br/>
+	 * Values that both comprise encoded bytes are compared byte by byte without decoding either value.
+	 * 
+	 * @param that
+	 *            the specified value.
+	 * @return true if the values are equivalent, false otherwise.
 	 */
 	@Override
-	public String toString() {
+	public boolean equals(Object that) {
 
-		return string;
+		if (this == that) {
+
+			return true;
+
+		}
+
+		if (!(that instanceof Value)) {
+
+			return false;
+
+		}
+
+		Value other = (Value) that;
+
+		if (string == null && buffer != null && other.string == null && other.buffer != null) {
+
+			if (length != other.length) {
+
+				return false;
+
+			}
+
+			for (int index = 0; index < length; index++) {
+
+				if (buffer.get(offset + index) != other.buffer.get(other.offset + index)) {
+
+					return false;
+
+				}
+
+			}
+
+			return true;
+
+		}
+
+		String string = string();
+
+		return string == null ? other.string() == null : string.equals(other.string());
+
+	}
+
+	/**
+	 * Yields a hash code for this value, consistent with <code>equals</code>, which is derived from the streaming
+	 * 64-bit hash of this value.
+	 * 
+	 * @return the hash code.
+	 */
+	@Override
+	public int hashCode() {
+
+		long hash = finish(hash(SEED));
+
+		return (int) (hash ^ (hash >>> 32));
+
+	}
+
+	/**
+	 * Feeds this value into the specified state of a streaming 64-bit hash, yielding the subsequent state.<br/>
+	 * <br/>
+	 * Each Unicode code point of this value is fed into the hash, followed by the number of code points, so that the
+	 * state is identical whether this value comprises a string or encoded bytes, which are decoded as they are fed
+	 * without creating a string. The number of code points lies outside the range of code points, so that values fed
+	 * in succession are never confused with values divided at a different boundary.
+	 * 
+	 * @param hash
+	 *            the state of the hash.
+	 * @return the subsequent state of the hash.
+	 */
+	long hash(long hash) {
+
+		if (string == null && buffer != null) {
+
+			long fed = hashBytes(hash);
+
+			if (fed != NULL) {
+
+				return fed;
+
+			}
+
+		}
+
+		if (string == null && line != null) {
+
+			return hashChars(hash, line, offset, offset + length);
+
+		}
+
+		String string = string();
+
+		if (string == null) {
+
+			return (hash ^ NULL) * PRIME;
+
+		}
+
+		return hashChars(hash, string, 0, string.length());
+
+	}
+
+	/**
+	 * Feeds the specified range of characters of the specified string into the specified state of a streaming 64-bit
+	 * hash, yielding the subsequent state.
+	 * 
+	 * @param hash
+	 *            the state of the hash.
+	 * @param string
+	 *            the string.
+	 * @param from
+	 *            the index within the string of the first character.
+	 * @param to
+	 *            the index within the string following the last character.
+	 * @return the subsequent state of the hash.
+	 */
+	private static long hashChars(long hash, String string, int from, int to) {
+
+		int count = 0;
+
+		for (int index = from; index < to; count++) {
+
+			int codePoint = string.charAt(index);
+
+			if (Character.isHighSurrogate((char) codePoint) && index + 1 < to
+					&& Character.isLowSurrogate(string.charAt(index + 1))) {
+
+				codePoint = Character.toCodePoint((char) codePoint, string.charAt(index + 1));
+
+			}
+
+			hash = (hash ^ codePoint) * PRIME;
+
+			index += Character.charCount(codePoint);
+
+		}
+
+		return (hash ^ (Character.MAX_CODE_POINT + 1L + count)) * PRIME;
+
+	}
+
+	/**
+	 * Feeds the encoded bytes of this value into the specified state of a streaming 64-bit hash, decoding each code
+	 * point as it is fed, or yields the null marker if the encoded bytes are not well-formed UTF-8, in which case the
+	 * value must be decoded and fed as a string exactly as the decoder replaces malformed input.
+	 * 
+	 * @param hash
+	 *            the state of the hash.
+	 * @return the subsequent state of the hash, or the null marker if the encoded bytes are malformed.
+	 */
+	private long hashBytes(long hash) {
+
+		int count = 0;
+
+		int index = offset;
+		int end = offset + length;
+
+		while (index < end) {
+
+			int lead = buffer.get(index) & 0xff;
+
+			int codePoint;
+			int size;
+			int minimum;
+
+			if (lead < 0x80) {
+
+				codePoint = lead;
+				size = 1;
+				minimum = 0;
+
+			} else if (lead >= 0xc0 && lead < 0xe0) {
+
+				codePoint = lead & 0x1f;
+				size = 2;
+				minimum = 0x80;
+
+			} else if (lead >= 0xe0 && lead < 0xf0) {
+
+				codePoint = lead & 0x0f;
+				size = 3;
+				minimum = 0x800;
+
+			} else if (lead >= 0xf0 && lead < 0xf5) {
+
+				codePoint = lead & 0x07;
+				size = 4;
+				minimum = 0x10000;
+
+			} else {
+
+				return NULL;
+
+			}
+
+			if (index + size > end) {
+
+				return NULL;
+
+			}
+
+			for (int continuation = 1; continuation < size; continuation++) {
+
+				int trail = buffer.get(index + continuation) & 0xff;
+
+				if ((trail & 0xc0) != 0x80) {
+
+					return NULL;
+
+				}
+
+				codePoint = (codePoint << 6) | (trail & 0x3f);
+
+			}
+
+			if (codePoint < minimum || codePoint > Character.MAX_CODE_POINT
+					|| (codePoint >= Character.MIN_SURROGATE && codePoint <= Character.MAX_SURROGATE)) {
+
+				return NULL;
+
+			}
+
+			hash = (hash ^ codePoint) * PRIME;
+
+			index += size;
+			count++;
+
+		}
+
+		return (hash ^ (Character.MAX_CODE_POINT + 1L + count)) * PRIME;
+
+	}
+
+	/**
+	 * Finishes the specified state of a streaming 64-bit hash, so that every bit of the state affects every bit of the
+	 * hash, using the finalizer of MurmurHash3.
+	 * 
+	 * @param hash
+	 *            the state of the hash.
+	 * @return the hash.
+	 */
+	static long finish(long hash) {
+
+		hash ^= hash >>> 33;
+		hash *= 0xff51afd7ed558ccdL;
+		hash ^= hash >>> 33;
+		hash *= 0xc4ceb9fe1a85ec53L;
+		hash ^= hash >>> 33;
+
+		return hash;
+
+	}
+
+	/**
+	 * Yields a string representation of this value.
+	 * 
+	 * @return the representation.
+	 */
+	@Override
+	public String toString() {
+
+		return string();
+
+	}
+
+	/**
+	 * Decodes the specified range of UTF-8 encoded bytes to a string, without modifying the position or limit of the
+	 * specified buffer so that the buffer may be shared between threads.
+	 * 
+	 * @param buffer
+	 *            the buffer.
+	 * @param offset
+	 *            the index within the buffer of the first encoded byte.
+	 * @param length
+	 *            the number of encoded bytes.
+	 * @return the string.
+	 */
+	static String decode(ByteBuffer buffer, int offset, int length) {
+
+		if (buffer.hasArray()) {
+
+			return new String(buffer.array(), buffer.arrayOffset() + offset, length, StandardCharsets.UTF_8);
+
+		}
+
+		byte[] bytes = new byte[length];
+
+		ByteBuffer view = buffer.duplicate();
+		view.position(offset);
+		view.get(bytes);
+
+		return new String(bytes, StandardCharsets.UTF_8);
+
+	}
+
+	/**
+	 * Yields the number of characters of this value, which is the number of encoded bytes if this value comprises
+	 * encoded bytes that have not been decoded.
+	 * 
+	 * @return the number of characters or encoded bytes.
+	 */
+	private int size() {
+
+		return string != null ? string.length() : length;
+
+	}
+
+	/**
+	 * Yields the character of this value at the specified index, without decoding or slicing this value, where any
+	 * encoded byte that is not ASCII yields a character that is neither a digit nor a sign.
+	 * 
+	 * @param index
+	 *            the index.
+	 * @return the character.
+	 */
+	private char charAt(int index) {
+
+		if (string != null) {
+
+			return string.charAt(index);
+
+		}
+
+		if (line != null) {
+
+			return line.charAt(offset + index);
+
+		}
+
+		return (char) (buffer.get(offset + index) & 0xff);
+
+	}
+
+	/**
+	 * Parses this value directly from its characters or encoded bytes as a decimal integer within the specified range,
+	 * retaining the integer as the primitive bits of this value.<br/>
+	 * <br/>
+	 * Only an optional sign followed by ASCII digits is parsed directly, so that any other form is left to the JDK,
+	 * which either accepts the form or reports the error.
+	 * 
+	 * @param minimum
+	 *            the least integer in the range.
+	 * @param maximum
+	 *            the greatest integer in the range.
+	 * @return true if this value was parsed, false if this value must be parsed by the JDK.
+	 */
+	private boolean parseLong(long minimum, long maximum) {
+
+		int size = size();
+
+		if (size == 0) {
+
+			return false;
+
+		}
+
+		int index = 0;
+		char sign = charAt(0);
+		boolean negative = sign == '-';
+
+		if (negative || sign == '+') {
+
+			if (size == 1) {
+
+				return false;
+
+			}
+
+			index++;
+
+		}
+
+		long limit = negative ? minimum : -maximum;
+		long least = limit / 10;
+		long result = 0;
+
+		for (; index < size; index++) {
+
+			int digit = charAt(index) - '0';
+
+			if (digit < 0 || digit > 9 || result < least) {
+
+				return false;
+
+			}
+
+			result *= 10;
+
+			if (result < limit + digit) {
+
+				return false;
+
+			}
+
+			result -= digit;
+
+		}
+
+		primitive = negative ? result : -result;
+
+		return true;
+
+	}
+
+	/**
+	 * Parses this value directly from its characters or encoded bytes as a decimal floating-point number, retaining
+	 * the number as the primitive bits of this value.<br/>
+	 * <br/>
+	 * Only an optional sign, ASCII digits with an optional decimal point and an optional exponent are parsed directly,
+	 * and then only when the significand and the power of ten are both exactly representable, so that a single
+	 * multiplication or division yields the correctly rounded number. Any other number is left to the JDK.
+	 * 
+	 * @param single
+	 *            true to parse a short floating-point number, false to parse a long floating-point number.
+	 * @return true if this value was parsed, false if this value must be parsed by the JDK.
+	 */
+	private boolean parseFloating(boolean single) {
+
+		int size = size();
+		int index = 0;
+
+		if (size > 0 && (charAt(0) == '-' || charAt(0) == '+')) {
+
+			index++;
+
+		}
+
+		boolean negative = index > 0 && charAt(0) == '-';
+		boolean point = false;
+		boolean digits = false;
+		long significand = 0;
+		int significant = 0;
+		int exponent = 0;
+
+		for (; index < size; index++) {
+
+			char current = charAt(index);
+
+			if (current >= '0' && current <= '9') {
+
+				if (significand != 0 || current != '0') {
+
+					if (++significant > DIGITS) {
+
+						return false;
+
+					}
+
+					significand = significand * 10 + (current - '0');
+
+				}
+
+				if (point) {
+
+					exponent--;
+
+				}
+
+				digits = true;
+
+			} else if (current == '.' && !point) {
+
+				point = true;
+
+			} else {
+
+				break;
+
+			}
+
+		}
+
+		if (!digits) {
+
+			return false;
+
+		}
+
+		if (index < size) {
+
+			char current = charAt(index++);
+
+			if (current != 'e' && current != 'E' || index == size) {
+
+				return false;
+
+			}
+
+			boolean down = charAt(index) == '-';
+
+			if (down || charAt(index) == '+') {
+
+				if (++index == size) {
+
+					return false;
+
+				}
+
+			}
+
+			int power = 0;
+
+			for (; index < size; index++) {
+
+				int digit = charAt(index) - '0';
+
+				if (digit < 0 || digit > 9) {
+
+					return false;
+
+				}
+
+				power = Math.min(power * 10 + digit, 1000);
+
+			}
+
+			exponent += down ? -power : power;
+
+		}
+
+		if (single) {
+
+			if (significand > 1L << 24 || significand != 0 && (exponent < -10 || exponent > 10)) {
+
+				return false;
+
+			}
+
+			float floating = significand == 0 ? 0f : exponent < 0 ? significand / SHORT_POWERS[-exponent]
+					: significand * SHORT_POWERS[exponent];
+
+			primitive = Float.floatToRawIntBits(negative ? -floating : floating);
+
+		} else {
+
+			if (significand > 1L << 53 || significand != 0 && (exponent < -22 || exponent > 22)) {
+
+				return false;
+
+			}
+
+			double doubleint = significand == 0 ? 0d : exponent < 0 ? significand / POWERS[-exponent]
+					: significand * POWERS[exponent];
+
+			primitive = Double.doubleToRawLongBits(negative ? -doubleint : doubleint);
+
+		}
+
+		return true;
+
+	}
+
+	/**
+	 * Creates an exception reporting that this value cannot be parsed as the specified type, together with the line
+	 * number and column of this value if its location is known.
+	 * 
+	 * @param type
+	 *            the description of the type, such as 'an integer'.
+	 * @param error
+	 *            the error raised by the JDK.
+	 * @return the exception.
+	 */
+	private NumberFormatException unparsable(String type, NumberFormatException error) {
+
+		String location = number > 0 ? " at line " + number + ", column " + column : "";
+
+		NumberFormatException exception =
+				new NumberFormatException("Unable to parse '" + string() + "' as " + type + location);
+
+		exception.initCause(error);
+
+		return exception;
+
+	}
+
+	/**
+	 * Converts the specified parsed ISO-8601 date/time to a Joda date/time object in the default time zone, resolving
+	 * a local date/time against the default time zone as Joda does.
+	 * 
+	 * @param parsed
+	 *            the parsed date/time.
+	 * @return the Joda date/time object, or null if the local date/time falls within a gap in the default time zone.
+	 */
+	private static DateTime datetime(IsoDateTime parsed) {
+
+		long local = parsed.localEpochMilli();
+
+		if (parsed.zoned) {
+
+			return new DateTime(local - parsed.offset * 1000L);
+
+		}
+
+		DateTimeZone zone = DateTimeZone.getDefault();
+
+		int offset = zone.getOffsetFromLocal(local);
+
+		if (zone.getOffset(local - offset) != offset) {
+
+			return null;
+
+		}
+
+		return new DateTime(local - offset);
 
 	}
 
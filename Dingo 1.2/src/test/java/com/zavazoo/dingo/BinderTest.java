@@ -0,0 +1,308 @@
+/*
+ * Zavazoo Dingo 1.2 - Java API for Data-Driven Testing 
+ * Copyright (C) 2013 Chris White <chriswhitelondon@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.zavazoo.dingo;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import junit.framework.TestCase;
+
+import org.junit.Test;
+
+/**
+ * Tests the binding of scenarios to instances of classes.
+ * 
+ * @author Chris White <chriswhitelondon@gmail.com>
+ * @since JDK8
+ */
+public class BinderTest extends TestCase {
+
+	/** The logical name of the test data file whose scenarios are bound. */
+	private static final String NAME = "com/zavazoo/dingo/numeric-table";
+
+	/**
+	 * Tests the binding of scenarios to the parameters of the constructor with the most parameters.
+	 */
+	@Test
+	public void testConstructor() {
+
+		List<String> rows = Dingo.scenarios(NAME).as(Row.class).map(Row::toString).collect(Collectors.toList());
+
+		assertThat(rows, equalTo(Arrays.asList("3 1 2 1.5 apple", "-7 -10 3 2.25 banana", "5000000000 4 1 -0.5 apple")));
+
+	}
+
+	/**
+	 * Tests the binding of scenarios to the instance fields of a class with only a constructor without parameters.
+	 */
+	@Test
+	public void testFields() {
+
+		Scenario scenario = Dingo.scenarios(NAME).next();
+
+		Fields fields = scenario.bind(Fields.class);
+
+		assertThat(fields.total, equalTo(3L));
+		assertThat(fields.first, equalTo(scenario.criteria[0]));
+		assertThat(fields.second, equalTo("2"));
+		assertThat(fields.ignored, equalTo(null));
+
+		assertThat(scenario.bind(Fields.class) != fields, equalTo(true));
+
+	}
+
+	/**
+	 * Tests the binding of scenarios read with a header line to the instance fields of the same names as the columns,
+	 * regardless of the order in which the fields are declared.
+	 */
+	@Test
+	public void testNamedFields() {
+
+		Scenarios scenarios = Dingo.scenarios("com/zavazoo/dingo/header-table", null, new Options().header(true));
+
+		List<String> rows = scenarios.as(Named.class).map(named -> named.fruit + " " + named.ratio + " " + named.total)
+				.collect(Collectors.toList());
+
+		assertThat(rows, equalTo(Arrays.asList("apple 1.5 3", "banana 2.25 -7", "apple -0.5 5000000000")));
+
+		try {
+
+			Dingo.scenarios("com/zavazoo/dingo/header-table", null, new Options().header(true)).next()
+					.bind(Misnamed.class);
+
+			fail();
+
+		} catch (DingoException expected) {
+
+			assertThat(expected.getMessage(), equalTo("Unable to find the column 'colour' of the scenario at line 2"));
+
+		}
+
+	}
+
+	/**
+	 * Tests the errors raised when scenarios cannot be bound to a class.
+	 */
+	@Test
+	public void testUnbindable() {
+
+		Scenario scenario = Dingo.scenarios(NAME).next();
+
+		try {
+
+			scenario.bind(Runnable.class);
+
+			fail();
+
+		} catch (DingoException expected) {
+		}
+
+		try {
+
+			scenario.bind(Wide.class);
+
+			fail();
+
+		} catch (DingoException expected) {
+
+			assertThat(expected.getMessage(), equalTo("Unable to bind the scenario at line 1 to the class '"
+					+ Wide.class.getName() + "', which requires 6 columns rather than 5"));
+
+		}
+
+		try {
+
+			scenario.bind(Whole.class);
+
+			fail();
+
+		} catch (NumberFormatException expected) {
+
+			assertThat(expected.getMessage(), equalTo("Unable to parse '1.5' as an integer at line 1, column 4"));
+
+		}
+
+	}
+
+	/**
+	 * Enumerates the fruits named by the test data file.
+	 */
+	enum Fruit {
+
+		apple, banana
+
+	}
+
+	/**
+	 * Constitutes a row of the test data file bound to the parameters of a constructor.
+	 */
+	static class Row {
+
+		/** The total. */
+		private final long total;
+
+		/** The first operand. */
+		private final int first;
+
+		/** The second operand. */
+		private final Integer second;
+
+		/** The ratio. */
+		private final double ratio;
+
+		/** The fruit. */
+		private final Fruit fruit;
+
+		/**
+		 * Creates a row comprising the specified values.
+		 * 
+		 * @param total
+		 *            the total.
+		 * @param first
+		 *            the first operand.
+		 * @param second
+		 *            the second operand.
+		 * @param ratio
+		 *            the ratio.
+		 * @param fruit
+		 *            the fruit.
+		 */
+		Row(long total, int first, Integer second, double ratio, Fruit fruit) {
+
+			this.total = total;
+			this.first = first;
+			this.second = second;
+			this.ratio = ratio;
+			this.fruit = fruit;
+
+		}
+
+		/**
+		 * Creates a row comprising the specified total only.
+		 * 
+		 * @param total
+		 *            the total.
+		 */
+		Row(long total) {
+
+			this(total, 0, null, 0, null);
+
+		}
+
+		@Override
+		public String toString() {
+
+			return total + " " + first + " " + second + " " + ratio + " " + fruit;
+
+		}
+
+	}
+
+	/**
+	 * Constitutes a row of the test data file bound to instance fields.
+	 */
+	static class Fields {
+
+		/** The number of rows bound, which is not bound since it is static. */
+		static int count;
+
+		/** The total. */
+		long total;
+
+		/** The first operand, which is bound as a value. */
+		Value first;
+
+		/** The second operand, which is bound as a string. */
+		String second;
+
+		/** A field that is not bound since it is transient. */
+		transient String ignored;
+
+	}
+
+	/**
+	 * Constitutes a row of a test data file with a header line bound to instance fields by name, which are declared
+	 * in a different order from the columns.
+	 */
+	static class Named {
+
+		/** The fruit. */
+		Fruit fruit;
+
+		/** The ratio, which is assigned without being boxed. */
+		double ratio;
+
+		/** The total. */
+		long total;
+
+	}
+
+	/**
+	 * Constitutes a row of a test data file with a header line with a field that names no column.
+	 */
+	static class Misnamed {
+
+		/** The total. */
+		long total;
+
+		/** The colour, which names no column. */
+		String colour;
+
+	}
+
+	/**
+	 * Constitutes a row whose ratio cannot be bound, since the ratio is not a whole number.
+	 */
+	static class Whole {
+
+		/**
+		 * Creates a row comprising the specified values.
+		 * 
+		 * @param total
+		 *            the total.
+		 * @param first
+		 *            the first operand.
+		 * @param second
+		 *            the second operand.
+		 * @param ratio
+		 *            the ratio.
+		 */
+		Whole(long total, int first, int second, int ratio) {
+		}
+
+	}
+
+	/**
+	 * Constitutes a row with more parameters than the test data file has columns.
+	 */
+	static class Wide {
+
+		/**
+		 * Creates a row comprising six values, which are disregarded.
+		 */
+		Wide(String first, String second, String third, String fourth, String fifth, String sixth) {
+		}
+
+	}
+
+}
\ No newline at end of file
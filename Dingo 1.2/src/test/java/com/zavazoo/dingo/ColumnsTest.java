@@ -0,0 +1,176 @@
+/*
+ * Zavazoo Dingo 1.2 - Java API for Data-Driven Testing 
+ * Copyright (C) 2013 Chris White <chriswhitelondon@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.zavazoo.dingo;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import junit.framework.TestCase;
+
+import org.junit.Test;
+
+/**
+ * Tests the column index component and the reading of test data files with a header line.
+ * 
+ * @author Chris White <chriswhitelondon@gmail.com>
+ * @since JDK8
+ */
+public class ColumnsTest extends TestCase {
+
+	/** The logical name of the test data file with a header line. */
+	private static final String NAME = "com/zavazoo/dingo/header-table";
+
+	/**
+	 * Tests the lookup of every column by name, including names whose hash codes collide.
+	 */
+	@Test
+	public void testLookup() {
+
+		String[] names = new String[200];
+
+		for (int column = 0; column < names.length; column++) {
+
+			names[column] = "column" + column;
+
+		}
+
+		Columns columns = new Columns(names);
+
+		for (int column = 0; column < names.length; column++) {
+
+			assertThat(columns.column(new String(names[column])), equalTo(column));
+
+		}
+
+		assertThat(columns.column("column200"), equalTo(-1));
+		assertThat(columns.column(""), equalTo(-1));
+
+		columns = new Columns(new String[] { "Aa", "BB", "AaAa", "BBBB", "AaBB", "BBAa" });
+
+		assertThat(columns.column("BB"), equalTo(1));
+		assertThat(columns.column("BBAa"), equalTo(5));
+		assertThat(columns.column("C#"), equalTo(-1));
+
+		try {
+
+			new Columns(new String[] { "first", "second", "first" });
+
+			fail();
+
+		} catch (DingoException expected) {
+		}
+
+	}
+
+	/**
+	 * Tests the reading of values by name from a test data file with a header line, by every means of reading.
+	 */
+	@Test
+	public void testHeader() throws IOException {
+
+		File cache = Files.createTempDirectory("dingo-").toFile();
+		cache.deleteOnExit();
+
+		for (Options options : Arrays.asList(new Options(), new Options().mapped(true), new Options().compiled(true)
+				.cache(cache), new Options().readAhead(2))) {
+
+			DataFile dataFile = new DataFile(NAME, null, options.header(true));
+			dataFile.openFile();
+
+			List<String> rows = new ArrayList<String>();
+
+			for (Scenario scenario : new Scenarios(dataFile)) {
+
+				rows.add(scenario.number + ": " + scenario.get("fruit").string() + " " + scenario.get("total").longint()
+						+ " " + scenario.get("ratio").doubleint());
+
+				assertThat(scenario.get("first"), equalTo(scenario.criteria[0]));
+
+			}
+
+			assertThat(rows, equalTo(Arrays.asList("2: apple 3 1.5", "3: banana -7 2.25", "4: apple 5000000000 -0.5")));
+
+			dataFile.finalize();
+
+		}
+
+		DataFile dataFile = new DataFile(NAME, null, new Options().mapped(true).header(true));
+		dataFile.openFile();
+
+		List<Integer> numbers = Collections.synchronizedList(new ArrayList<Integer>());
+
+		dataFile.parallel(scenario -> numbers.add(scenario.get("second").integer() * 10 + scenario.number), 2);
+
+		Collections.sort(numbers);
+
+		assertThat(numbers, equalTo(Arrays.asList(14, 22, 33)));
+
+	}
+
+	/**
+	 * Tests the errors raised when values are read by names that do not name a column.
+	 */
+	@Test
+	public void testUnknown() {
+
+		Scenario scenario = Dingo.scenarios(NAME, null, new Options().header(true).projection(1)).next();
+
+		assertThat(scenario.get("first").integer(), equalTo(1));
+
+		try {
+
+			scenario.get("fruit");
+
+			fail();
+
+		} catch (DingoException expected) {
+
+			assertThat(expected.getMessage(), equalTo("Unable to find the column 'fruit' of the scenario at line 2"));
+
+		}
+
+		try {
+
+			scenario.get("colour");
+
+			fail();
+
+		} catch (DingoException expected) {
+		}
+
+		try {
+
+			Dingo.scenarios(NAME).next().get("fruit");
+
+			fail();
+
+		} catch (DingoException expected) {
+		}
+
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,330 @@
+/*
+ * Zavazoo Dingo 1.2 - Java API for Data-Driven Testing 
+ * Copyright (C) 2013 Chris White <chriswhitelondon@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.zavazoo.dingo;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.CRC32;
+
+import junit.framework.TestCase;
+
+import org.junit.Test;
+
+/**
+ * Tests the compiled file component.
+ * 
+ * @author Chris White <chriswhitelondon@gmail.com>
+ * @since JDK8
+ */
+public class CompiledFileTest extends TestCase {
+
+	/**
+	 * Tests the reading and reporting of scenarios from the compiled binary form of a test data file, and the reuse of
+	 * that binary form.
+	 */
+	@Test
+	public void testCompiledScenarios() throws IOException {
+
+		String newline = System.getProperty("line.separator");
+
+		String name = "com/zavazoo/dingo/three-scenarios";
+
+		File cache = Files.createTempDirectory("dingo-").toFile();
+
+		Options options = new Options().compiled(true).cache(cache);
+
+		for (int run = 0; run < 2; run++) {
+
+			ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+
+			DataFile dataFile = new DataFile(name, new PrintStream(buffer), options);
+			dataFile.openFile();
+
+			for (int number = 1; number <= 3; number++) {
+
+				Scenario expected = new Scenario(new Value("result" + number), new Value[] {
+						new Value("criteria" + number + "-1"), new Value("criteria" + number + "-2") });
+
+				Scenario actual = dataFile.nextScenario();
+
+				assertThat(actual, equalTo(expected));
+				assertThat(actual.number, equalTo(number));
+
+			}
+
+			assertNull(dataFile.nextScenario());
+			assertNull(dataFile.nextScenario());
+
+			String expected = DataFile.REPORT_PREFIX + name + ".1: result1, criteria1-1, criteria1-2" + newline
+					+ DataFile.REPORT_PREFIX + name + ".2: result2, criteria2-1, criteria2-2" + newline
+					+ DataFile.REPORT_PREFIX + name + ".3: result3, criteria3-1, criteria3-2" + newline;
+
+			assertThat(buffer.toString(), equalTo(expected));
+
+			assertThat(cache.list().length, equalTo(1));
+
+		}
+
+	}
+
+	/**
+	 * Tests the compilation of a new binary form whenever the test data file changes.
+	 */
+	@Test
+	public void testChecksum() throws IOException {
+
+		File cache = Files.createTempDirectory("dingo-").toFile();
+
+		File source = File.createTempFile("dingo-", ".tsv");
+		source.deleteOnExit();
+
+		DataFile dataFile = new DataFile(null, null);
+		dataFile.setType(DataFileType.TSV);
+
+		Files.write(source.toPath(), "first\t1\n\nsecond\t2\té\r\n".getBytes(StandardCharsets.UTF_8));
+
+		MappedFile mappedFile = new MappedFile(source);
+
+		CompiledFile compiledFile = new CompiledFile(dataFile, mappedFile, cache);
+
+		assertThat(compiledFile.count(), equalTo(3));
+
+		assertThat(compiledFile.scenario(1).result.string(), equalTo("first"));
+		assertThat(compiledFile.scenario(2).result.string(), equalTo(null));
+		assertThat(compiledFile.scenario(3).criteria[1].string(), equalTo("é"));
+		assertThat(compiledFile.line(3), equalTo("second\t2\té"));
+
+		compiledFile.close();
+		mappedFile.close();
+
+		Files.write(source.toPath(), "third\t3".getBytes(StandardCharsets.UTF_8));
+
+		mappedFile = new MappedFile(source);
+
+		compiledFile = new CompiledFile(dataFile, mappedFile, cache);
+
+		assertThat(compiledFile.count(), equalTo(1));
+		assertThat(compiledFile.scenario(1).criteria[0].integer(), equalTo(3));
+
+		assertThat(cache.list().length, equalTo(2));
+
+		compiledFile.close();
+		mappedFile.close();
+
+	}
+
+	/**
+	 * Tests the keying of the binary form by the path, size and modification time of a test data file on the file
+	 * system, and by the checksum of the contents of a test data file extracted from a resource.
+	 */
+	@Test
+	public void testKey() throws IOException {
+
+		File cache = Files.createTempDirectory("dingo-").toFile();
+
+		File source = File.createTempFile("dingo-", ".tsv");
+		source.deleteOnExit();
+
+		DataFile dataFile = new DataFile(null, null);
+		dataFile.setType(DataFileType.TSV);
+
+		byte[] first = "first\t1".getBytes(StandardCharsets.UTF_8);
+
+		Files.write(source.toPath(), first);
+
+		assertTrue(source.setLastModified(1000000000000L));
+
+		MappedFile mappedFile = new MappedFile(source);
+
+		String key = CompiledFile.key(DataFileType.TSV, mappedFile);
+
+		CompiledFile compiledFile = new CompiledFile(dataFile, mappedFile, cache);
+
+		CRC32 checksum = new CRC32();
+		checksum.update(first);
+
+		assertThat(compiledFile.checksum(), equalTo(checksum.getValue()));
+
+		compiledFile.close();
+		mappedFile.close();
+
+		Files.write(source.toPath(), "fifth\t5".getBytes(StandardCharsets.UTF_8));
+
+		assertTrue(source.setLastModified(1000000002000L));
+
+		mappedFile = new MappedFile(source);
+
+		assertFalse(CompiledFile.key(DataFileType.TSV, mappedFile).equals(key));
+
+		compiledFile = new CompiledFile(dataFile, mappedFile, cache);
+
+		assertThat(compiledFile.scenario(1).result.string(), equalTo("fifth"));
+
+		compiledFile.close();
+		mappedFile.close();
+
+		URL url = getClass().getResource("/com/zavazoo/dingo/compressed-scenarios.csv.gz");
+
+		mappedFile = new MappedFile(url, Compression.GZIP);
+
+		assertNull(mappedFile.getFile());
+
+		key = CompiledFile.key(DataFileType.CSV, mappedFile);
+
+		mappedFile.close();
+
+		mappedFile = new MappedFile(url, Compression.GZIP);
+
+		assertThat(CompiledFile.key(DataFileType.CSV, mappedFile), equalTo(key));
+
+		mappedFile.close();
+
+	}
+
+	/**
+	 * Tests the reading of scenarios by one thread while lines are reported by another, through windows small enough
+	 * to be remapped for almost every record.
+	 */
+	@Test
+	public void testConcurrentReads() throws Exception {
+
+		File cache = Files.createTempDirectory("dingo-").toFile();
+
+		File source = File.createTempFile("dingo-", ".tsv");
+		source.deleteOnExit();
+
+		DataFile dataFile = new DataFile(null, null);
+		dataFile.setType(DataFileType.TSV);
+
+		StringBuilder content = new StringBuilder();
+
+		for (int number = 1; number <= 500; number++) {
+
+			content.append("result").append(number).append("\tcriterion").append(number).append('\n');
+
+		}
+
+		Files.write(source.toPath(), content.toString().getBytes(StandardCharsets.UTF_8));
+
+		MappedFile mappedFile = new MappedFile(source);
+
+		CompiledFile compiledFile = new CompiledFile(dataFile, mappedFile, cache, 64);
+
+		AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+
+		Thread reporter = new Thread(() -> {
+
+			try {
+
+				for (int round = 0; round < 20; round++) {
+
+					for (int number = 500; number >= 1; number--) {
+
+						assertThat(compiledFile.line(number), equalTo("result" + number + "\tcriterion" + number));
+
+					}
+
+				}
+
+			} catch (Throwable error) {
+
+				failure.set(error);
+
+			}
+
+		});
+
+		reporter.start();
+
+		for (int round = 0; round < 20; round++) {
+
+			for (int number = 1; number <= 500; number++) {
+
+				Scenario scenario = compiledFile.scenario(number);
+
+				assertThat(scenario.result.string(), equalTo("result" + number));
+				assertThat(scenario.criteria[0].string(), equalTo("criterion" + number));
+
+			}
+
+		}
+
+		reporter.join();
+
+		assertThat(failure.get(), equalTo(null));
+
+		compiledFile.close();
+		mappedFile.close();
+
+	}
+
+	/**
+	 * Tests the running in parallel of the scenarios of a compiled test data file with a header line, which starts
+	 * after the header line and after any scenarios that have already been read.
+	 */
+	@Test
+	public void testParallelHeader() throws IOException {
+
+		String name = "com/zavazoo/dingo/header-table";
+
+		File cache = Files.createTempDirectory("dingo-").toFile();
+		cache.deleteOnExit();
+
+		Options options = new Options().mapped(true).header(true).compiled(true).cache(cache);
+
+		List<String> rows = Collections.synchronizedList(new ArrayList<String>());
+
+		Dingo.parallel(name, null, options, scenario -> rows.add(scenario.number + ":" + scenario.get("first")
+				.string()));
+
+		Collections.sort(rows);
+
+		assertThat(rows, equalTo(Arrays.asList("2:1", "3:-10", "4:4")));
+
+		DataFile dataFile = new DataFile(name, null, options);
+		dataFile.openFile();
+
+		assertThat(dataFile.nextScenario().number, equalTo(2));
+
+		rows.clear();
+
+		dataFile.parallel(scenario -> rows.add(scenario.number + ":" + scenario.get("first").string()), 2);
+
+		Collections.sort(rows);
+
+		assertThat(rows, equalTo(Arrays.asList("3:-10", "4:4")));
+
+		dataFile.finalize();
+
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,180 @@
+/*
+ * Zavazoo Dingo 1.2 - Java API for Data-Driven Testing 
+ * Copyright (C) 2013 Chris White <chriswhitelondon@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.zavazoo.dingo;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.zip.GZIPOutputStream;
+
+import junit.framework.TestCase;
+
+import org.junit.Test;
+
+/**
+ * Tests the compression component.
+ * 
+ * @author Chris White <chriswhitelondon@gmail.com>
+ * @since JDK8
+ */
+public class CompressionTest extends TestCase {
+
+	/**
+	 * Tests the resolution of logical names to compressed test data files.
+	 */
+	@Test
+	public void testResolve() {
+
+		ResourceIndex.Resource resource = ResourceIndex.resolve("com/zavazoo/dingo/compressed-scenarios");
+
+		assertThat(resource.type, equalTo(DataFileType.CSV));
+		assertThat(resource.compression, equalTo(Compression.GZIP));
+
+		resource = ResourceIndex.resolve("com/zavazoo/dingo/deflated-scenarios");
+
+		assertThat(resource.type, equalTo(DataFileType.BSV));
+		assertThat(resource.compression, equalTo(Compression.DEFLATE));
+
+		resource = ResourceIndex.resolve("com/zavazoo/dingo/duplicate-scenarios");
+
+		assertThat(resource.compression, equalTo(Compression.NONE));
+
+	}
+
+	/**
+	 * Tests the reading of scenarios from compressed test data files through a buffered reader, memory-mapped and in
+	 * compiled form.
+	 */
+	@Test
+	public void testScenarios() throws IOException {
+
+		File cache = Files.createTempDirectory("dingo-").toFile();
+		cache.deleteOnExit();
+
+		List<Scenario> expected = scenarios("com/zavazoo/dingo/duplicate-scenarios", new Options());
+
+		assertThat(expected.size(), equalTo(7));
+
+		for (Options options : Arrays.asList(new Options(), new Options().mapped(true),
+				new Options().compiled(true).cache(cache))) {
+
+			assertThat(scenarios("com/zavazoo/dingo/compressed-scenarios", options), equalTo(expected));
+			assertThat(scenarios("com/zavazoo/dingo/deflated-scenarios", options), equalTo(expected));
+
+		}
+
+	}
+
+	/**
+	 * Tests the reading ahead of a decompressed stream that spans many chunks.
+	 */
+	@Test
+	public void testReadAhead() throws IOException {
+
+		byte[] bytes = new byte[ReadAheadStream.CHUNK * ReadAheadStream.CHUNKS * 2 + 12345];
+
+		Random random = new Random(0);
+
+		for (int index = 0; index < bytes.length; index++) {
+
+			bytes[index] = (byte) ('a' + random.nextInt(4));
+
+		}
+
+		ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+
+		try (GZIPOutputStream output = new GZIPOutputStream(compressed)) {
+
+			output.write(bytes);
+
+		}
+
+		InputStream input = new ReadAheadStream(Compression.GZIP.decompress(new ByteArrayInputStream(compressed
+				.toByteArray())));
+
+		ByteArrayOutputStream decompressed = new ByteArrayOutputStream();
+
+		byte[] buffer = new byte[7777];
+
+		int read;
+
+		while ((read = input.read(buffer)) >= 0) {
+
+			decompressed.write(buffer, 0, read);
+
+		}
+
+		assertThat(input.read(), equalTo(-1));
+
+		input.close();
+
+		assertTrue(Arrays.equals(decompressed.toByteArray(), bytes));
+
+		try {
+
+			new ReadAheadStream(Compression.GZIP.decompress(new ByteArrayInputStream(Arrays.copyOf(compressed
+					.toByteArray(), 1000)))).read(buffer);
+
+			fail();
+
+		} catch (IOException expected) {
+		}
+
+	}
+
+	/**
+	 * Reads all the scenarios of the test data file with the specified logical name according to the specified
+	 * options.
+	 * 
+	 * @param name
+	 *            the logical name.
+	 * @param options
+	 *            the options.
+	 * @return the scenarios.
+	 */
+	private List<Scenario> scenarios(String name, Options options) {
+
+		DataFile dataFile = new DataFile(name, null, options);
+		dataFile.openFile();
+
+		List<Scenario> scenarios = new ArrayList<Scenario>();
+
+		for (Scenario scenario : new Scenarios(dataFile)) {
+
+			scenarios.add(scenario);
+
+		}
+
+		dataFile.finalize();
+
+		return scenarios;
+
+	}
+
+}
\ No newline at end of file
@@ -23,6 +23,10 @@ import static org.hamcrest.Matchers.equalTo;
 
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import junit.framework.TestCase;
 
@@ -70,6 +74,30 @@ public class DataFileTest extends TestCase {
 
 	}
 
+	/**
+	 * Tests that a test data file is decoded as UTF-8 whether it is read through a buffered reader or memory-mapped,
+	 * regardless of the default charset.
+	 */
+	@Test
+	public void testEncoding() {
+
+		for (boolean mapped : new boolean[] { false, true }) {
+
+			DataFile dataFile = new DataFile("com/zavazoo/dingo/accented-scenarios", null);
+			dataFile.openFile(mapped);
+
+			Scenario scenario = dataFile.nextScenario();
+
+			assertThat(scenario.result.string(), equalTo("caf\u00e9"));
+			assertThat(scenario.criteria[0].string(), equalTo("na\u00efve"));
+			assertThat(scenario.criteria[1].string(), equalTo("\u65e5\u672c"));
+
+			dataFile.finalize();
+
+		}
+
+	}
+
 	/**
 	 * Tests the parsing of the next scenario comprised by a test data file.
 	 */
@@ -211,4 +239,137 @@ public class DataFileTest extends TestCase {
 
 	}
 
+	/**
+	 * Tests the parsing of the next scenario comprised by a memory-mapped test data file.
+	 */
+	@Test
+	public void testNextMappedScenario() {
+
+		Options options = new Options().mapped(true);
+
+		DataFile dataFile = new DataFile("com/zavazoo/dingo/empty-scenarios", null, options);
+		dataFile.openFile();
+
+		assertNull(dataFile.nextScenario());
+		assertNull(dataFile.nextScenario());
+
+		Scenario firstExpected = new Scenario(new Value("result1"), new Value[] { new Value("criteria1-1"),
+				new Value("criteria1-2") });
+
+		Scenario secondExpected = new Scenario(new Value("result2"), new Value[] { new Value("criteria2-1"),
+				new Value("criteria2-2") });
+
+		Scenario thirdExpected = new Scenario(new Value("result3"), new Value[] { new Value("criteria3-1"),
+				new Value("criteria3-2") });
+
+		dataFile = new DataFile("com/zavazoo/dingo/three-scenarios", null, options);
+		dataFile.openFile();
+
+		assertThat(dataFile.nextScenario(), equalTo(firstExpected));
+		assertThat(dataFile.nextScenario(), equalTo(secondExpected));
+		assertThat(dataFile.nextScenario(), equalTo(thirdExpected));
+
+		assertNull(dataFile.nextScenario());
+		assertNull(dataFile.nextScenario());
+
+	}
+
+	/**
+	 * Tests the parsing of lines of test data comprising UTF-8 encoded bytes.
+	 */
+	@Test
+	public void testParseBytes() {
+
+		byte[] line = "  -0.999\t|\tsome \u00e9t\u00e9 text\t||\t{\"key\": \"value\"} ".getBytes(StandardCharsets.UTF_8);
+
+		Scenario expected = new Scenario(new Value("-0.999"), new Value[] { new Value("some \u00e9t\u00e9 text"),
+				new Value(""), new Value("{\"key\": \"value\"}") });
+
+		DataFile dataFile = new DataFile(null, null);
+		dataFile.setType(DataFileType.BSV);
+
+		Scenario actual = dataFile.parseBytes(ByteBuffer.wrap(line), 0, line.length);
+
+		assertThat(actual, equalTo(expected));
+
+		assertThat(actual.criteria[0].string(), equalTo("some \u00e9t\u00e9 text"));
+
+	}
+
+	/**
+	 * Tests the writing of test report information for a memory-mapped test data file.
+	 */
+	@Test
+	public void testMappedReport() {
+
+		String newline = System.getProperty("line.separator");
+
+		String name = "com/zavazoo/dingo/three-scenarios";
+
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+
+		DataFile dataFile = new DataFile(name, new PrintStream(buffer), new Options().mapped(true));
+		dataFile.openFile();
+
+		assertNotNull(dataFile.nextScenario());
+		assertNotNull(dataFile.nextScenario());
+
+		String expected = DataFile.REPORT_PREFIX + name + ".1: result1, criteria1-1, criteria1-2" + newline
+				+ DataFile.REPORT_PREFIX + name + ".2: result2, criteria2-1, criteria2-2" + newline;
+
+		assertThat(buffer.toString(), equalTo(expected));
+
+	}
+
+	/**
+	 * Tests the parallel reading, parsing and running of the scenarios comprised by a test data file.
+	 */
+	@Test
+	public void testParallel() {
+
+		String newline = System.getProperty("line.separator");
+
+		String name = "com/zavazoo/dingo/three-scenarios";
+
+		for (int chunks = 1; chunks <= 4; chunks++) {
+
+			ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+
+			DataFile dataFile = new DataFile(name, new PrintStream(buffer, true), new Options());
+			dataFile.openFile(true);
+
+			Map<Integer, String> results = new ConcurrentHashMap<Integer, String>();
+
+			dataFile.parallel(scenario -> results.put(scenario.number, scenario.result.string()), chunks);
+
+			assertThat(results.size(), equalTo(3));
+
+			for (int number = 1; number <= 3; number++) {
+
+				assertThat(results.get(number), equalTo("result" + number));
+
+				String information = DataFile.REPORT_PREFIX + name + "." + number + ": result" + number
+						+ ", criteria" + number + "-1, criteria" + number + "-2" + newline;
+
+				assertTrue(buffer.toString().contains(information));
+
+			}
+
+		}
+
+		DataFile dataFile = new DataFile(name, null);
+		dataFile.openFile();
+
+		try {
+
+			dataFile.parallel(scenario -> {
+			});
+
+			fail();
+
+		} catch (DingoException expected) {
+		}
+
+	}
+
 }
\ No newline at end of file
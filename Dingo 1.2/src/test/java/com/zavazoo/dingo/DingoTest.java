@@ -0,0 +1,187 @@
+/*
+ * Zavazoo Dingo 1.2 - Java API for Data-Driven Testing 
+ * Copyright (C) 2013 Chris White <chriswhitelondon@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.zavazoo.dingo;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import junit.framework.TestCase;
+
+import org.junit.Test;
+
+/**
+ * Tests the scenario runner of the Dingo component.
+ * 
+ * @author Chris White <chriswhitelondon@gmail.com>
+ * @since JDK8
+ */
+public class DingoTest extends TestCase {
+
+	/** The logical name of the test data file whose scenarios are run. */
+	private static final String NAME = "com/zavazoo/dingo/duplicate-scenarios";
+
+	/**
+	 * Tests the running of every scenario concurrently, with at most the specified number of scenarios at once.
+	 */
+	@Test
+	public void testRun() {
+
+		AtomicInteger running = new AtomicInteger();
+		AtomicInteger maximum = new AtomicInteger();
+
+		List<Integer> numbers = Collections.synchronizedList(new ArrayList<Integer>());
+
+		Dingo.run(NAME, null, new Options().concurrency(3), scenario -> {
+
+			maximum.accumulateAndGet(running.incrementAndGet(), Math::max);
+
+			Thread.sleep(50);
+
+			numbers.add(scenario.number);
+
+			running.decrementAndGet();
+
+		});
+
+		Collections.sort(numbers);
+
+		assertThat(numbers, equalTo(Arrays.asList(1, 2, 3, 4, 5, 6, 7)));
+
+		assertTrue(maximum.get() > 1);
+		assertTrue(maximum.get() <= 3);
+
+	}
+
+	/**
+	 * Tests the aggregation of the failures of several scenarios, each with the line number of its scenario.
+	 */
+	@Test
+	public void testFailures() {
+
+		List<Integer> numbers = Collections.synchronizedList(new ArrayList<Integer>());
+
+		try {
+
+			Dingo.run(NAME, null, new Options(), scenario -> {
+
+				numbers.add(scenario.number);
+
+				assertThat(scenario.result.string(), equalTo("result1"));
+
+			});
+
+			fail();
+
+		} catch (AssertionError expected) {
+
+			assertTrue(expected.getMessage().startsWith("4 of 7 scenarios of the data file '" + NAME + "' failed"));
+
+			for (int number : new int[] { 2, 4, 5, 7 }) {
+
+				assertTrue(expected.getMessage().contains(System.lineSeparator() + "line " + number
+						+ ": java.lang.AssertionError"));
+
+			}
+
+			assertTrue(expected.getMessage().indexOf("line 2:") < expected.getMessage().indexOf("line 7:"));
+
+			assertThat(expected.getSuppressed().length, equalTo(3));
+
+		}
+
+		assertThat(numbers.size(), equalTo(7));
+
+		try {
+
+			Dingo.run(NAME, null, new Options(), scenario -> {
+
+				if (scenario.number == 5) {
+
+					throw new IllegalStateException("unavailable");
+
+				}
+
+				assertThat(scenario.number, equalTo(1));
+
+			});
+
+			fail();
+
+		} catch (DingoException expected) {
+
+			assertTrue(expected.getMessage().contains("line 5: java.lang.IllegalStateException: unavailable"));
+
+			assertTrue(expected.getCause() instanceof AssertionError);
+
+		}
+
+	}
+
+	/**
+	 * Tests that the failures of the scenarios already run are finished and reported when reading a later scenario
+	 * fails.
+	 */
+	@Test
+	public void testMalformed() {
+
+		List<Integer> numbers = Collections.synchronizedList(new ArrayList<Integer>());
+
+		try {
+
+			Dingo.run("com/zavazoo/dingo/malformed-scenarios", null, new Options().concurrency(3), scenario -> {
+
+				Thread.sleep(100);
+
+				numbers.add(scenario.number);
+
+				assertThat(scenario.number, equalTo(1));
+
+			});
+
+			fail();
+
+		} catch (DingoException expected) {
+
+			assertThat(expected.getMessage(), equalTo("Unterminated quoted value at line 4, index 10"));
+
+			assertThat(expected.getSuppressed().length, equalTo(1));
+
+			Throwable aggregated = expected.getSuppressed()[0];
+
+			assertTrue(aggregated instanceof AssertionError);
+			assertTrue(aggregated.getMessage().startsWith("2 of 3 scenarios of the data file "
+					+ "'com/zavazoo/dingo/malformed-scenarios' failed"));
+			assertTrue(aggregated.getMessage().contains(System.lineSeparator() + "line 2: "));
+			assertTrue(aggregated.getMessage().contains(System.lineSeparator() + "line 3: "));
+
+		}
+
+		Collections.sort(numbers);
+
+		assertThat(numbers, equalTo(Arrays.asList(1, 2, 3)));
+
+	}
+
+}
\ No newline at end of file
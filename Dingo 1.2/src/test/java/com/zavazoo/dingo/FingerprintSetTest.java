@@ -0,0 +1,84 @@
+/*
+ * Zavazoo Dingo 1.2 - Java API for Data-Driven Testing 
+ * Copyright (C) 2013 Chris White <chriswhitelondon@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.zavazoo.dingo;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import junit.framework.TestCase;
+
+import org.junit.Test;
+
+/**
+ * Tests the fingerprint set component.
+ * 
+ * @author Chris White <chriswhitelondon@gmail.com>
+ * @since JDK8
+ */
+public class FingerprintSetTest extends TestCase {
+
+	/**
+	 * Tests the recording of fingerprints, including the zero fingerprint and fingerprints that share a home slot.
+	 */
+	@Test
+	public void testAdd() {
+
+		FingerprintSet set = new FingerprintSet(16);
+
+		assertTrue(set.add(0L));
+		assertFalse(set.add(0L));
+
+		assertTrue(set.add(1L));
+		assertTrue(set.add(17L));
+		assertTrue(set.add(33L));
+		assertFalse(set.add(17L));
+
+		assertTrue(set.contains(33L));
+		assertFalse(set.contains(49L));
+
+		assertThat(set.size(), equalTo(4));
+
+	}
+
+	/**
+	 * Tests the growth of the table as fingerprints are recorded.
+	 */
+	@Test
+	public void testGrow() {
+
+		FingerprintSet set = new FingerprintSet(16);
+
+		for (long index = 0; index < 100000; index++) {
+
+			assertTrue(set.add(Value.finish(index)));
+
+		}
+
+		for (long index = 0; index < 100000; index++) {
+
+			assertFalse(set.add(Value.finish(index)));
+
+		}
+
+		assertThat(set.size(), equalTo(100000));
+		assertThat(set.slots(), equalTo(1 << 18));
+
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,155 @@
+/*
+ * Zavazoo Dingo 1.2 - Java API for Data-Driven Testing 
+ * Copyright (C) 2013 Chris White <chriswhitelondon@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.zavazoo.dingo;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+
+import junit.framework.TestCase;
+
+import org.joda.time.DateTime;
+import org.junit.Test;
+
+/**
+ * Tests the ISO-8601 date/time parser component.
+ * 
+ * @author Chris White <chriswhitelondon@gmail.com>
+ * @since JDK8
+ */
+public class IsoDateTimeTest extends TestCase {
+
+	/** The date/times in recognised forms, each of which must be parsed directly. */
+	private static final String[] RECOGNISED = { "2004-12-13", "2004-12-13T21:39", "2004-12-13T21:39:45",
+			"2004-12-13T21:39:45.6", "2004-12-13T21:39:45.618", "2004-12-13T21:39:45.618273645",
+			"2004-12-13T21:39:45.618Z", "2004-12-13T21:39:45.618-08:00", "2004-12-13T21:39:45+0530", "2004-12-13T21:39+01",
+			"2000-02-29T00:00:00Z", "1969-12-31T23:59:59.999Z", "0001-01-01T00:00:00Z", "9999-12-31T23:59:59Z" };
+
+	/** The date/times that are not in a recognised form or whose fields are out of range. */
+	private static final String[] UNRECOGNISED = { "", "2004", "2004-12", "2004-12-1", "2004-13-01", "2004-02-30",
+			"2001-02-29", "2004-12-13 21:39", "2004-12-13T21", "2004-12-13T24:00", "2004-12-13T21:60",
+			"2004-12-13T21:39:60", "2004-12-13T21:39:45.", "2004-12-13T21:39:45.1234567890", "2004-12-13T21:39:45+19:00",
+			"2004-12-13T21:39:45+01:0", "2004-12-13T21:39:45Zulu", "2004-12-13T21:39:45[Europe/London]", "2004-348",
+			"T21:39" };
+
+	/**
+	 * Tests the parsing of every recognised form consistently with Joda and java.time.
+	 */
+	@Test
+	public void testRecognised() {
+
+		for (String text : RECOGNISED) {
+
+			IsoDateTime parsed = IsoDateTime.parse(text);
+
+			assertTrue(text, parsed != null);
+
+			assertThat(text, new Value(text).datetime(), equalTo(new DateTime(text)));
+
+			LocalDateTime local = text.length() == 10 ? LocalDate.parse(text).atStartOfDay() : parsed.local();
+
+			OffsetDateTime expected = parsed.zoned ? OffsetDateTime.of(local, parsed.zoneOffset())
+					: local.atZone(ZoneId.systemDefault()).toOffsetDateTime();
+
+			assertThat(text, IsoDateTime.offsetDateTime(text), equalTo(expected));
+			assertThat(text, IsoDateTime.instant(text), equalTo(expected.toInstant()));
+			assertThat(text, IsoDateTime.localDate(text), equalTo(local.toLocalDate()));
+
+		}
+
+	}
+
+	/**
+	 * Tests the rejection of every unrecognised form, so that the caller falls back to a general-purpose parser.
+	 */
+	@Test
+	public void testUnrecognised() {
+
+		for (String text : UNRECOGNISED) {
+
+			assertTrue(text, IsoDateTime.parse(text) == null);
+
+		}
+
+	}
+
+	/**
+	 * Tests the fields and epoch arithmetic of a parsed date/time.
+	 */
+	@Test
+	public void testFields() {
+
+		IsoDateTime parsed = IsoDateTime.parse("2004-12-13T21:39:45.618273645+05:30");
+
+		assertThat(parsed.year, equalTo(2004));
+		assertThat(parsed.month, equalTo(12));
+		assertThat(parsed.day, equalTo(13));
+		assertThat(parsed.hour, equalTo(21));
+		assertThat(parsed.minute, equalTo(39));
+		assertThat(parsed.second, equalTo(45));
+		assertThat(parsed.nano, equalTo(618273645));
+		assertThat(parsed.offset, equalTo(19800));
+		assertThat(parsed.zoneOffset(), equalTo(ZoneOffset.ofHoursMinutes(5, 30)));
+
+		assertThat(parsed.localEpochSecond(), equalTo(parsed.local().toEpochSecond(ZoneOffset.UTC)));
+		assertThat(parsed.localEpochMilli(), equalTo(parsed.local().toInstant(ZoneOffset.UTC).toEpochMilli()));
+
+	}
+
+	/**
+	 * Tests the fallback to the general-purpose parsers for unrecognised forms, and the errors they raise.
+	 */
+	@Test
+	public void testFallback() {
+
+		String zoned = "2004-12-13T21:39:45Z[UTC]";
+
+		assertThat(IsoDateTime.instant(zoned), equalTo(Instant.parse("2004-12-13T21:39:45Z")));
+		assertThat(IsoDateTime.localDate(zoned), equalTo(LocalDate.of(2004, 12, 13)));
+
+		assertThat(new Value("2004-348").datetime(), equalTo(new DateTime("2004-348")));
+
+		try {
+
+			IsoDateTime.instant("2004-13-01T00:00Z");
+
+			fail();
+
+		} catch (DateTimeParseException expected) {
+		}
+
+		try {
+
+			new Value("not a date").datetime();
+
+			fail();
+
+		} catch (IllegalArgumentException expected) {
+		}
+
+	}
+
+}
\ No newline at end of file
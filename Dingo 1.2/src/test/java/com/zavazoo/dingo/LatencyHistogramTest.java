@@ -0,0 +1,104 @@
+/*
+ * Zavazoo Dingo 1.2 - Java API for Data-Driven Testing 
+ * Copyright (C) 2013 Chris White <chriswhitelondon@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.zavazoo.dingo;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import java.util.List;
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+import org.junit.Test;
+
+/**
+ * Tests the latency histogram component.
+ * 
+ * @author Chris White <chriswhitelondon@gmail.com>
+ * @since JDK8
+ */
+public class LatencyHistogramTest extends TestCase {
+
+	/**
+	 * Tests that the buckets are contiguous, so that every latency is counted by exactly one bucket whose highest
+	 * latency is within 1/64 of the latency.
+	 */
+	@Test
+	public void testBuckets() {
+
+		for (int index = 1; index < LatencyHistogram.index(Long.MAX_VALUE); index++) {
+
+			assertThat(LatencyHistogram.index(LatencyHistogram.highest(index - 1) + 1), equalTo(index));
+			assertThat(LatencyHistogram.index(LatencyHistogram.highest(index)), equalTo(index));
+
+		}
+
+		assertThat(LatencyHistogram.highest(LatencyHistogram.index(Long.MAX_VALUE)), equalTo(Long.MAX_VALUE));
+
+		Random random = new Random(0);
+
+		for (int sample = 0; sample < 100000; sample++) {
+
+			long latency = (random.nextLong() >>> 1) >>> random.nextInt(63);
+
+			long highest = LatencyHistogram.highest(LatencyHistogram.index(latency));
+
+			assertTrue(highest >= latency);
+			assertTrue(highest - latency <= latency / 64);
+
+		}
+
+	}
+
+	/**
+	 * Tests the percentiles, maximum and slowest scenarios of recorded latencies.
+	 */
+	@Test
+	public void testPercentiles() {
+
+		LatencyHistogram histogram = new LatencyHistogram(3);
+
+		for (int number = 1; number <= 1000; number++) {
+
+			histogram.record(number, number * 1000L);
+
+		}
+
+		assertThat(histogram.count(), equalTo(1000L));
+		assertThat(histogram.maximum(), equalTo(1000000L));
+
+		assertTrue(Math.abs(histogram.percentile(0.5) - 500000) <= 500000 / 64);
+		assertTrue(Math.abs(histogram.percentile(0.99) - 990000) <= 990000 / 64);
+
+		assertThat(histogram.percentile(1), equalTo(1000000L));
+
+		List<LatencyHistogram.Sample> slowest = histogram.slowest();
+
+		assertThat(slowest.size(), equalTo(3));
+
+		assertThat(slowest.get(0).number, equalTo(1000));
+		assertThat(slowest.get(1).number, equalTo(999));
+		assertThat(slowest.get(2).number, equalTo(998));
+
+		assertThat(new LatencyHistogram(0).percentile(0.5), equalTo(0L));
+
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,127 @@
+/*
+ * Zavazoo Dingo 1.2 - Java API for Data-Driven Testing 
+ * Copyright (C) 2013 Chris White <chriswhitelondon@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.zavazoo.dingo;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import junit.framework.TestCase;
+
+import org.junit.Test;
+
+/**
+ * Tests the line index component.
+ * 
+ * @author Chris White <chriswhitelondon@gmail.com>
+ * @since JDK8
+ */
+public class LineIndexTest extends TestCase {
+
+	/**
+	 * Tests the division of a file into chunks aligned to the start of a line, and the numbering of those chunks.
+	 */
+	@Test
+	public void testChunks() throws IOException {
+
+		StringBuilder content = new StringBuilder();
+
+		for (int line = 1; line <= 1000; line++) {
+
+			content.append("line ").append(line).append(line % 3 == 0 ? "\r\n" : "\n");
+
+		}
+
+		MappedFile mappedFile = mappedFile(content.toString());
+
+		for (int chunks = 1; chunks <= 64; chunks++) {
+
+			LineIndex index = new LineIndex(mappedFile, chunks);
+
+			assertThat(index.chunks(), equalTo(chunks));
+			assertThat(index.count(), equalTo(1000));
+			assertThat(index.offset(chunks), equalTo(mappedFile.size()));
+
+			for (int chunk = 0; chunk < chunks; chunk++) {
+
+				MappedReader reader = new MappedReader(mappedFile, index.offset(chunk), index.offset(chunk + 1));
+
+				int number = index.number(chunk);
+
+				while (reader.nextLine()) {
+
+					number++;
+
+					String line = Value.decode(reader.buffer(), reader.lineStart(), reader.lineEnd()
+							- reader.lineStart());
+
+					assertThat(line, equalTo("line " + number));
+
+				}
+
+				assertThat(number, equalTo(index.number(chunk + 1)));
+
+			}
+
+		}
+
+		mappedFile.close();
+
+	}
+
+	/**
+	 * Tests the division of an empty file into chunks.
+	 */
+	@Test
+	public void testEmpty() throws IOException {
+
+		MappedFile mappedFile = mappedFile("");
+
+		LineIndex index = new LineIndex(mappedFile, 4);
+
+		assertThat(index.count(), equalTo(0));
+		assertThat(index.offset(4), equalTo(0l));
+
+		mappedFile.close();
+
+	}
+
+	/**
+	 * Creates a mapped temporary file comprising the specified content.
+	 * 
+	 * @param content
+	 *            the content.
+	 * @return the mapped file.
+	 */
+	private MappedFile mappedFile(String content) throws IOException {
+
+		File file = File.createTempFile("dingo-", ".tsv");
+		file.deleteOnExit();
+
+		Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+
+		return new MappedFile(file.toURI().toURL());
+
+	}
+
+}
\ No newline at end of file
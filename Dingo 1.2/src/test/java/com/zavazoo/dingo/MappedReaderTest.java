@@ -0,0 +1,114 @@
+/*
+ * Zavazoo Dingo 1.2 - Java API for Data-Driven Testing 
+ * Copyright (C) 2013 Chris White <chriswhitelondon@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.zavazoo.dingo;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import junit.framework.TestCase;
+
+import org.junit.Test;
+
+/**
+ * Tests the mapped reader component.
+ * 
+ * @author Chris White <chriswhitelondon@gmail.com>
+ * @since JDK8
+ */
+public class MappedReaderTest extends TestCase {
+
+	/**
+	 * Tests the reading of lines terminated by line feeds, carriage returns and both.
+	 */
+	@Test
+	public void testLineTerminators() throws IOException {
+
+		List<String> expected = Arrays.asList("first", "", "second", "third", "", "fourth");
+
+		assertThat(lines("first\n\nsecond\r\nthird\r\rfourth", MappedReader.WINDOW), equalTo(expected));
+
+		assertThat(lines("first\n\nsecond\r\nthird\r\rfourth\n", MappedReader.WINDOW), equalTo(expected));
+
+		assertThat(lines("", MappedReader.WINDOW), equalTo(Arrays.<String> asList()));
+
+	}
+
+	/**
+	 * Tests the reading of lines that extend beyond the end of the mapped window.
+	 */
+	@Test
+	public void testSlidingWindow() throws IOException {
+
+		List<String> lines = Arrays.asList("first", "second", "third", "", "fourth");
+
+		assertThat(lines("first\r\nsecond\nthird\r\n\nfourth", 8), equalTo(lines));
+
+		try {
+
+			lines("first\nextremely long line\n", 8);
+
+			fail();
+
+		} catch (DingoException expected) {
+		}
+
+	}
+
+	/**
+	 * Reads all the lines of a temporary file comprising the specified content, using a window of the specified size.
+	 * 
+	 * @param content
+	 *            the content.
+	 * @param window
+	 *            the size of the window.
+	 * @return the lines.
+	 */
+	private List<String> lines(String content, int window) throws IOException {
+
+		File file = File.createTempFile("dingo-", ".tsv");
+		file.deleteOnExit();
+
+		Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+
+		MappedFile mappedFile = new MappedFile(file.toURI().toURL());
+		MappedReader reader = new MappedReader(mappedFile, 0, mappedFile.size(), window);
+
+		List<String> lines = new ArrayList<String>();
+
+		while (reader.nextLine()) {
+
+			lines.add(Value.decode(reader.buffer(), reader.lineStart(), reader.lineEnd() - reader.lineStart()));
+
+		}
+
+		mappedFile.close();
+
+		return lines;
+
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,158 @@
+/*
+ * Zavazoo Dingo 1.2 - Java API for Data-Driven Testing 
+ * Copyright (C) 2013 Chris White <chriswhitelondon@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.zavazoo.dingo;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import junit.framework.TestCase;
+
+import org.junit.Test;
+
+/**
+ * Tests the metrics component.
+ * 
+ * @author Chris White <chriswhitelondon@gmail.com>
+ * @since JDK8
+ */
+public class MetricsTest extends TestCase {
+
+	/** The logical name of the test data file whose scenarios are read. */
+	private static final String NAME = "com/zavazoo/dingo/three-scenarios";
+
+	/**
+	 * Tests the notification of a registered listener as files are opened, lines are read, values are converted and
+	 * JSON is bound.
+	 */
+	@Test
+	public void testListener() {
+
+		List<String> events = new ArrayList<String>();
+
+		DingoMetrics.register(new DingoMetrics() {
+
+			@Override
+			public void fileOpened(String name, long size) {
+
+				events.add("file " + name);
+
+			}
+
+			@Override
+			public void lineRead(int length, long nanos) {
+
+				events.add("line " + length);
+
+			}
+
+			@Override
+			public void valueConverted(String type, long nanos) {
+
+				events.add("value " + type);
+
+			}
+
+			@Override
+			public void jsonBound(long nanos) {
+
+				events.add("json");
+
+			}
+
+		});
+
+		try {
+
+			for (Scenario scenario : Dingo.scenarios(NAME)) {
+
+				scenario.result.string();
+
+			}
+
+			assertThat(new Value("42").integer(), equalTo(42));
+
+			assertThat(new Value("[1, 2]").list(Integer.class), equalTo(Arrays.asList(1, 2)));
+
+		} finally {
+
+			DingoMetrics.register(null);
+
+		}
+
+		assertThat(events, equalTo(Arrays.asList("file " + NAME, "line 33", "line 33", "line 33", "value integer",
+				"json", "value list")));
+
+		new Value("7").integer();
+
+		assertThat(events.size(), equalTo(7));
+
+	}
+
+	/**
+	 * Tests the exposure of the default listener as an MBean of the platform MBean server.
+	 */
+	@Test
+	public void testJmx() throws Exception {
+
+		DingoMetricsMXBean metrics = (DingoMetricsMXBean) DingoMetrics.jmx();
+
+		try {
+
+			for (Scenario scenario : Dingo.scenarios(NAME)) {
+
+				scenario.criteria[0].string();
+
+			}
+
+			new Value("12").longint();
+			new Value("13").longint();
+
+			MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+			ObjectName name = new ObjectName(DingoMetrics.OBJECT_NAME);
+
+			assertThat(server.getAttribute(name, "FilesOpened"), equalTo((Object) 1L));
+			assertThat(server.getAttribute(name, "LinesRead"), equalTo((Object) 3L));
+			assertThat(server.getAttribute(name, "BytesRead"), equalTo((Object) 99L));
+
+			Map<String, Long> conversions = metrics.getConversions();
+
+			assertThat(conversions.get("longint"), equalTo(2L));
+
+			server.invoke(name, "reset", new Object[0], new String[0]);
+
+			assertThat(metrics.getLinesRead(), equalTo(0L));
+
+		} finally {
+
+			DingoMetrics.register(null);
+
+		}
+
+	}
+
+}
\ No newline at end of file
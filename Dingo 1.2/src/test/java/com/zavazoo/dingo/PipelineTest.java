@@ -0,0 +1,236 @@
+/*
+ * Zavazoo Dingo 1.2 - Java API for Data-Driven Testing 
+ * Copyright (C) 2013 Chris White <chriswhitelondon@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.zavazoo.dingo;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import junit.framework.TestCase;
+
+import org.junit.Test;
+
+/**
+ * Tests the pipeline component.
+ * 
+ * @author Chris White <chriswhitelondon@gmail.com>
+ * @since JDK8
+ */
+public class PipelineTest extends TestCase {
+
+	/** The logical name of the test data file that is read ahead. */
+	private static final String NAME = "com/zavazoo/dingo/duplicate-scenarios";
+
+	/**
+	 * Tests the reading ahead of scenarios through a buffered reader, memory-mapped and in compiled form, each of which
+	 * is prepared on the background thread.
+	 */
+	@Test
+	public void testReadAhead() throws IOException {
+
+		File cache = Files.createTempDirectory("dingo-").toFile();
+		cache.deleteOnExit();
+
+		for (Options options : Arrays.asList(new Options(), new Options().mapped(true), new Options().compiled(true)
+				.cache(cache))) {
+
+			Set<String> threads = Collections.synchronizedSet(new HashSet<String>());
+
+			options.readAhead(2).prepare(scenario -> {
+
+				threads.add(Thread.currentThread().getName());
+
+				scenario.criteria[0].string();
+
+			});
+
+			DataFile dataFile = new DataFile(NAME, null, options);
+			dataFile.openFile();
+
+			List<Integer> numbers = new ArrayList<Integer>();
+
+			for (Scenario scenario : new Scenarios(dataFile)) {
+
+				numbers.add(scenario.number);
+
+			}
+
+			assertThat(numbers, equalTo(Arrays.asList(1, 2, 3, 4, 5, 6, 7)));
+
+			assertThat(threads, equalTo(Collections.singleton("dingo-pipeline")));
+
+			dataFile.finalize();
+
+		}
+
+	}
+
+	/**
+	 * Tests that only distinct scenarios are read from the moment distinct scenarios are requested, including the
+	 * scenarios already read ahead, exactly as when scenarios are not read ahead.
+	 */
+	@Test
+	public void testDistinct() {
+
+		for (int depth : new int[] { 0, 2, 8 }) {
+
+			Scenarios scenarios = Dingo.scenarios(NAME, null, new Options().readAhead(depth));
+
+			List<Integer> numbers = new ArrayList<Integer>();
+
+			numbers.add(scenarios.next().number);
+
+			for (Scenario scenario : scenarios.distinct()) {
+
+				numbers.add(scenario.number);
+
+			}
+
+			assertThat(numbers, equalTo(Arrays.asList(1, 2, 3, 4, 7)));
+
+		}
+
+	}
+
+	/**
+	 * Tests the streaming of scenarios in parallel once scenarios are read ahead.
+	 */
+	@Test
+	public void testParallelStream() {
+
+		DataFile dataFile = new DataFile(NAME, null, new Options().mapped(true).readAhead(1));
+		dataFile.openFile();
+
+		Scenarios scenarios = new Scenarios(dataFile);
+
+		assertTrue(scenarios.more());
+
+		List<Integer> numbers = scenarios.parallelStream().map(scenario -> scenario.number)
+				.collect(Collectors.toList());
+
+		assertThat(numbers, equalTo(Arrays.asList(1, 2, 3, 4, 5, 6, 7)));
+
+	}
+
+	/**
+	 * Tests that a failure to read or prepare a scenario ahead is encountered by the test when the test reaches that
+	 * scenario.
+	 */
+	@Test
+	public void testFailure() {
+
+		Options options = new Options().readAhead(4).prepare(scenario -> {
+
+			if (scenario.number == 3) {
+
+				throw new DingoException("Unable to prepare scenario 3");
+
+			}
+
+		});
+
+		DataFile dataFile = new DataFile(NAME, null, options);
+		dataFile.openFile();
+
+		assertThat(dataFile.nextScenario().number, equalTo(1));
+		assertThat(dataFile.nextScenario().number, equalTo(2));
+
+		try {
+
+			dataFile.nextScenario();
+
+			fail();
+
+		} catch (DingoException expected) {
+
+			assertThat(expected.getMessage(), equalTo("Unable to prepare scenario 3"));
+
+		}
+
+		assertNull(dataFile.nextScenario());
+
+	}
+
+	/**
+	 * Tests that the background thread stops once reported scenarios read ahead from the compiled binary form are
+	 * abandoned and the data file is garbage collected.
+	 */
+	@Test
+	public void testAbandoned() throws Exception {
+
+		File cache = Files.createTempDirectory("dingo-").toFile();
+		cache.deleteOnExit();
+
+		Thread thread = abandon(new Options().compiled(true).cache(cache).readAhead(2));
+
+		for (int attempt = 0; attempt < 100 && thread.isAlive(); attempt++) {
+
+			System.gc();
+
+			thread.join(100);
+
+		}
+
+		assertFalse(thread.isAlive());
+
+	}
+
+	/**
+	 * Reads a single reported scenario ahead according to the specified options, and abandons the remaining
+	 * scenarios while the background thread waits for room within the queue.
+	 * 
+	 * @param options
+	 *            the options.
+	 * @return the background thread.
+	 */
+	private Thread abandon(Options options) {
+
+		Set<Thread> before = Thread.getAllStackTraces().keySet();
+
+		Scenarios scenarios = Dingo.scenarios(NAME, new PrintStream(new ByteArrayOutputStream()), options);
+
+		assertThat(scenarios.next().number, equalTo(1));
+
+		for (Thread thread : Thread.getAllStackTraces().keySet()) {
+
+			if (thread.getName().equals("dingo-pipeline") && !before.contains(thread)) {
+
+				return thread;
+
+			}
+
+		}
+
+		throw new AssertionError("No background thread was started");
+
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,266 @@
+/*
+ * Zavazoo Dingo 1.2 - Java API for Data-Driven Testing 
+ * Copyright (C) 2013 Chris White <chriswhitelondon@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.zavazoo.dingo;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import junit.framework.TestCase;
+
+import org.junit.Test;
+
+/**
+ * Tests the reporter component.
+ * 
+ * @author Chris White <chriswhitelondon@gmail.com>
+ * @since JDK8
+ */
+public class ReporterTest extends TestCase {
+
+	/** The logical name of the test data file that is reported. */
+	private static final String NAME = "com/zavazoo/dingo/three-scenarios";
+
+	/**
+	 * Tests the reporting of a sample of every line read.
+	 */
+	@Test
+	public void testSample() {
+
+		RecordingSink sink = new RecordingSink();
+
+		DataFile dataFile = new DataFile(NAME, null, new Options().sink(sink).sample(2));
+		dataFile.openFile();
+
+		while (dataFile.nextScenario() != null) {
+		}
+
+		assertThat(sink.records, equalTo(Arrays.asList(record(1), record(3))));
+
+		assertThat(sink.flushes, equalTo(1));
+
+	}
+
+	/**
+	 * Tests the reporting of only the lines of scenarios that fail when read sequentially.
+	 */
+	@Test
+	public void testFailures() {
+
+		for (boolean mapped : new boolean[] { false, true }) {
+
+			RecordingSink sink = new RecordingSink();
+
+			Options options = new Options().sink(sink).failures(true).mapped(mapped);
+
+			DataFile dataFile = new DataFile(NAME, null, options);
+			dataFile.openFile();
+
+			while (dataFile.nextScenario() != null) {
+			}
+
+			dataFile.finalize();
+
+			assertThat(sink.records, equalTo(Collections.<String> emptyList()));
+
+			dataFile = new DataFile(NAME, null, options);
+			dataFile.openFile();
+
+			dataFile.nextScenario();
+			dataFile.nextScenario();
+
+			dataFile.finalize();
+
+			assertThat(sink.records, equalTo(Arrays.asList(record(2))));
+
+		}
+
+	}
+
+	/**
+	 * Tests that scenarios read ahead are reported only when they are handed to the test.
+	 */
+	@Test
+	public void testReadAhead() throws InterruptedException {
+
+		RecordingSink sink = new RecordingSink();
+
+		DataFile dataFile = new DataFile(NAME, null, new Options().sink(sink).readAhead(3));
+		dataFile.openFile();
+
+		dataFile.nextScenario();
+
+		Thread.sleep(50);
+
+		assertThat(sink.records, equalTo(Arrays.asList(record(1))));
+
+		sink = new RecordingSink();
+
+		dataFile = new DataFile(NAME, null, new Options().sink(sink).failures(true).readAhead(3));
+		dataFile.openFile();
+
+		dataFile.nextScenario();
+		dataFile.nextScenario();
+
+		dataFile.finalize();
+
+		assertThat(sink.records, equalTo(Arrays.asList(record(2))));
+
+	}
+
+	/**
+	 * Tests the reporting of the latencies of scenarios run by Dingo, followed by the slowest scenarios.
+	 */
+	@Test
+	public void testLatency() {
+
+		RecordingSink sink = new RecordingSink();
+
+		Dingo.run(NAME, null, new Options().sink(sink).failures(true).latency(2), scenario -> Thread
+				.sleep(scenario.number * 20));
+
+		assertThat(sink.records.size(), equalTo(3));
+
+		assertTrue(sink.records.get(0).matches(DataFile.REPORT_PREFIX + NAME
+				+ ": 3 scenarios run, p50 [0-9.]+ ms, p99 [0-9.]+ ms, max [0-9.]+ ms"));
+
+		assertTrue(sink.records.get(1).matches(DataFile.REPORT_PREFIX + NAME + ".3: slowest [0-9.]+ ms"));
+		assertTrue(sink.records.get(2).matches(DataFile.REPORT_PREFIX + NAME + ".2: slowest [0-9.]+ ms"));
+
+	}
+
+	/**
+	 * Tests the reporting of only the lines of scenarios that fail when run in parallel.
+	 */
+	@Test
+	public void testParallelFailures() {
+
+		RecordingSink sink = new RecordingSink();
+
+		DataFile dataFile = new DataFile(NAME, null, new Options().sink(sink).failures(true));
+		dataFile.openFile(true);
+
+		try {
+
+			dataFile.parallel(scenario -> assertThat(scenario.number, equalTo(1)), 3);
+
+			fail();
+
+		} catch (AssertionError expected) {
+		}
+
+		assertTrue(sink.records.contains(record(2)) || sink.records.contains(record(3)));
+
+		assertFalse(sink.records.contains(record(1)));
+
+	}
+
+	/**
+	 * Tests the asynchronous writing of test report information by the background report writer.
+	 */
+	@Test
+	public void testAsynchronous() {
+
+		RecordingSink sink = new RecordingSink();
+
+		DataFile dataFile = new DataFile(NAME, null, new Options().sink(sink).asynchronous(true));
+		dataFile.openFile();
+
+		while (dataFile.nextScenario() != null) {
+		}
+
+		ReportWriter.drain();
+
+		assertThat(sink.records, equalTo(Arrays.asList(record(1), record(2), record(3))));
+
+		assertTrue(sink.flushes >= 1);
+
+	}
+
+	/**
+	 * Tests the appending of test report information to a file.
+	 */
+	@Test
+	public void testFileSink() throws IOException {
+
+		File file = File.createTempFile("dingo-", ".log");
+		file.deleteOnExit();
+
+		DataFile dataFile = new DataFile(NAME, null, new Options().sink(ReportSink.file(file)));
+		dataFile.openFile();
+
+		while (dataFile.nextScenario() != null) {
+		}
+
+		List<String> lines = Files.readAllLines(file.toPath(), StandardCharsets.UTF_8);
+
+		assertThat(lines, equalTo(Arrays.asList(record(1), record(2), record(3))));
+
+	}
+
+	/**
+	 * Yields the record of the test report for the line with the specified line number.
+	 * 
+	 * @param number
+	 *            the line number.
+	 * @return the record.
+	 */
+	private String record(int number) {
+
+		return DataFile.REPORT_PREFIX + NAME + "." + number + ": result" + number + ", criteria" + number
+				+ "-1, criteria" + number + "-2";
+
+	}
+
+	/**
+	 * Records test report information in memory.
+	 */
+	private static class RecordingSink implements ReportSink {
+
+		/** The records written. */
+		final List<String> records = Collections.synchronizedList(new ArrayList<String>());
+
+		/** The number of times this sink has been flushed. */
+		volatile int flushes = 0;
+
+		@Override
+		public void write(String record) {
+
+			records.add(record);
+
+		}
+
+		@Override
+		public synchronized void flush() {
+
+			flushes++;
+
+		}
+
+	}
+
+}
\ No newline at end of file
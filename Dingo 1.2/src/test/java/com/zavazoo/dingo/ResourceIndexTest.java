@@ -0,0 +1,81 @@
+/*
+ * Zavazoo Dingo 1.2 - Java API for Data-Driven Testing 
+ * Copyright (C) 2013 Chris White <chriswhitelondon@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.zavazoo.dingo;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import junit.framework.TestCase;
+
+import org.junit.Test;
+
+/**
+ * Tests the resource index component.
+ * 
+ * @author Chris White <chriswhitelondon@gmail.com>
+ * @since JDK8
+ */
+public class ResourceIndexTest extends TestCase {
+
+	/**
+	 * Tests the resolution of logical names to test data files of each data file type.
+	 */
+	@Test
+	public void testResolve() {
+
+		ResourceIndex.Resource resource = ResourceIndex.resolve("com/zavazoo/dingo/three-scenarios");
+
+		assertThat(resource.type, equalTo(DataFileType.CSV));
+		assertTrue(resource.url.toExternalForm().endsWith("com/zavazoo/dingo/three-scenarios.csv"));
+
+		assertTrue(ResourceIndex.resolve("com/zavazoo/dingo/three-scenarios") == resource);
+
+		assertThat(ResourceIndex.resolve("com/zavazoo/dingo/empty-nested").type, equalTo(DataFileType.TSV));
+		assertThat(ResourceIndex.resolve("com/zavazoo/dingo/empty-scenarios").type, equalTo(DataFileType.BSV));
+
+	}
+
+	/**
+	 * Tests the resolution of logical names that do not correspond to any test data file.
+	 */
+	@Test
+	public void testUnresolved() {
+
+		for (int attempt = 0; attempt < 2; attempt++) {
+
+			try {
+
+				ResourceIndex.resolve("non-existent");
+
+				fail();
+
+			} catch (DingoException expected) {
+
+				assertThat(expected.getMessage(), equalTo("Unable to find a data file on the class path with "
+						+ "resource name '/non-existent.tsv' or '/non-existent.tsv.gz' or '/non-existent.tsv.deflate' "
+						+ "or '/non-existent.csv' or '/non-existent.csv.gz' or '/non-existent.csv.deflate' "
+						+ "or '/non-existent.bsv' or '/non-existent.bsv.gz' or '/non-existent.bsv.deflate'"));
+
+			}
+
+		}
+
+	}
+
+}
\ No newline at end of file
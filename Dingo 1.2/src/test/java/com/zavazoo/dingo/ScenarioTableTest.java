@@ -0,0 +1,195 @@
+/*
+ * Zavazoo Dingo 1.2 - Java API for Data-Driven Testing 
+ * Copyright (C) 2013 Chris White <chriswhitelondon@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.zavazoo.dingo;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+
+import junit.framework.TestCase;
+
+import org.junit.Test;
+
+/**
+ * Tests the scenario table component.
+ * 
+ * @author Chris White <chriswhitelondon@gmail.com>
+ * @since JDK8
+ */
+public class ScenarioTableTest extends TestCase {
+
+	/**
+	 * Tests the inference of column types and the indexed accessors of each column type.
+	 */
+	@Test
+	public void testInferredTypes() {
+
+		ScenarioTable table = Dingo.table("com/zavazoo/dingo/numeric-table", null);
+
+		assertThat(table.rows(), equalTo(3));
+		assertThat(table.columns(), equalTo(5));
+
+		assertThat(table.type(0), equalTo(ColumnType.LONG));
+		assertThat(table.type(1), equalTo(ColumnType.INTEGER));
+		assertThat(table.type(2), equalTo(ColumnType.INTEGER));
+		assertThat(table.type(3), equalTo(ColumnType.DOUBLE));
+		assertThat(table.type(4), equalTo(ColumnType.STRING));
+
+		assertThat(table.longint(2, 0), equalTo(5000000000l));
+		assertThat(table.integer(1, 1), equalTo(-10));
+		assertThat(table.longint(1, 1), equalTo(-10l));
+		assertThat(table.doubleint(1, 1), equalTo(-10d));
+		assertThat(table.doubleint(1, 3), equalTo(2.25d));
+		assertThat(table.string(1, 4), equalTo("banana"));
+
+		assertThat(table.string(0, 4), sameInstance(table.string(2, 4)));
+
+		try {
+
+			table.integer(0, 0);
+
+			fail();
+
+		} catch (DingoException expected) {
+		}
+
+		try {
+
+			table.longint(0, 4);
+
+			fail();
+
+		} catch (DingoException expected) {
+
+			assertThat(expected.getMessage(), equalTo("Unable to read column 4 of type STRING as type LONG"));
+
+		}
+
+		try {
+
+			table.doubleint(0, 4);
+
+			fail();
+
+		} catch (DingoException expected) {
+		}
+
+		try {
+
+			table.string(0, 1);
+
+			fail();
+
+		} catch (DingoException expected) {
+		}
+
+	}
+
+	/**
+	 * Tests the loading of columns of declared types.
+	 */
+	@Test
+	public void testDeclaredTypes() {
+
+		ScenarioTable table = Dingo.table("com/zavazoo/dingo/numeric-table", null, ColumnType.STRING,
+				ColumnType.LONG, ColumnType.DOUBLE, ColumnType.DOUBLE, ColumnType.STRING);
+
+		assertThat(table.rows(), equalTo(3));
+
+		assertThat(table.string(1, 0), equalTo("-7"));
+		assertThat(table.longint(2, 1), equalTo(4l));
+		assertThat(table.doubleint(0, 2), equalTo(2d));
+
+		try {
+
+			Dingo.table("com/zavazoo/dingo/numeric-table", null, ColumnType.STRING);
+
+			fail();
+
+		} catch (DingoException expected) {
+		}
+
+		table = Dingo.table("com/zavazoo/dingo/empty-scenarios", null);
+
+		assertThat(table.rows(), equalTo(0));
+		assertThat(table.columns(), equalTo(0));
+
+	}
+
+	/**
+	 * Tests that blank lines are skipped both when inferring column types and when loading columns.
+	 */
+	@Test
+	public void testBlankLines() {
+
+		ScenarioTable table = Dingo.table("com/zavazoo/dingo/blank-table", null);
+
+		assertThat(table.rows(), equalTo(2));
+		assertThat(table.columns(), equalTo(4));
+
+		assertThat(table.type(2), equalTo(ColumnType.DOUBLE));
+		assertThat(table.integer(1, 1), equalTo(-10));
+		assertThat(table.string(1, 3), equalTo("banana"));
+
+		table = Dingo.table("com/zavazoo/dingo/blank-table", null, ColumnType.INTEGER, ColumnType.INTEGER,
+				ColumnType.DOUBLE, ColumnType.STRING);
+
+		assertThat(table.rows(), equalTo(2));
+
+	}
+
+	/**
+	 * Tests the inference of the column type of individual values.
+	 */
+	@Test
+	public void testColumnTypeInference() {
+
+		assertThat(ColumnType.infer(null), equalTo(ColumnType.STRING));
+		assertThat(ColumnType.infer(""), equalTo(ColumnType.STRING));
+		assertThat(ColumnType.infer("-"), equalTo(ColumnType.STRING));
+		assertThat(ColumnType.infer("apple"), equalTo(ColumnType.STRING));
+
+		assertThat(ColumnType.infer("0"), equalTo(ColumnType.INTEGER));
+		assertThat(ColumnType.infer("+42"), equalTo(ColumnType.INTEGER));
+		assertThat(ColumnType.infer("2147483647"), equalTo(ColumnType.INTEGER));
+		assertThat(ColumnType.infer("-2147483648"), equalTo(ColumnType.INTEGER));
+
+		assertThat(ColumnType.infer("2147483648"), equalTo(ColumnType.LONG));
+		assertThat(ColumnType.infer("-2147483649"), equalTo(ColumnType.LONG));
+		assertThat(ColumnType.infer("9223372036854775807"), equalTo(ColumnType.LONG));
+		assertThat(ColumnType.infer("-9223372036854775808"), equalTo(ColumnType.LONG));
+
+		assertThat(ColumnType.infer("9223372036854775808"), equalTo(ColumnType.DOUBLE));
+		assertThat(ColumnType.infer("1.5"), equalTo(ColumnType.DOUBLE));
+		assertThat(ColumnType.infer("-.5"), equalTo(ColumnType.DOUBLE));
+		assertThat(ColumnType.infer("1."), equalTo(ColumnType.DOUBLE));
+		assertThat(ColumnType.infer("6.02E+23"), equalTo(ColumnType.DOUBLE));
+		assertThat(ColumnType.infer("1e-3d"), equalTo(ColumnType.DOUBLE));
+		assertThat(ColumnType.infer("-Infinity"), equalTo(ColumnType.DOUBLE));
+		assertThat(ColumnType.infer("NaN"), equalTo(ColumnType.DOUBLE));
+
+		assertThat(ColumnType.infer("."), equalTo(ColumnType.STRING));
+		assertThat(ColumnType.infer("1e"), equalTo(ColumnType.STRING));
+		assertThat(ColumnType.infer("1.5.2"), equalTo(ColumnType.STRING));
+		assertThat(ColumnType.infer("12ab"), equalTo(ColumnType.STRING));
+		assertThat(ColumnType.infer("NaNa"), equalTo(ColumnType.STRING));
+
+	}
+
+}
\ No newline at end of file
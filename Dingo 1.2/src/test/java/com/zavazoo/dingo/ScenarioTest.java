@@ -18,6 +18,14 @@
 
 package com.zavazoo.dingo;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Set;
+
 import junit.framework.TestCase;
 
 import org.junit.Test;
@@ -49,4 +57,119 @@ public class ScenarioTest extends TestCase {
 
 	}
 
+	/**
+	 * Tests the equals operation for scenarios that differ.
+	 */
+	@Test
+	public void testNotEquals() {
+
+		Scenario scenario = scenario("result1", "criteria1", "criteria2");
+
+		assertFalse(scenario.equals(scenario("result1", "criteria1", "criteria3")));
+		assertFalse(scenario.equals(scenario("result2", "criteria1", "criteria2")));
+		assertFalse(scenario.equals(scenario("result1", "criteria1")));
+		assertFalse(scenario.equals(scenario("result1", "criteria1", "criteria2", "")));
+		assertFalse(scenario.equals(null));
+		assertFalse(scenario.equals("result1"));
+
+		assertFalse(scenario("ab", "c").equals(scenario("a", "bc")));
+		assertFalse(scenario("a", "").equals(scenario("a", (String) null)));
+
+		Scenario hashed = scenario("result1", "criteria1", "criteria2");
+
+		hashed.hashCode();
+
+		assertTrue(scenario.equals(hashed));
+
+		Set<Scenario> scenarios = new HashSet<Scenario>();
+
+		for (int index = 0; index < 10000; index++) {
+
+			scenarios.add(scenario("result", Integer.toString(index)));
+
+		}
+
+		assertThat(scenarios.size(), equalTo(10000));
+
+	}
+
+	/**
+	 * Tests the hashing of scenarios comprising strings and encoded bytes.
+	 */
+	@Test
+	public void testHashing() {
+
+		String[] values = new String[] { "r\u00e9sultat", "", "\ud83d\ude00 emoji", "plain" };
+
+		Scenario strings = scenario(values);
+		Scenario bytes = encoded(values);
+
+		assertTrue(strings.equals(bytes));
+		assertTrue(bytes.equals(strings));
+
+		assertThat(bytes.longHashCode(), equalTo(strings.longHashCode()));
+		assertThat(bytes.hashCode(), equalTo(strings.hashCode()));
+
+		assertThat(encoded("\u00e9t\u00e9").longHashCode(), equalTo(scenario("\u00e9t\u00e9").longHashCode()));
+
+		byte[] malformed = new byte[] { 'a', (byte) 0xc3, 'b' };
+
+		Scenario decoded = new Scenario(new Value(new String(malformed, StandardCharsets.UTF_8)), new Value[0]);
+		Scenario undecoded = new Scenario(new Value(ByteBuffer.wrap(malformed), 0, malformed.length), new Value[0]);
+
+		assertTrue(undecoded.equals(decoded));
+
+		assertThat(undecoded.longHashCode(), equalTo(decoded.longHashCode()));
+
+	}
+
+	/**
+	 * Creates a scenario comprising values created from the specified strings, the first of which is the result.
+	 * 
+	 * @param values
+	 *            the strings.
+	 * @return the scenario.
+	 */
+	private Scenario scenario(String... values) {
+
+		Value[] criteria = new Value[values.length - 1];
+
+		for (int index = 1; index < values.length; index++) {
+
+			criteria[index - 1] = new Value(values[index]);
+
+		}
+
+		return new Scenario(new Value(values[0]), criteria);
+
+	}
+
+	/**
+	 * Creates a scenario comprising values created from the UTF-8 encoded bytes of the specified strings, the first of
+	 * which is the result.
+	 * 
+	 * @param values
+	 *            the strings.
+	 * @return the scenario.
+	 */
+	private Scenario encoded(String... values) {
+
+		Value[] encoded = new Value[values.length];
+
+		for (int index = 0; index < values.length; index++) {
+
+			byte[] bytes = ("|" + values[index] + "|").getBytes(StandardCharsets.UTF_8);
+
+			encoded[index] = new Value(ByteBuffer.wrap(bytes), 1, bytes.length - 2);
+
+		}
+
+		Value[] criteria = new Value[values.length - 1];
+
+		System.arraycopy(encoded, 1, criteria, 0, criteria.length);
+
+		return new Scenario(encoded[0], criteria);
+
+	}
+
 }
\ No newline at end of file
@@ -18,6 +18,21 @@
 
 package com.zavazoo.dingo;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
 import junit.framework.TestCase;
 
 import org.junit.Test;
@@ -160,4 +175,212 @@ public class ScenariosTest extends TestCase {
 
 	}
 
+	/**
+	 * Tests the iteration over the scenarios comprised by a test data file.
+	 */
+	@Test
+	public void testIterator() {
+
+		DataFile dataFile = new DataFile("com/zavazoo/dingo/three-scenarios", null);
+		dataFile.openFile();
+
+		Scenarios scenarios = new Scenarios(dataFile);
+
+		List<String> results = new ArrayList<String>();
+
+		for (Scenario scenario : scenarios) {
+
+			results.add(scenario.result.string());
+
+		}
+
+		assertThat(results, equalTo(Arrays.asList("result1", "result2", "result3")));
+
+		Iterator<Scenario> iterator = scenarios.iterator();
+
+		assertFalse(iterator.hasNext());
+
+		try {
+
+			iterator.next();
+
+			fail();
+
+		} catch (NoSuchElementException expected) {
+		}
+
+	}
+
+	/**
+	 * Tests the sequential and parallel streaming of the scenarios comprised by a test data file.
+	 */
+	@Test
+	public void testStream() {
+
+		List<String> expected = Arrays.asList("result1", "result2", "result3");
+
+		for (boolean mapped : new boolean[] { false, true }) {
+
+			Options options = new Options().mapped(mapped);
+
+			DataFile dataFile = new DataFile("com/zavazoo/dingo/three-scenarios", null, options);
+			dataFile.openFile();
+
+			Scenarios scenarios = new Scenarios(dataFile);
+
+			List<String> results = scenarios.stream().map(scenario -> scenario.result.string())
+					.collect(Collectors.toList());
+
+			assertThat(results, equalTo(expected));
+
+			dataFile = new DataFile("com/zavazoo/dingo/three-scenarios", null, options);
+			dataFile.openFile();
+
+			scenarios = new Scenarios(dataFile);
+
+			assertTrue(scenarios.more());
+
+			results = scenarios.parallelStream().map(scenario -> scenario.result.string())
+					.collect(Collectors.toList());
+
+			assertThat(results, equalTo(expected));
+
+			assertFalse(scenarios.more());
+
+		}
+
+	}
+
+	/**
+	 * Tests the splitting of the scenarios comprised by a memory-mapped test data file into chunks.
+	 */
+	@Test
+	public void testChunkSpliterator() {
+
+		DataFile dataFile = new DataFile("com/zavazoo/dingo/three-scenarios", null, new Options().mapped(true));
+		dataFile.openFile();
+
+		assertNotNull(dataFile.nextScenario());
+
+		Spliterator<Scenario> spliterator = dataFile.chunkSpliterator(4);
+
+		assertNull(dataFile.nextScenario());
+
+		assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED));
+		assertThat(spliterator.estimateSize(), equalTo(2l));
+
+		List<Integer> numbers = StreamSupport.stream(spliterator, true).map(scenario -> scenario.number)
+				.collect(Collectors.toList());
+
+		assertThat(numbers, equalTo(Arrays.asList(2, 3)));
+
+		dataFile = new DataFile("com/zavazoo/dingo/three-scenarios", null);
+		dataFile.openFile();
+
+		assertNull(dataFile.chunkSpliterator());
+
+	}
+
+	/**
+	 * Tests the skipping of scenarios that duplicate a scenario already read.
+	 */
+	@Test
+	public void testDistinct() {
+
+		String name = "com/zavazoo/dingo/duplicate-scenarios";
+
+		List<Integer> expected = Arrays.asList(1, 2, 4, 7);
+
+		for (boolean mapped : new boolean[] { false, true }) {
+
+			DataFile dataFile = new DataFile(name, null, new Options().mapped(mapped).distinct(true));
+			dataFile.openFile();
+
+			List<Integer> numbers = new ArrayList<Integer>();
+
+			for (Scenario scenario : new Scenarios(dataFile)) {
+
+				numbers.add(scenario.number);
+
+			}
+
+			assertThat(numbers, equalTo(expected));
+
+			dataFile = new DataFile(name, null, new Options().mapped(mapped));
+			dataFile.openFile();
+
+			Scenarios scenarios = new Scenarios(dataFile);
+
+			assertTrue(scenarios.more());
+
+			numbers = scenarios.distinct().stream().map(scenario -> scenario.number).collect(Collectors.toList());
+
+			assertThat(numbers, equalTo(expected));
+
+			dataFile = new DataFile(name, null, new Options().mapped(mapped));
+			dataFile.openFile();
+
+			scenarios = new Scenarios(dataFile);
+
+			assertTrue(scenarios.more());
+
+			numbers = scenarios.distinct().parallelStream().map(scenario -> scenario.number)
+					.collect(Collectors.toList());
+
+			assertThat(numbers, equalTo(expected));
+
+		}
+
+	}
+
+	/**
+	 * Tests the reading of a limited number of leading criteria of each scenario, through a buffered reader,
+	 * memory-mapped and in compiled form.
+	 */
+	@Test
+	public void testProjection() throws IOException {
+
+		String name = "com/zavazoo/dingo/duplicate-scenarios";
+
+		File cache = Files.createTempDirectory("dingo-").toFile();
+		cache.deleteOnExit();
+
+		for (Options options : Arrays.asList(new Options(), new Options().mapped(true), new Options().compiled(true)
+				.cache(cache))) {
+
+			DataFile dataFile = new DataFile(name, null, options.projection(1));
+			dataFile.openFile();
+
+			List<String> criteria = new ArrayList<String>();
+
+			for (Scenario scenario : new Scenarios(dataFile)) {
+
+				assertThat(scenario.criteria.length, equalTo(1));
+
+				criteria.add(scenario.criteria[0].string());
+
+			}
+
+			assertThat(criteria, equalTo(Arrays.asList("criteria1-1", "criteria2-1", "criteria1-1", "criteria3-1",
+					"criteria2-1", "criteria1-1", "criteria3-1")));
+
+			dataFile = new DataFile(name, null, options.projection(0).distinct(true));
+			dataFile.openFile();
+
+			List<Integer> numbers = new ArrayList<Integer>();
+
+			for (Scenario scenario : new Scenarios(dataFile)) {
+
+				assertThat(scenario.criteria.length, equalTo(0));
+
+				numbers.add(scenario.number);
+
+			}
+
+			assertThat(numbers, equalTo(Arrays.asList(1, 2, 4)));
+
+		}
+
+	}
+
 }
\ No newline at end of file
@@ -0,0 +1,231 @@
+/*
+ * Zavazoo Dingo 1.2 - Java API for Data-Driven Testing 
+ * Copyright (C) 2013 Chris White <chriswhitelondon@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.zavazoo.dingo;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import junit.framework.TestCase;
+
+import org.junit.Test;
+
+/**
+ * Tests the shard component.
+ * 
+ * @author Chris White <chriswhitelondon@gmail.com>
+ * @since JDK8
+ */
+public class ShardTest extends TestCase {
+
+	/** The logical name of the test data file that is sharded. */
+	private static final String NAME = "com/zavazoo/dingo/duplicate-scenarios";
+
+	/**
+	 * Tests the assignment of contiguous ranges of lines to shards.
+	 */
+	@Test
+	public void testRange() throws IOException {
+
+		for (Options options : options(Sharding.RANGE)) {
+
+			assertThat(numbers(options.shard(0, 3)), equalTo(Arrays.asList(1, 2)));
+			assertThat(numbers(options.shard(1, 3)), equalTo(Arrays.asList(3, 4)));
+			assertThat(numbers(options.shard(2, 3)), equalTo(Arrays.asList(5, 6, 7)));
+			assertThat(numbers(options.shard(3, 3)), equalTo(Arrays.asList(1, 2)));
+
+		}
+
+	}
+
+	/**
+	 * Tests the assignment of scenarios to shards according to their values.
+	 */
+	@Test
+	public void testHash() throws IOException {
+
+		for (Options options : options(Sharding.HASH)) {
+
+			List<Integer> all = new ArrayList<Integer>();
+
+			for (int index = 0; index < 3; index++) {
+
+				List<Integer> numbers = numbers(options.shard(index, 3));
+
+				assertThat(numbers.contains(1), equalTo(numbers.contains(3)));
+				assertThat(numbers.contains(1), equalTo(numbers.contains(6)));
+				assertThat(numbers.contains(2), equalTo(numbers.contains(5)));
+
+				all.addAll(numbers);
+
+			}
+
+			Collections.sort(all);
+
+			assertThat(all, equalTo(Arrays.asList(1, 2, 3, 4, 5, 6, 7)));
+
+		}
+
+	}
+
+	/**
+	 * Tests the specification of the shard by system properties.
+	 */
+	@Test
+	public void testSystemProperties() {
+
+		System.setProperty("dingo.shard.index", "2");
+		System.setProperty("dingo.shard.count", "4");
+		System.setProperty("dingo.shard.mode", "range");
+
+		try {
+
+			Options options = new Options();
+
+			assertThat(options.getShardIndex(), equalTo(2));
+			assertThat(options.getShardCount(), equalTo(4));
+			assertThat(options.getSharding(), equalTo(Sharding.RANGE));
+
+		} finally {
+
+			System.clearProperty("dingo.shard.index");
+			System.clearProperty("dingo.shard.count");
+			System.clearProperty("dingo.shard.mode");
+
+		}
+
+		Options options = new Options();
+
+		assertThat(options.getShardCount(), equalTo(1));
+		assertThat(options.getSharding(), equalTo(Sharding.HASH));
+
+		assertNull(Shard.create(options));
+
+	}
+
+	/**
+	 * Tests that an unknown shard mode is only rejected once the scenarios are sharded.
+	 */
+	@Test
+	public void testUnknownMode() {
+
+		System.setProperty("dingo.shard.mode", "stripe");
+
+		try {
+
+			Options options = new Options();
+
+			assertNull(Shard.create(options));
+
+			try {
+
+				Shard.create(options.shard(0, 2));
+
+				fail();
+
+			} catch (DingoException expected) {
+
+				assertThat(expected.getMessage(), equalTo("Unable to shard scenarios by the mode 'stripe' of the "
+						+ "'dingo.shard.mode' system property, which must be either 'hash' or 'range'"));
+
+			}
+
+		} finally {
+
+			System.clearProperty("dingo.shard.mode");
+
+		}
+
+	}
+
+	/**
+	 * Tests that a scenario table comprises every scenario whatever the shard specified by system properties.
+	 */
+	@Test
+	public void testTable() {
+
+		System.setProperty("dingo.shard.index", "1");
+		System.setProperty("dingo.shard.count", "3");
+
+		try {
+
+			assertThat(Dingo.table("com/zavazoo/dingo/numeric-table", null).rows(), equalTo(3));
+
+		} finally {
+
+			System.clearProperty("dingo.shard.index");
+			System.clearProperty("dingo.shard.count");
+
+		}
+
+	}
+
+	/**
+	 * Yields options that read the test data file through a buffered reader, memory-mapped and in compiled form, using
+	 * the specified sharding.
+	 * 
+	 * @param sharding
+	 *            the way in which scenarios are assigned to shards.
+	 * @return the options.
+	 */
+	private List<Options> options(Sharding sharding) throws IOException {
+
+		File cache = Files.createTempDirectory("dingo-").toFile();
+		cache.deleteOnExit();
+
+		return Arrays.asList(new Options().sharding(sharding), new Options().sharding(sharding).mapped(true),
+				new Options().sharding(sharding).compiled(true).cache(cache));
+
+	}
+
+	/**
+	 * Reads the line numbers of the scenarios of the test data file that are assigned to the shard specified by the
+	 * specified options.
+	 * 
+	 * @param options
+	 *            the options.
+	 * @return the line numbers.
+	 */
+	private List<Integer> numbers(Options options) {
+
+		DataFile dataFile = new DataFile(NAME, null, options);
+		dataFile.openFile();
+
+		List<Integer> numbers = new ArrayList<Integer>();
+
+		for (Scenario scenario : new Scenarios(dataFile)) {
+
+			numbers.add(scenario.number);
+
+		}
+
+		dataFile.finalize();
+
+		return numbers;
+
+	}
+
+}
\ No newline at end of file
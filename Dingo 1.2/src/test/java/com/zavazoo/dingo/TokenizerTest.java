@@ -0,0 +1,270 @@
+/*
+ * Zavazoo Dingo 1.2 - Java API for Data-Driven Testing 
+ * Copyright (C) 2013 Chris White <chriswhitelondon@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.zavazoo.dingo;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import junit.framework.TestCase;
+
+import org.junit.Test;
+
+/**
+ * Tests the tokenizer component.
+ * 
+ * @author Chris White <chriswhitelondon@gmail.com>
+ * @since JDK8
+ */
+public class TokenizerTest extends TestCase {
+
+	/**
+	 * Tests the tokenizing of empty values.
+	 */
+	@Test
+	public void testEmptyValues() {
+
+		assertTokens(',', "a,,b", "a", "", "b");
+
+		assertTokens(',', ",a,", "", "a", "");
+
+		assertTokens('\t', "a\t\t b \t", "a", "", "b", "");
+
+		assertTokens('|', " | ", "", "");
+
+		assertTokens(',', "\"\"", "");
+
+		assertTokens(',', "single", "single");
+
+	}
+
+	/**
+	 * Tests the tokenizing of quoted values.
+	 */
+	@Test
+	public void testQuotedValues() {
+
+		assertTokens(',', "\"a,b\", c", "a,b", "c");
+
+		assertTokens(',', " \" padded \" ,\"\"", " padded ", "");
+
+		assertTokens(',', "\"say \"\"hello\"\"\",\"\"\"\"", "say \"hello\"", "\"");
+
+		assertTokens(',', "5\" screen,{\"key\": \"value\"}", "5\" screen", "{\"key\": \"value\"}");
+
+		assertTokens('\t', "\"caf\u00e9\t\u00e9t\u00e9\"\t\"\u00e9\"\"\"", "caf\u00e9\t\u00e9t\u00e9", "\u00e9\"");
+
+		assertTokens('|', "\"{\"\"key\"\": \"\"a|b\"\"}\" | -1", "{\"key\": \"a|b\"}", "-1");
+
+	}
+
+	/**
+	 * Tests the tokenizing of lines comprising only whitespace.
+	 */
+	@Test
+	public void testBlankLines() {
+
+		Tokenizer tokenizer = new Tokenizer(',');
+
+		Scenario scenario = tokenizer.tokenize(" \t", 7);
+
+		assertThat(scenario.result.string(), equalTo(null));
+		assertThat(scenario.criteria.length, equalTo(0));
+		assertThat(scenario.number, equalTo(7));
+
+		byte[] bytes = "".getBytes(StandardCharsets.UTF_8);
+
+		scenario = tokenizer.tokenize(ByteBuffer.wrap(bytes), 0, bytes.length, 8);
+
+		assertThat(scenario.result.string(), equalTo(null));
+		assertThat(scenario.criteria.length, equalTo(0));
+
+	}
+
+	/**
+	 * Tests the tokenizing of lines comprising more values than the initial capacity of the scratch array.
+	 */
+	@Test
+	public void testWideLines() {
+
+		String[] tokens = new String[1000];
+
+		StringBuilder line = new StringBuilder();
+
+		for (int index = 0; index < tokens.length; index++) {
+
+			tokens[index] = Integer.toString(index);
+
+			if (index > 0) {
+
+				line.append(',');
+
+			}
+
+			line.append(index % 2 == 0 ? tokens[index] : "\"" + tokens[index] + "\"");
+
+		}
+
+		assertTokens(',', line.toString(), tokens);
+
+	}
+
+	/**
+	 * Tests the tokenizing of malformed lines.
+	 */
+	@Test
+	public void testMalformedLines() {
+
+		Tokenizer tokenizer = new Tokenizer(',');
+
+		try {
+
+			tokenizer.tokenize("a,\"unterminated", 3);
+
+			fail();
+
+		} catch (DingoException expected) {
+
+			assertThat(expected.getMessage(), equalTo("Unterminated quoted value at line 3, index 3"));
+
+		}
+
+		byte[] bytes = "\"quoted\"trailing,a".getBytes(StandardCharsets.UTF_8);
+
+		try {
+
+			tokenizer.tokenize(ByteBuffer.wrap(bytes), 0, bytes.length, 4);
+
+			fail();
+
+		} catch (DingoException expected) {
+
+			assertThat(expected.getMessage(), equalTo("Unexpected character after quoted value at line 4, index 8"));
+
+		}
+
+	}
+
+	/**
+	 * Tests the tokenizing of a limited number of leading criteria, which stops before the remainder of the line.
+	 */
+	@Test
+	public void testProjection() {
+
+		Tokenizer tokenizer = new Tokenizer(',');
+
+		String line = "a, \"b\" ,c,\"unterminated";
+
+		byte[] bytes = line.getBytes(StandardCharsets.UTF_8);
+
+		assertThat(strings(tokenizer.tokenize(line, 1, 2)), equalTo(new String[] { "a", "b", "c" }));
+		assertThat(strings(tokenizer.tokenize(ByteBuffer.wrap(bytes), 0, bytes.length, 1, 2)), equalTo(new String[] {
+				"a", "b", "c" }));
+
+		assertThat(strings(tokenizer.tokenize(",a", 1, 0)), equalTo(new String[] { "" }));
+		assertThat(strings(tokenizer.tokenize("a,b", 1, 5)), equalTo(new String[] { "a", "b" }));
+
+	}
+
+	/**
+	 * Tests that values sliced lazily from a line are equivalent to, and hashed identically to, the same values created
+	 * from strings and from encoded bytes.
+	 */
+	@Test
+	public void testLazyValues() {
+
+		Tokenizer tokenizer = new Tokenizer(',');
+
+		String line = "caf\u00e9, \ud83d\ude00x ,\ud83d";
+
+		byte[] bytes = line.getBytes(StandardCharsets.UTF_8);
+
+		Scenario sliced = tokenizer.tokenize(line, 1);
+		Scenario decoded = tokenizer.tokenize(ByteBuffer.wrap(bytes), 0, bytes.length, 1);
+
+		Scenario created = new Scenario(new Value("caf\u00e9"), new Value[] { new Value("\ud83d\ude00x"),
+				new Value("\ud83d") });
+
+		assertThat(sliced.longHashCode(), equalTo(created.longHashCode()));
+		assertThat(sliced.criteria[0].hashCode(), equalTo(created.criteria[0].hashCode()));
+		assertThat(sliced.criteria[1].hashCode(), equalTo(created.criteria[1].hashCode()));
+
+		assertThat(sliced, equalTo(created));
+		assertThat(sliced.result, equalTo(decoded.result));
+		assertThat(sliced.criteria[0], equalTo(decoded.criteria[0]));
+
+	}
+
+	/**
+	 * Asserts that the specified line is tokenized into the specified tokens, both as characters and as UTF-8 encoded
+	 * bytes surrounded by other bytes.
+	 * 
+	 * @param delimiter
+	 *            the data column delimiter.
+	 * @param line
+	 *            the line.
+	 * @param tokens
+	 *            the expected tokens.
+	 */
+	private void assertTokens(char delimiter, String line, String... tokens) {
+
+		Tokenizer tokenizer = new Tokenizer(delimiter);
+
+		assertThat(strings(tokenizer.tokenize(line, 1)), equalTo(tokens));
+
+		byte[] encoded = line.getBytes(StandardCharsets.UTF_8);
+		byte[] surrounded = new byte[encoded.length + 2];
+
+		System.arraycopy(encoded, 0, surrounded, 1, encoded.length);
+
+		surrounded[0] = 'x';
+		surrounded[surrounded.length - 1] = 'x';
+
+		ByteBuffer buffer = ByteBuffer.wrap(surrounded);
+
+		assertThat(strings(tokenizer.tokenize(buffer, 1, surrounded.length - 1, 1)), equalTo(tokens));
+
+	}
+
+	/**
+	 * Yields the string representation of every value of the specified scenario, starting with the result.
+	 * 
+	 * @param scenario
+	 *            the scenario.
+	 * @return the strings.
+	 */
+	private String[] strings(Scenario scenario) {
+
+		String[] strings = new String[scenario.criteria.length + 1];
+
+		strings[0] = scenario.result.string();
+
+		for (int index = 0; index < scenario.criteria.length; index++) {
+
+			strings[index + 1] = scenario.criteria[index].string();
+
+		}
+
+		return strings;
+
+	}
+
+}
\ No newline at end of file
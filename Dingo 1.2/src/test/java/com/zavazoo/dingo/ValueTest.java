@@ -20,12 +20,21 @@ package com.zavazoo.dingo;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
 
 import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.Callable;
 
 import junit.framework.TestCase;
 
@@ -170,6 +179,82 @@ public class ValueTest extends TestCase {
 
 	}
 
+	/**
+	 * Tests the parsing of numbers directly from the characters or encoded bytes of values, consistently with the JDK.
+	 */
+	@Test
+	public void testDirectNumbers() {
+
+		String[] numbers = { "0", "-0", "+7", "42", "-2147483648", "2147483647", "2147483648", "-32768", "32767",
+				"9223372036854775807", "-9223372036854775808", "9223372036854775808", "007", "1.5", "-.5", "5.", "1e10",
+				"1E-5", "-2.5e+3", "0.1", "123456789.123456789", "9007199254740993", "1e22", "1e23", "4.9e-324", "0e999",
+				"NaN", "-Infinity", "0x1p3", "1d", " 1", "", "-", "+", ".", "e5", "1e", "1e+", "1.2.3", "\u0661" };
+
+		Random random = new Random(17);
+
+		List<String> samples = new ArrayList<String>(Arrays.asList(numbers));
+
+		for (int index = 0; index < 1000; index++) {
+
+			samples.add(BigDecimal.valueOf(random.nextLong() >> random.nextInt(64), random.nextInt(40) - 20).toString());
+			samples.add(Double.toString(random.nextDouble() * Math.pow(10, random.nextInt(40) - 20)));
+			samples.add(Float.toString(random.nextFloat() * (float) Math.pow(10, random.nextInt(20) - 10)));
+
+		}
+
+		for (String number : samples) {
+
+			byte[] bytes = ("," + number + ",").getBytes(StandardCharsets.UTF_8);
+
+			for (Value value : new Value[] { new Value(number), new Value("," + number + ",", 1, number.length()),
+					new Value(ByteBuffer.wrap(bytes), 1, bytes.length - 2) }) {
+
+				assertThat(number, convert(value::integer), equalTo(convert(() -> Integer.parseInt(number))));
+				assertThat(number, convert(value::shortint), equalTo(convert(() -> Short.parseShort(number))));
+				assertThat(number, convert(value::longint), equalTo(convert(() -> Long.parseLong(number))));
+				assertThat(number, convert(value::floating), equalTo(convert(() -> Float.parseFloat(number))));
+				assertThat(number, convert(value::doubleint), equalTo(convert(() -> Double.parseDouble(number))));
+
+			}
+
+		}
+
+	}
+
+	/**
+	 * Tests the reporting of numbers that cannot be parsed, with the line number and column of the value.
+	 */
+	@Test
+	public void testUnparsable() {
+
+		Scenario scenario = Dingo.scenarios("com/zavazoo/dingo/three-scenarios").next();
+
+		try {
+
+			scenario.criteria[1].integer();
+
+			fail();
+
+		} catch (NumberFormatException expected) {
+
+			assertThat(expected.getMessage(), equalTo("Unable to parse 'criteria1-2' as an integer at line 1, column 3"));
+
+		}
+
+		try {
+
+			new Value("1.5x").doubleint();
+
+			fail();
+
+		} catch (NumberFormatException expected) {
+
+			assertThat(expected.getMessage(), equalTo("Unable to parse '1.5x' as a long floating-point number"));
+
+		}
+
+	}
+
 	/**
 	 * Tests the parsing of big decimal numbers.
 	 */
@@ -200,6 +285,24 @@ public class ValueTest extends TestCase {
 
 	}
 
+	/**
+	 * Tests the parsing of ISO-8601 compatible date/times to java.time types.
+	 */
+	@Test
+	public void testJavaTime() {
+
+		String datetime = "2004-12-13T21:39:45.618-08:00";
+
+		Value value = new Value(datetime);
+
+		assertThat(OffsetDateTime.parse(datetime), equalTo(value.offsetDateTime()));
+		assertThat(OffsetDateTime.parse(datetime).toInstant(), equalTo(value.instant()));
+		assertThat(LocalDate.of(2004, 12, 13), equalTo(value.localDate()));
+
+		assertThat(value.localDate(), sameInstance(value.localDate()));
+
+	}
+
 	/**
 	 * Tests the parsing of lists using raw/untyped JSON binding.
 	 */
@@ -251,6 +354,12 @@ public class ValueTest extends TestCase {
 
 		assertThat(integers, equalTo(value.list(Integer.class)));
 
+		List<User> users = new Value("[{\"name\": {\"first\": \"Joe\", \"last\": \"Sixpack\"}, \"gender\": \"MALE\", "
+				+ "\"age\": 30, \"verified\": false}]").list(User.class);
+
+		assertThat(users.size(), equalTo(1));
+		assertThat(users.get(0), equalTo(new User(User.Gender.MALE, "Joe", "Sixpack", 30, false)));
+
 	}
 
 	/**
@@ -305,6 +414,13 @@ public class ValueTest extends TestCase {
 
 		assertThat(stringIntegers, equalTo(value.map(String.class, Integer.class)));
 
+		value = new Value("{\"holly\": {\"name\": {\"first\": \"Holly\", \"last\": \"Molly\"}, "
+				+ "\"gender\": \"FEMALE\", \"age\": 25, \"verified\": true}}");
+
+		Map<String, User> stringUsers = value.map(String.class, User.class);
+
+		assertThat(stringUsers.get("holly"), equalTo(new User(User.Gender.FEMALE, "Holly", "Molly", 25, true)));
+
 	}
 
 	/**
@@ -329,6 +445,121 @@ public class ValueTest extends TestCase {
 
 	}
 
+	/**
+	 * Tests the reading of values by JSON pointer without binding the JSON.
+	 */
+	@Test
+	public void testJsonPointer() {
+
+		String json = "{\"skipped\": {\"name\": [1, {\"first\": \"No\"}]}, "
+				+ "\"name\": {\"first\": \"Joe\", \"last\": \"Sixpack\"}, \"age\": 30, \"verified\": false, "
+				+ "\"spouse\": null, \"tags\": [\"a\", [\"b\", \"c\"], {\"d\": 4}], \"a/b\": 1, \"m~n\": 2}";
+
+		Value value = new Value("," + json + ",", 1, json.length());
+
+		assertThat(value.json("/name/first").string(), equalTo("Joe"));
+		assertThat(value.json("/age").integer(), equalTo(30));
+		assertThat(value.json("/verified").truth(), equalTo(false));
+		assertThat(value.json("/spouse").string(), equalTo(null));
+		assertThat(value.json("/tags/1/1").string(), equalTo("c"));
+		assertThat(value.json("/tags/2/d").longint(), equalTo(4L));
+		assertThat(value.json("/a~1b").integer(), equalTo(1));
+		assertThat(value.json("/m~0n").integer(), equalTo(2));
+
+		Value name = value.json("/name");
+
+		assertThat(name.string(), equalTo("{\"first\": \"Joe\", \"last\": \"Sixpack\"}"));
+		assertThat(name.json("/last").string(), equalTo("Sixpack"));
+		assertThat(value.json("/tags").list(), equalTo(value.map().get("tags")));
+		assertThat(value.json("").string(), equalTo(json));
+
+		for (String missing : new String[] { "/missing", "/name/middle", "/tags/3", "/tags/-", "/tags/01", "/age/0",
+				"/name/first/0" }) {
+
+			assertThat(missing, value.json(missing), equalTo(null));
+
+		}
+
+		try {
+
+			value.json("name");
+
+			fail();
+
+		} catch (DingoException expected) {
+		}
+
+		try {
+
+			new Value("{\"name\": ").json("/name/first");
+
+			fail();
+
+		} catch (DingoException expected) {
+		}
+
+	}
+
+	/**
+	 * Tests the retention of the most recent conversion when a value is read as several different types in turn.
+	 */
+	@Test
+	public void testConversions() {
+
+		Value value = new Value("12");
+
+		assertThat(12, equalTo(value.integer()));
+		assertThat(12, equalTo(value.integer()));
+		assertThat(12d, equalTo(value.doubleint()));
+		assertThat(12f, equalTo(value.floating()));
+		assertThat((short) 12, equalTo(value.shortint()));
+		assertThat(12l, equalTo(value.longint()));
+		assertThat(new BigDecimal("12"), equalTo(value.precise()));
+		assertThat(12, equalTo(value.integer()));
+		assertThat('1', equalTo(value.character()));
+		assertFalse(value.truth());
+
+		value = new Value("[1, 2]");
+
+		List<Object> list = value.list();
+
+		assertTrue(list == value.list());
+		assertThat('[', equalTo(value.character()));
+		assertThat(list, equalTo(value.list()));
+
+		value = new Value("true");
+
+		assertTrue(value.truth());
+		assertThat('t', equalTo(value.character()));
+		assertTrue(value.truth());
+
+	}
+
+	/**
+	 * Tests the equals operation for values comprising strings and encoded bytes.
+	 */
+	@Test
+	public void testEquals() {
+
+		byte[] bytes = "[\u00e9t\u00e9][\u00e9t\u00e9][hiver]".getBytes(StandardCharsets.UTF_8);
+
+		Value first = new Value(ByteBuffer.wrap(bytes), 1, 5);
+		Value second = new Value(ByteBuffer.wrap(bytes), 8, 5);
+		Value third = new Value(ByteBuffer.wrap(bytes), 15, 5);
+
+		assertTrue(first.equals(second));
+		assertFalse(first.equals(third));
+		assertTrue(first.equals(new Value("\u00e9t\u00e9")));
+		assertTrue(new Value("\u00e9t\u00e9").equals(first));
+
+		assertThat(first.hashCode(), equalTo(new Value("\u00e9t\u00e9").hashCode()));
+
+		assertTrue(new Value(null).equals(new Value(null)));
+		assertFalse(new Value(null).equals(new Value("")));
+		assertFalse(new Value("").equals(new Value(null)));
+
+	}
+
 	static class User {
 
 		private Gender gender;
@@ -452,4 +683,26 @@ public class ValueTest extends TestCase {
 
 	}
 
+	/**
+	 * Converts a value using the specified conversion, yielding the converted value, or the class of the exception
+	 * raised by the conversion.
+	 * 
+	 * @param conversion
+	 *            the conversion.
+	 * @return the converted value, or the class of the exception.
+	 */
+	private Object convert(Callable<Object> conversion) {
+
+		try {
+
+			return conversion.call();
+
+		} catch (Exception error) {
+
+			return error.getClass();
+
+		}
+
+	}
+
 }
\ No newline at end of file